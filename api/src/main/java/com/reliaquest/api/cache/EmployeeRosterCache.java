@@ -0,0 +1,389 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Local cache of the full employee roster with stale-while-revalidate semantics.
+ * <p>
+ * A cold cache loads the roster on the calling thread. Once loaded, the roster is served as-is until its TTL
+ * expires; after that it is still served, but a single background refresh is started to replace it. Successful
+ * local writes are applied to the cached roster in place, and are replayed on top of any load that was in flight
+ * when they happened so a refresh cannot resurrect a deleted employee or drop a newly created one.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+
+    private final MockEmployeeProperties.Cache settings;
+
+    private final Executor refreshExecutor;
+
+    private final Clock clock;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final ReentrantLock stateLock = new ReentrantLock();
+
+    private final List<Mutation> journal = new ArrayList<>();
+
+    private volatile RosterSnapshot snapshot;
+
+    private long mutationVersion;
+
+    private int loadsInFlight;
+
+    private final Counter hits;
+
+    private final Counter staleHits;
+
+    private final Counter misses;
+
+    private final Counter refreshes;
+
+    private final Counter refreshFailures;
+
+    /**
+     * Constructor for EmployeeRosterCache, refreshing on a dedicated daemon thread.
+     *
+     * @param mockEmployeeProperties the properties holding the cache settings.
+     * @param meterRegistry          the registry to publish cache metrics to.
+     */
+    @Autowired
+    public EmployeeRosterCache(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry) {
+        this(mockEmployeeProperties, meterRegistry, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-roster-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for EmployeeRosterCache.
+     *
+     * @param mockEmployeeProperties the properties holding the cache settings.
+     * @param meterRegistry          the registry to publish cache metrics to.
+     * @param refreshExecutor        the executor background refreshes run on.
+     * @param clock                  the clock used to age snapshots.
+     */
+    public EmployeeRosterCache(
+            MockEmployeeProperties mockEmployeeProperties,
+            MeterRegistry meterRegistry,
+            Executor refreshExecutor,
+            Clock clock
+    ) {
+        this.settings = mockEmployeeProperties.getCache();
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.staleHits = lookupCounter(meterRegistry, "stale_hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.refreshes = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+        Gauge.builder("employee.roster.cache.size", this,
+                        cache -> cache.peekSnapshot().map(RosterSnapshot::size).orElse(0))
+                .description("Number of employees in the cached roster")
+                .register(meterRegistry);
+        Gauge.builder("employee.roster.cache.age", this, EmployeeRosterCache::ageSeconds)
+                .description("Seconds since the cached roster was loaded from the upstream")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return whether roster reads are served from this cache at all.
+     */
+    public boolean isEnabled() {
+        return settings.isEnabled();
+    }
+
+    /**
+     * Returns the cached roster, loading it with the given loader on a cold cache and scheduling a background
+     * refresh when the cached copy is older than the configured TTL.
+     *
+     * @param loader fetches the full roster from the upstream.
+     * @return the roster, possibly stale.
+     */
+    public List<EmployeeServerDto> get(Supplier<List<EmployeeServerDto>> loader) {
+        if (!settings.isEnabled()) {
+            return loader.get();
+        }
+        return getSnapshot(loader).employees();
+    }
+
+    /**
+     * Returns the cached roster snapshot with its indexes, loading and refreshing it like {@link #get(Supplier)}.
+     * With the cache disabled the roster is loaded and indexed for this call only.
+     *
+     * @param loader fetches the full roster from the upstream.
+     * @return the roster snapshot, possibly stale.
+     */
+    public RosterSnapshot getSnapshot(Supplier<List<EmployeeServerDto>> loader) {
+        if (!settings.isEnabled()) {
+            return new RosterSnapshot(loader.get(), clock.instant());
+        }
+
+        Optional<RosterSnapshot> current = getLoadedSnapshot(loader);
+        if (current.isPresent()) {
+            return current.get();
+        }
+        misses.increment();
+        return load(loader);
+    }
+
+    /**
+     * Returns the cached roster snapshot if one is loaded, counting the hit and scheduling a background refresh like
+     * {@link #getSnapshot(Supplier)}, but never loading on the calling thread. Callers that must not block use it to
+     * decide whether a load has to be moved off their thread.
+     *
+     * @param loader fetches the full roster from the upstream, for a background refresh.
+     * @return the roster snapshot, possibly stale, or empty if the cache is cold or disabled.
+     */
+    public Optional<RosterSnapshot> getLoadedSnapshot(Supplier<List<EmployeeServerDto>> loader) {
+        RosterSnapshot current = snapshot;
+        if (!settings.isEnabled() || current == null) {
+            return Optional.empty();
+        }
+
+        if (isStale(current)) {
+            staleHits.increment();
+            scheduleRefresh(loader);
+        } else {
+            hits.increment();
+        }
+        return Optional.of(current);
+    }
+
+    /**
+     * Returns the last loaded roster, however old, without touching the upstream.
+     *
+     * @return the cached roster, or empty if nothing has been loaded yet.
+     */
+    public Optional<List<EmployeeServerDto>> peek() {
+        return peekSnapshot().map(RosterSnapshot::employees);
+    }
+
+    /**
+     * Returns the last loaded roster snapshot, however old, without touching the upstream.
+     *
+     * @return the cached roster snapshot, or empty if nothing has been loaded yet.
+     */
+    public Optional<RosterSnapshot> peekSnapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Adds or replaces an employee in the cached roster after a successful upstream create.
+     *
+     * @param employee the employee returned by the upstream.
+     */
+    public void put(EmployeeServerDto employee) {
+        mutate(current -> current.withUpserted(employee));
+    }
+
+    /**
+     * Removes an employee from the cached roster after a successful upstream delete.
+     *
+     * @param id the ID of the deleted employee.
+     */
+    public void remove(UUID id) {
+        mutate(current -> current.withRemoved(id));
+    }
+
+    /**
+     * Adds or replaces employees in the cached roster after a successful upstream bulk create, building one new
+     * snapshot for the whole batch.
+     *
+     * @param employees the employees returned by the upstream.
+     */
+    public void putAll(Collection<EmployeeServerDto> employees) {
+        if (!employees.isEmpty()) {
+            mutate(current -> current.withUpsertedAll(employees));
+        }
+    }
+
+    /**
+     * Removes employees from the cached roster after a successful upstream bulk delete, building one new snapshot for
+     * the whole batch.
+     *
+     * @param ids the IDs of the deleted employees.
+     */
+    public void removeAll(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            mutate(current -> current.withRemovedAll(ids));
+        }
+    }
+
+    /**
+     * Drops the cached roster so the next read goes to the upstream.
+     */
+    public void invalidate() {
+        stateLock.lock();
+        try {
+            snapshot = null;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return (long) hits.count();
+    }
+
+    public long getStaleHitCount() {
+        return (long) staleHits.count();
+    }
+
+    public long getMissCount() {
+        return (long) misses.count();
+    }
+
+    public long getRefreshCount() {
+        return (long) refreshes.count();
+    }
+
+    public long getRefreshFailureCount() {
+        return (long) refreshFailures.count();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private boolean isStale(RosterSnapshot current) {
+        return Duration.between(current.loadedAt(), clock.instant()).compareTo(settings.getTtl()) >= 0;
+    }
+
+    private void scheduleRefresh(Supplier<List<EmployeeServerDto>> loader) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(loader);
+                    refreshes.increment();
+                    log.debug("Refreshed employee roster in the background");
+                } catch (Exception ex) {
+                    refreshFailures.increment();
+                    log.warn("Background refresh of the employee roster failed: {}", ex.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.set(false);
+            log.warn("Could not schedule a background refresh of the employee roster: {}", ex.getMessage());
+        }
+    }
+
+    private RosterSnapshot load(Supplier<List<EmployeeServerDto>> loader) {
+        long startVersion = beginLoad();
+        RosterSnapshot loaded = null;
+        try {
+            loaded = new RosterSnapshot(loader.get(), clock.instant());
+        } finally {
+            loaded = endLoad(loaded, startVersion);
+        }
+        return loaded;
+    }
+
+    private long beginLoad() {
+        stateLock.lock();
+        try {
+            loadsInFlight++;
+            return mutationVersion;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private RosterSnapshot endLoad(RosterSnapshot loaded, long startVersion) {
+        stateLock.lock();
+        try {
+            if (loaded != null) {
+                for (Mutation mutation : journal) {
+                    if (mutation.version() > startVersion) {
+                        loaded = mutation.operation().apply(loaded);
+                    }
+                }
+                snapshot = loaded;
+            }
+            if (--loadsInFlight == 0) {
+                journal.clear();
+            }
+            return loaded;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void mutate(UnaryOperator<RosterSnapshot> operation) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        stateLock.lock();
+        try {
+            RosterSnapshot current = snapshot;
+            if (current != null) {
+                snapshot = operation.apply(current);
+            }
+            if (loadsInFlight > 0) {
+                journal.add(new Mutation(++mutationVersion, operation));
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private double ageSeconds() {
+        RosterSnapshot current = snapshot;
+        return current == null ? Double.NaN : Duration.between(current.loadedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.roster.cache.requests")
+                .description("Roster reads served by the local cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.roster.cache.refreshes")
+                .description("Background refreshes of the cached roster")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Mutation(long version, UnaryOperator<RosterSnapshot> operation) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.cache;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hash index from employee ID to the row ID that last held it, used to look employees up by ID without scanning the
+ * roster.
+ * <p>
+ * Like the {@link NameIndex}, the index only ever grows and is shared by all snapshots derived from one roster load.
+ * An upsert of a known ID keeps its row, so only an ID that gets a new row is added; a delete leaves the entry in
+ * place. An entry is therefore a hint that every snapshot verifies against its own rows: a removed row means the ID
+ * is gone, and a row the snapshot does not have, or that holds another ID, sends the snapshot back to a scan. That
+ * only happens for snapshots older than the entry. The nil UUID stands for a missing ID and is never indexed.
+ */
+final class IdIndex {
+
+    /**
+     * Returned by {@link #rowOf(long, long)} for an ID that no row ever held.
+     */
+    static final int NO_ROW = -1;
+
+    private final ConcurrentHashMap<UUID, Integer> rows;
+
+    private IdIndex(ConcurrentHashMap<UUID, Integer> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Builds the index over the given ID columns, indexed by row ID. Upstream IDs are unique; should one repeat, the
+     * first row holding it is indexed, as a scan would find it first.
+     *
+     * @param idHighs the most significant bits of every row's ID.
+     * @param idLows  the least significant bits of every row's ID.
+     * @return the index.
+     */
+    static IdIndex build(long[] idHighs, long[] idLows) {
+        ConcurrentHashMap<UUID, Integer> rows = new ConcurrentHashMap<>(idHighs.length * 4 / 3 + 1);
+        for (int row = 0; row < idHighs.length; row++) {
+            if (idHighs[row] != 0 || idLows[row] != 0) {
+                rows.putIfAbsent(new UUID(idHighs[row], idLows[row]), row);
+            }
+        }
+        return new IdIndex(rows);
+    }
+
+    /**
+     * Indexes the ID of a row that was added. Callers serialize additions.
+     *
+     * @param row  the row ID.
+     * @param high the most significant bits of the ID.
+     * @param low  the least significant bits of the ID.
+     */
+    void add(int row, long high, long low) {
+        if (high != 0 || low != 0) {
+            rows.put(new UUID(high, low), row);
+        }
+    }
+
+    /**
+     * @return the row that last held the given ID, or {@link #NO_ROW} if no row ever held it.
+     */
+    int rowOf(long high, long low) {
+        Integer row = rows.get(new UUID(high, low));
+        return row == null ? NO_ROW : row;
+    }
+}
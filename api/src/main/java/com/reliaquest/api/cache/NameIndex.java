@@ -0,0 +1,177 @@
+package com.reliaquest.api.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram inverted index over lower-cased employee names, used to answer substring searches without scanning the
+ * whole roster.
+ * <p>
+ * Every name is split into its overlapping three-character sequences and each trigram maps to the sorted row IDs of
+ * the names containing it. A needle of at least three characters can only occur in a name that contains all of the
+ * needle's trigrams, so intersecting their posting lists yields a small candidate set that the caller verifies with
+ * {@link String#contains}. Shorter needles have no trigrams and are answered by a scan.
+ * <p>
+ * The index only ever grows. It is shared by all snapshots derived from one roster load: an upsert adds the new
+ * name's trigrams, a delete leaves the postings in place. Stale postings are harmless because every candidate is
+ * verified against the snapshot's own rows, and a snapshot skips row IDs it does not have. Posting lists are
+ * replaced, never modified in place, so concurrent readers see either the old or the new list.
+ */
+final class NameIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final ConcurrentHashMap<Long, int[]> postings;
+
+    private NameIndex(ConcurrentHashMap<Long, int[]> postings) {
+        this.postings = postings;
+    }
+
+    /**
+     * Builds the index over the given lower-cased names, indexed by row ID.
+     *
+     * @param lowerNames the lower-cased name of every row; null names are not indexed.
+     * @return the index.
+     */
+    static NameIndex build(String[] lowerNames) {
+        Map<Long, PostingsBuilder> builders = new HashMap<>();
+        for (int row = 0; row < lowerNames.length; row++) {
+            String name = lowerNames[row];
+            if (name == null) {
+                continue;
+            }
+            for (int i = 0; i + 3 <= name.length(); i++) {
+                builders.computeIfAbsent(trigram(name, i), ignored -> new PostingsBuilder()).add(row);
+            }
+        }
+
+        ConcurrentHashMap<Long, int[]> postings = new ConcurrentHashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((trigram, builder) -> postings.put(trigram, builder.toArray()));
+        return new NameIndex(postings);
+    }
+
+    /**
+     * Indexes the name of a row that was added or whose name changed. Callers serialize additions.
+     *
+     * @param row       the row ID.
+     * @param lowerName the lower-cased name; null names are not indexed.
+     */
+    void add(int row, String lowerName) {
+        if (lowerName == null) {
+            return;
+        }
+        for (int i = 0; i + 3 <= lowerName.length(); i++) {
+            postings.compute(trigram(lowerName, i), (trigram, rows) -> insert(rows == null ? NO_ROWS : rows, row));
+        }
+    }
+
+    /**
+     * Returns the rows whose names may contain the given needle.
+     *
+     * @param lowerNeedle the lower-cased search string.
+     * @return the sorted candidate row IDs, or null if the needle is too short to use the index and every row is a
+     *     candidate.
+     */
+    int[] candidates(String lowerNeedle) {
+        if (lowerNeedle.length() < 3) {
+            return null;
+        }
+
+        int trigramCount = lowerNeedle.length() - 2;
+        int[][] lists = new int[trigramCount][];
+        for (int i = 0; i < trigramCount; i++) {
+            int[] rows = postings.get(trigram(lowerNeedle, i));
+            if (rows == null) {
+                return NO_ROWS;
+            }
+            lists[i] = rows;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            if (lists[i] != lists[i - 1]) {
+                result = intersect(result, lists[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of distinct trigrams in the index.
+     */
+    int trigramCount() {
+        return postings.size();
+    }
+
+    private static long trigram(String name, int offset) {
+        return ((long) name.charAt(offset) << 32) | ((long) name.charAt(offset + 1) << 16) | name.charAt(offset + 2);
+    }
+
+    private static int[] insert(int[] rows, int row) {
+        int position = Arrays.binarySearch(rows, row);
+        if (position >= 0) {
+            return rows;
+        }
+        position = -position - 1;
+        int[] updated = new int[rows.length + 1];
+        System.arraycopy(rows, 0, updated, 0, position);
+        updated[position] = row;
+        System.arraycopy(rows, position, updated, position + 1, rows.length - position);
+        return updated;
+    }
+
+    /**
+     * Intersects two sorted row lists, the first one being the shorter. Each row of the short list is looked up in
+     * the long one with an exponential search from the last match, so a very selective list stays cheap to
+     * intersect with a very common one.
+     */
+    private static int[] intersect(int[] shorter, int[] longer) {
+        int[] result = new int[shorter.length];
+        int count = 0;
+        int from = 0;
+        for (int row : shorter) {
+            int bound = 1;
+            while (from + bound < longer.length && longer[from + bound] < row) {
+                bound <<= 1;
+            }
+            int position = Arrays.binarySearch(longer, from, Math.min(from + bound + 1, longer.length), row);
+            if (position >= 0) {
+                result[count++] = row;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+            if (from >= longer.length) {
+                break;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static final class PostingsBuilder {
+
+        private int[] rows = new int[4];
+
+        private int size;
+
+        /**
+         * Rows are added in ascending order, so a row repeating a trigram is the last entry.
+         */
+        private void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
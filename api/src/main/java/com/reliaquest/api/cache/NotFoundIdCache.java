@@ -0,0 +1,162 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of employee IDs the upstream recently answered with 404, so that repeated lookups of the same unknown
+ * IDs are answered locally instead of costing an upstream call each.
+ * <p>
+ * An ID is remembered for {@code mock.employee.negative-cache.ttl}; once {@code max-size} IDs are held, the oldest
+ * is dropped to make room. An ID is forgotten as soon as an employee with that ID is created.
+ * <p>
+ * The entries are guarded by a {@link ReentrantLock} rather than a {@code synchronized} block, so a virtual thread
+ * waiting for the lock unmounts from its carrier instead of pinning it.
+ */
+@Component
+public class NotFoundIdCache {
+
+    private final MockEmployeeProperties.NegativeCache settings;
+
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Expiry of each remembered ID, oldest first. Guarded by {@link #lock}. */
+    private final LinkedHashMap<UUID, Instant> expiries;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    /**
+     * Constructor for NotFoundIdCache, aging entries on the system clock.
+     *
+     * @param mockEmployeeProperties the properties holding the negative cache settings.
+     * @param meterRegistry          the registry to publish cache metrics to.
+     */
+    @Autowired
+    public NotFoundIdCache(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry) {
+        this(mockEmployeeProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for NotFoundIdCache.
+     *
+     * @param mockEmployeeProperties the properties holding the negative cache settings.
+     * @param meterRegistry          the registry to publish cache metrics to.
+     * @param clock                  the clock used to age entries.
+     */
+    public NotFoundIdCache(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.settings = mockEmployeeProperties.getNegativeCache();
+        this.clock = clock;
+        this.expiries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Instant> eldest) {
+                return size() > settings.getMaxSize();
+            }
+        };
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("employee.notfound.cache.size", this, NotFoundIdCache::size)
+                .description("Number of unknown employee IDs remembered")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the upstream recently reported no employee with this ID.
+     *
+     * @param id the employee ID about to be looked up.
+     * @return true if the ID is known to be missing and the lookup can be skipped.
+     */
+    public boolean isKnownMissing(UUID id) {
+        if (!settings.isEnabled()) {
+            return false;
+        }
+        lock.lock();
+        try {
+            Instant expiry = expiries.get(id);
+            if (expiry != null && clock.instant().isBefore(expiry)) {
+                hits.increment();
+                return true;
+            }
+            if (expiry != null) {
+                expiries.remove(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Remembers that the upstream has no employee with this ID.
+     *
+     * @param id the ID the upstream answered with 404.
+     */
+    public void recordMissing(UUID id) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        Instant expiry = clock.instant().plus(settings.getTtl());
+        lock.lock();
+        try {
+            // Re-inserting moves the ID to the back, so the eviction order stays the expiry order.
+            expiries.remove(id);
+            expiries.put(id, expiry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets an ID after an employee with it was created.
+     *
+     * @param id the ID of the created employee.
+     */
+    public void forget(UUID id) {
+        lock.lock();
+        try {
+            expiries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return expiries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return (long) hits.count();
+    }
+
+    public long getMissCount() {
+        return (long) misses.count();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.notfound.cache.requests")
+                .description("Employee lookups checked against the cache of unknown IDs")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,605 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.response.EmployeeRecord;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Immutable view of the employee roster as last loaded from the mock employee server.
+ * Local writes produce a new snapshot that keeps the original load time, so they never extend its freshness.
+ * <p>
+ * Employees are kept in rows addressed by a row ID that stays stable across local writes: a create appends a row,
+ * a delete marks its row as removed, and an update replaces the row in place. Row order is upstream order. The stable
+ * row IDs let the {@link NameIndex} and {@link IdIndex} built at load time be updated incrementally instead of being
+ * rebuilt on every write. The {@link SalaryIndex} is updated the same way, so salary order statistics never need a pass
+ * over the roster.
+ * <p>
+ * Rows are stored column by column rather than as one object per employee: IDs as two {@code long} columns, salary
+ * and age as {@code int} columns, and titles as indexes into a table holding every distinct title once. Queries run
+ * on the columns, and an {@link EmployeeServerDto} is only created for a row that is actually returned.
+ */
+public final class RosterSnapshot {
+
+    /**
+     * Stored in an {@code int} column for a missing salary or age.
+     */
+    private static final int NO_VALUE = SalaryIndex.NO_SALARY;
+
+    /**
+     * Stored in the title column for a missing title.
+     */
+    private static final int NO_TITLE = -1;
+
+    private final Columns columns;
+
+    private final BitSet removed;
+
+    private final int size;
+
+    private final NameIndex nameIndex;
+
+    private final IdIndex idIndex;
+
+    private final SalaryIndex salaryIndex;
+
+    private final Instant loadedAt;
+
+    private volatile int[] liveRows;
+
+    /**
+     * Creates a snapshot of a freshly loaded roster and indexes it.
+     *
+     * @param employees the employees in upstream order.
+     * @param loadedAt  when the roster was fetched from the upstream.
+     */
+    public RosterSnapshot(List<EmployeeServerDto> employees, Instant loadedAt) {
+        this.columns = Columns.of(employees);
+        this.removed = new BitSet();
+        this.size = columns.length();
+        this.nameIndex = NameIndex.build(columns.lowerNames);
+        this.idIndex = IdIndex.build(columns.idHighs, columns.idLows);
+        this.salaryIndex = SalaryIndex.build(columns.salaries);
+        this.loadedAt = loadedAt;
+    }
+
+    private RosterSnapshot(
+            Columns columns,
+            BitSet removed,
+            int size,
+            NameIndex nameIndex,
+            IdIndex idIndex,
+            SalaryIndex salaryIndex,
+            Instant loadedAt
+    ) {
+        this.columns = columns;
+        this.removed = removed;
+        this.size = size;
+        this.nameIndex = nameIndex;
+        this.idIndex = idIndex;
+        this.salaryIndex = salaryIndex;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Returns the employees in upstream order. The list is a view that creates each employee from the columns when
+     * it is read, so reading part of the list only pays for that part.
+     *
+     * @return the employees in upstream order, as an unmodifiable list.
+     */
+    public List<EmployeeServerDto> employees() {
+        return new RowList(liveRows());
+    }
+
+    /**
+     * Passes every employee to the given consumer as a view over its row, in upstream order, without creating any
+     * object per employee. The same view is moved from row to row, so the consumer must not keep it.
+     *
+     * @param consumer receives a view of every employee.
+     */
+    public void forEachRecord(Consumer<? super EmployeeRecord> consumer) {
+        RowRecord record = new RowRecord();
+        for (int row = 0; row < columns.length(); row++) {
+            if (!removed.get(row)) {
+                record.row = row;
+                consumer.accept(record);
+            }
+        }
+    }
+
+    /**
+     * @return when the roster was fetched from the upstream.
+     */
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return the number of employees.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Looks an employee up by ID with the hash index.
+     *
+     * @param id the ID of the employee.
+     * @return the employee, or empty if no employee has that ID.
+     */
+    public Optional<EmployeeServerDto> findById(UUID id) {
+        int row = rowOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(employee(row));
+    }
+
+    /**
+     * Finds the employees whose name contains the search string, ignoring case, with the trigram index.
+     *
+     * @param searchString the string to search for in employee names.
+     * @param limit        the maximum number of matches to return.
+     * @return at most {@code limit} matching employees, in upstream order.
+     */
+    public List<EmployeeServerDto> searchByName(String searchString, int limit) {
+        String needle = searchString.toLowerCase();
+        List<EmployeeServerDto> matches = new ArrayList<>();
+        int[] candidates = nameIndex.candidates(needle);
+        if (candidates == null) {
+            for (int row = 0; row < columns.length() && matches.size() < limit; row++) {
+                addIfMatches(row, needle, matches);
+            }
+        } else {
+            for (int i = 0; i < candidates.length && matches.size() < limit; i++) {
+                addIfMatches(candidates[i], needle, matches);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return the highest salary, or empty if no employee has a salary.
+     */
+    public OptionalInt highestSalary() {
+        int count = salaryIndex.size();
+        return count == 0 ? OptionalInt.empty() : OptionalInt.of(salaryIndex.salaryAt(count - 1));
+    }
+
+    /**
+     * Returns the highest earners. Employees without a salary are never included, and equal salaries keep upstream
+     * order.
+     *
+     * @param limit the maximum number of employees to return.
+     * @return at most {@code limit} employees, highest salary first.
+     */
+    public List<EmployeeServerDto> topEarners(int limit) {
+        int count = salaryIndex.size();
+        int last = Math.max(count - limit, 0);
+        List<EmployeeServerDto> earners = new ArrayList<>(count - last);
+        for (int rank = count - 1; rank >= last; rank--) {
+            earners.add(employee(salaryIndex.rowAt(rank)));
+        }
+        return earners;
+    }
+
+    /**
+     * Returns a salary percentile using the nearest-rank method: the lowest salary that at least {@code percentile}
+     * percent of the salaried employees earn at most.
+     *
+     * @param percentile the percentile, from 0 to 100; 0 yields the lowest salary.
+     * @return the salary, or empty if no employee has a salary.
+     * @throws IllegalArgumentException if the percentile is outside 0 to 100.
+     */
+    public OptionalInt salaryPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        int count = salaryIndex.size();
+        if (count == 0) {
+            return OptionalInt.empty();
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return OptionalInt.of(salaryIndex.salaryAt(Math.max(rank - 1, 0)));
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given employee added, or replaced if its ID is already present.
+     *
+     * @param employee the employee to add or replace.
+     * @return the updated snapshot.
+     */
+    public RosterSnapshot withUpserted(EmployeeServerDto employee) {
+        int row = rowOf(employee.getId());
+        Columns updated;
+        int updatedSize = size;
+        SalaryIndex updatedSalaries = salaryIndex;
+        if (row >= 0) {
+            updated = columns.copyOf(columns.length());
+            updatedSalaries = updatedSalaries.without(row, columns.salaries[row]);
+        } else {
+            row = columns.length();
+            updated = columns.copyOf(row + 1);
+            updatedSize++;
+        }
+        updated.set(row, employee);
+        nameIndex.add(row, updated.lowerNames[row]);
+        if (updatedSize > size) {
+            idIndex.add(row, updated.idHighs[row], updated.idLows[row]);
+        }
+        updatedSalaries = updatedSalaries.with(row, updated.salaries[row]);
+        return new RosterSnapshot(updated, removed, updatedSize, nameIndex, idIndex, updatedSalaries, loadedAt);
+    }
+
+    /**
+     * Returns a copy of this snapshot without the employee with the given ID. The columns are shared with this
+     * snapshot; only the row is marked as removed.
+     *
+     * @param id the ID of the employee to drop.
+     * @return the updated snapshot, or this snapshot if no employee has that ID.
+     */
+    public RosterSnapshot withRemoved(UUID id) {
+        int row = rowOf(id);
+        if (row < 0) {
+            return this;
+        }
+        BitSet updatedRemoved = (BitSet) removed.clone();
+        updatedRemoved.set(row);
+        SalaryIndex updatedSalaries = salaryIndex.without(row, columns.salaries[row]);
+        return new RosterSnapshot(columns, updatedRemoved, size - 1, nameIndex, idIndex, updatedSalaries, loadedAt);
+    }
+
+    /**
+     * Returns a copy of this snapshot with all the given employees added, or replaced where their ID is already
+     * present, copying the columns and the salary index once for the whole batch. When an ID occurs more than once
+     * the last employee with it wins, as with repeated {@link #withUpserted(EmployeeServerDto)} calls.
+     *
+     * @param employees the employees to add or replace.
+     * @return the updated snapshot, or this snapshot if there are none.
+     */
+    public RosterSnapshot withUpsertedAll(Collection<EmployeeServerDto> employees) {
+        if (employees.isEmpty()) {
+            return this;
+        }
+        int[] rows = new int[employees.size()];
+        Map<UUID, Integer> appendedRows = new HashMap<>();
+        int length = columns.length();
+        int i = 0;
+        for (EmployeeServerDto employee : employees) {
+            int row = rowOf(employee.getId());
+            if (row < 0) {
+                Integer appended = employee.getId() == null ? null : appendedRows.get(employee.getId());
+                if (appended == null) {
+                    appended = length++;
+                    if (employee.getId() != null) {
+                        appendedRows.put(employee.getId(), appended);
+                    }
+                }
+                row = appended;
+            }
+            rows[i++] = row;
+        }
+
+        Columns updated = columns.copyOf(length);
+        BitSet written = new BitSet(length);
+        i = 0;
+        for (EmployeeServerDto employee : employees) {
+            updated.set(rows[i], employee);
+            written.set(rows[i++]);
+        }
+        SalaryIndex.Changes salaryChanges = salaryIndex.changes();
+        for (int row = written.nextSetBit(0); row >= 0; row = written.nextSetBit(row + 1)) {
+            nameIndex.add(row, updated.lowerNames[row]);
+            if (row < columns.length()) {
+                salaryChanges.drop(row, columns.salaries[row]);
+            } else {
+                idIndex.add(row, updated.idHighs[row], updated.idLows[row]);
+            }
+            salaryChanges.add(row, updated.salaries[row]);
+        }
+        int updatedSize = size + length - columns.length();
+        return new RosterSnapshot(
+                updated, removed, updatedSize, nameIndex, idIndex, salaryChanges.apply(), loadedAt);
+    }
+
+    /**
+     * Returns a copy of this snapshot without the employees with the given IDs, marking all their rows as removed in
+     * one copy of the removed set and the salary index.
+     *
+     * @param ids the IDs of the employees to drop.
+     * @return the updated snapshot, or this snapshot if no employee has any of the IDs.
+     */
+    public RosterSnapshot withRemovedAll(Collection<UUID> ids) {
+        BitSet updatedRemoved = null;
+        SalaryIndex.Changes salaryChanges = salaryIndex.changes();
+        int removedCount = 0;
+        for (UUID id : ids) {
+            int row = rowOf(id);
+            if (row < 0 || updatedRemoved != null && updatedRemoved.get(row)) {
+                continue;
+            }
+            if (updatedRemoved == null) {
+                updatedRemoved = (BitSet) removed.clone();
+            }
+            updatedRemoved.set(row);
+            salaryChanges.drop(row, columns.salaries[row]);
+            removedCount++;
+        }
+        if (removedCount == 0) {
+            return this;
+        }
+        return new RosterSnapshot(columns, updatedRemoved, size - removedCount, nameIndex, idIndex,
+                salaryChanges.apply(), loadedAt);
+    }
+
+    private void addIfMatches(int row, String needle, List<EmployeeServerDto> matches) {
+        String lowerName = row < columns.length() ? columns.lowerNames[row] : null;
+        if (lowerName != null && !removed.get(row) && lowerName.contains(needle)) {
+            matches.add(employee(row));
+        }
+    }
+
+    /**
+     * Finds the live row holding an ID. The {@link IdIndex} answers directly unless its entry is for a row this
+     * snapshot does not have, or the ID is missing and so never indexed; only then are the rows scanned.
+     */
+    private int rowOf(UUID id) {
+        long high = id == null ? 0 : id.getMostSignificantBits();
+        long low = id == null ? 0 : id.getLeastSignificantBits();
+        if (high != 0 || low != 0) {
+            int row = idIndex.rowOf(high, low);
+            if (row == IdIndex.NO_ROW) {
+                return -1;
+            }
+            if (row < columns.length() && columns.idLows[row] == low && columns.idHighs[row] == high) {
+                return removed.get(row) ? -1 : row;
+            }
+        }
+        return scanForRow(high, low);
+    }
+
+    private int scanForRow(long high, long low) {
+        for (int row = 0; row < columns.length(); row++) {
+            if (columns.idLows[row] == low && columns.idHighs[row] == high && !removed.get(row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the IDs of the rows that have not been removed in row order, or null if no row has been removed.
+     */
+    private int[] liveRows() {
+        if (removed.isEmpty()) {
+            return null;
+        }
+        int[] current = liveRows;
+        if (current == null) {
+            current = new int[size];
+            int count = 0;
+            for (int row = 0; row < columns.length(); row++) {
+                if (!removed.get(row)) {
+                    current[count++] = row;
+                }
+            }
+            liveRows = current;
+        }
+        return current;
+    }
+
+    private EmployeeServerDto employee(int row) {
+        EmployeeServerDto employee = new EmployeeServerDto();
+        long high = columns.idHighs[row];
+        long low = columns.idLows[row];
+        employee.setId(high == 0 && low == 0 ? null : new UUID(high, low));
+        employee.setEmployeeName(columns.names[row]);
+        employee.setEmployeeEmail(columns.emails[row]);
+        employee.setEmployeeSalary(boxed(columns.salaries[row]));
+        employee.setEmployeeAge(boxed(columns.ages[row]));
+        employee.setEmployeeTitle(columns.titleIds[row] == NO_TITLE ? null : columns.titles.titleAt(columns.titleIds[row]));
+        return employee;
+    }
+
+    private static Integer boxed(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    private static int unboxed(Integer value) {
+        return value == null ? NO_VALUE : value;
+    }
+
+    /**
+     * Unmodifiable list over the live rows that creates each employee when it is read.
+     */
+    private final class RowList extends AbstractList<EmployeeServerDto> implements RandomAccess {
+
+        private final int[] rows;
+
+        private RowList(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public EmployeeServerDto get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return employee(rows == null ? index : rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Reusable view of one row of the columns.
+     */
+    private final class RowRecord implements EmployeeRecord {
+
+        private int row;
+
+        @Override
+        public boolean hasId() {
+            return columns.idHighs[row] != 0 || columns.idLows[row] != 0;
+        }
+
+        @Override
+        public long idMostSignificantBits() {
+            return columns.idHighs[row];
+        }
+
+        @Override
+        public long idLeastSignificantBits() {
+            return columns.idLows[row];
+        }
+
+        @Override
+        public String getEmployeeName() {
+            return columns.names[row];
+        }
+
+        @Override
+        public String getEmployeeEmail() {
+            return columns.emails[row];
+        }
+
+        @Override
+        public String getEmployeeTitle() {
+            return columns.titleIds[row] == NO_TITLE ? null : columns.titles.titleAt(columns.titleIds[row]);
+        }
+
+        @Override
+        public boolean hasEmployeeSalary() {
+            return columns.salaries[row] != NO_VALUE;
+        }
+
+        @Override
+        public int employeeSalary() {
+            return columns.salaries[row];
+        }
+
+        @Override
+        public boolean hasEmployeeAge() {
+            return columns.ages[row] != NO_VALUE;
+        }
+
+        @Override
+        public int employeeAge() {
+            return columns.ages[row];
+        }
+    }
+
+    /**
+     * The column arrays of a snapshot, indexed by row ID. A missing ID is stored as the nil UUID, so an employee
+     * with the nil UUID reads back without an ID. The {@link TitleTable} is shared by all copies.
+     */
+    private static final class Columns {
+
+        private final long[] idHighs;
+
+        private final long[] idLows;
+
+        private final String[] names;
+
+        private final String[] lowerNames;
+
+        private final String[] emails;
+
+        private final int[] salaries;
+
+        private final int[] ages;
+
+        private final int[] titleIds;
+
+        private final TitleTable titles;
+
+        private Columns(
+                long[] idHighs,
+                long[] idLows,
+                String[] names,
+                String[] lowerNames,
+                String[] emails,
+                int[] salaries,
+                int[] ages,
+                int[] titleIds,
+                TitleTable titles
+        ) {
+            this.idHighs = idHighs;
+            this.idLows = idLows;
+            this.names = names;
+            this.lowerNames = lowerNames;
+            this.emails = emails;
+            this.salaries = salaries;
+            this.ages = ages;
+            this.titleIds = titleIds;
+            this.titles = titles;
+        }
+
+        private static Columns of(List<EmployeeServerDto> employees) {
+            int length = employees.size();
+            Columns columns = new Columns(new long[length], new long[length], new String[length], new String[length],
+                    new String[length], new int[length], new int[length], new int[length], TitleTable.create());
+            int row = 0;
+            for (EmployeeServerDto employee : employees) {
+                columns.set(row++, employee);
+            }
+            return columns;
+        }
+
+        private int length() {
+            return idHighs.length;
+        }
+
+        private Columns copyOf(int length) {
+            return new Columns(
+                    Arrays.copyOf(idHighs, length),
+                    Arrays.copyOf(idLows, length),
+                    Arrays.copyOf(names, length),
+                    Arrays.copyOf(lowerNames, length),
+                    Arrays.copyOf(emails, length),
+                    Arrays.copyOf(salaries, length),
+                    Arrays.copyOf(ages, length),
+                    Arrays.copyOf(titleIds, length),
+                    titles
+            );
+        }
+
+        /**
+         * Writes an employee into a row of a freshly built or copied set of columns, adding its title to the table if new.
+         */
+        private void set(int row, EmployeeServerDto employee) {
+            setValues(row, employee);
+            String title = employee.getEmployeeTitle();
+            if (title == null) {
+                titleIds[row] = NO_TITLE;
+                return;
+            }
+            titleIds[row] = titles.idOf(title);
+        }
+
+        private void setValues(int row, EmployeeServerDto employee) {
+            UUID id = employee.getId();
+            String name = employee.getEmployeeName();
+            idHighs[row] = id == null ? 0 : id.getMostSignificantBits();
+            idLows[row] = id == null ? 0 : id.getLeastSignificantBits();
+            names[row] = name;
+            lowerNames[row] = name == null ? null : name.toLowerCase();
+            emails[row] = employee.getEmployeeEmail();
+            salaries[row] = unboxed(employee.getEmployeeSalary());
+            ages[row] = unboxed(employee.getEmployeeAge());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.reliaquest.api.cache;
+
+import java.util.Arrays;
+
+/**
+ * Salary order index over the rows of a {@link RosterSnapshot}, used to answer highest-salary, top-K and percentile
+ * queries without scanning or boxing the roster.
+ * <p>
+ * Every row with a salary is one primitive entry holding the salary in the high 32 bits and the complemented row ID
+ * in the low 32 bits, and the entries are kept sorted ascending, so the highest earner is the last entry and the K
+ * highest earners are the last K. Rows without a salary are not indexed. Equal salaries are ordered by descending
+ * row ID, so reading from the top yields them in row order.
+ * <p>
+ * The index is immutable: adding or removing a row returns a new index with the entry inserted or dropped by a single
+ * array copy, which matches the cost of the copy-on-write rows of the snapshot it belongs to.
+ */
+final class SalaryIndex {
+
+    /**
+     * Marks a row without a salary; such rows are not indexed.
+     */
+    static final int NO_SALARY = Integer.MIN_VALUE;
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(new long[0]);
+
+    private final long[] entries;
+
+    private SalaryIndex(long[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Builds the index over the given salary column, indexed by row ID.
+     *
+     * @param salaries the salary of every row, or {@link #NO_SALARY}.
+     * @return the index.
+     */
+    static SalaryIndex build(int[] salaries) {
+        long[] entries = new long[salaries.length];
+        int count = 0;
+        for (int row = 0; row < salaries.length; row++) {
+            if (salaries[row] != NO_SALARY) {
+                entries[count++] = entry(salaries[row], row);
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        entries = count == entries.length ? entries : Arrays.copyOf(entries, count);
+        Arrays.sort(entries);
+        return new SalaryIndex(entries);
+    }
+
+    /**
+     * Returns a copy of this index with the given row added.
+     *
+     * @param row    the row ID.
+     * @param salary the salary of the row; {@link #NO_SALARY} leaves the index unchanged.
+     * @return the updated index.
+     */
+    SalaryIndex with(int row, int salary) {
+        if (salary == NO_SALARY) {
+            return this;
+        }
+        long entry = entry(salary, row);
+        int position = Arrays.binarySearch(entries, entry);
+        if (position >= 0) {
+            return this;
+        }
+        position = -position - 1;
+        long[] updated = new long[entries.length + 1];
+        System.arraycopy(entries, 0, updated, 0, position);
+        updated[position] = entry;
+        System.arraycopy(entries, position, updated, position + 1, entries.length - position);
+        return new SalaryIndex(updated);
+    }
+
+    /**
+     * Returns a copy of this index without the given row.
+     *
+     * @param row    the row ID.
+     * @param salary the salary the row was indexed with; {@link #NO_SALARY} leaves the index unchanged.
+     * @return the updated index.
+     */
+    SalaryIndex without(int row, int salary) {
+        if (salary == NO_SALARY) {
+            return this;
+        }
+        int position = Arrays.binarySearch(entries, entry(salary, row));
+        if (position < 0) {
+            return this;
+        }
+        long[] updated = new long[entries.length - 1];
+        System.arraycopy(entries, 0, updated, 0, position);
+        System.arraycopy(entries, position + 1, updated, position, updated.length - position);
+        return new SalaryIndex(updated);
+    }
+
+    /**
+     * Starts collecting several row changes to apply to this index at once, so that a batch write copies the index
+     * once instead of once per row.
+     *
+     * @return an empty set of changes.
+     */
+    Changes changes() {
+        return new Changes();
+    }
+
+    /**
+     * @return the number of indexed rows.
+     */
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the salary at the given rank, counted from the lowest.
+     *
+     * @param rank the rank, from 0 to {@link #size()} - 1.
+     * @return the salary.
+     */
+    int salaryAt(int rank) {
+        return (int) (entries[rank] >> 32);
+    }
+
+    /**
+     * Returns the row at the given rank, counted from the lowest.
+     *
+     * @param rank the rank, from 0 to {@link #size()} - 1.
+     * @return the row ID.
+     */
+    int rowAt(int rank) {
+        return ~(int) entries[rank];
+    }
+
+    private static long[] append(long[] values, int index, long value) {
+        long[] target = index < values.length ? values : Arrays.copyOf(values, values.length * 2);
+        target[index] = value;
+        return target;
+    }
+
+    private static long entry(int salary, int row) {
+        return ((long) salary << 32) | (~row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Row changes collected for one batch write, applied by a single merge over the entries.
+     */
+    final class Changes {
+
+        private long[] dropped = new long[8];
+
+        private int droppedCount;
+
+        private long[] added = new long[8];
+
+        private int addedCount;
+
+        private Changes() {
+        }
+
+        /**
+         * Drops a row; {@link #NO_SALARY} is ignored.
+         *
+         * @param row    the row ID.
+         * @param salary the salary the row is indexed with.
+         */
+        void drop(int row, int salary) {
+            if (salary != NO_SALARY) {
+                dropped = append(dropped, droppedCount++, entry(salary, row));
+            }
+        }
+
+        /**
+         * Adds a row; {@link #NO_SALARY} is ignored.
+         *
+         * @param row    the row ID.
+         * @param salary the salary of the row.
+         */
+        void add(int row, int salary) {
+            if (salary != NO_SALARY) {
+                added = append(added, addedCount++, entry(salary, row));
+            }
+        }
+
+        /**
+         * @return the index with every dropped row removed and every added row inserted.
+         */
+        SalaryIndex apply() {
+            if (droppedCount == 0 && addedCount == 0) {
+                return SalaryIndex.this;
+            }
+            Arrays.sort(dropped, 0, droppedCount);
+            Arrays.sort(added, 0, addedCount);
+            long[] merged = new long[entries.length + addedCount];
+            int count = 0;
+            int drop = 0;
+            int add = 0;
+            for (long entry : entries) {
+                while (drop < droppedCount && dropped[drop] < entry) {
+                    drop++;
+                }
+                if (drop < droppedCount && dropped[drop] == entry) {
+                    drop++;
+                    continue;
+                }
+                while (add < addedCount && added[add] <= entry) {
+                    if (added[add] < entry) {
+                        merged[count++] = added[add];
+                    }
+                    add++;
+                }
+                merged[count++] = entry;
+            }
+            while (add < addedCount) {
+                merged[count++] = added[add++];
+            }
+            return new SalaryIndex(count == merged.length ? merged : Arrays.copyOf(merged, count));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table holding every distinct employee title once, with a hash index from title to its ID, so the title column of
+ * a roster stores {@code int} IDs and adding a row finds or assigns its title ID without scanning the table.
+ * <p>
+ * Like the {@link IdIndex}, the table only ever grows and is shared by all snapshots derived from one roster load.
+ * A title keeps its ID for the life of the table, so a title added for a newer snapshot is never referenced by the
+ * rows of an older one. The array is grown by doubling and replaced, never shrunk, so readers always see every
+ * title their snapshot refers to.
+ */
+final class TitleTable {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final ConcurrentHashMap<String, Integer> ids;
+
+    private volatile String[] titles;
+
+    private int count;
+
+    private TitleTable(ConcurrentHashMap<String, Integer> ids, String[] titles, int count) {
+        this.ids = ids;
+        this.titles = titles;
+        this.count = count;
+    }
+
+    /**
+     * @return an empty table.
+     */
+    static TitleTable create() {
+        return new TitleTable(new ConcurrentHashMap<>(), new String[INITIAL_CAPACITY], 0);
+    }
+
+    /**
+     * Returns the ID of a title, adding the title to the table if it is new. Callers serialize additions.
+     *
+     * @param title the title; must not be null.
+     * @return the ID of the title.
+     */
+    int idOf(String title) {
+        Integer id = ids.get(title);
+        if (id != null) {
+            return id;
+        }
+        String[] table = titles;
+        if (count == table.length) {
+            table = Arrays.copyOf(table, Math.max(count * 2, INITIAL_CAPACITY));
+        }
+        table[count] = title;
+        titles = table;
+        ids.put(title, count);
+        return count++;
+    }
+
+    /**
+     * @return the title with the given ID, which must have been returned by {@link #idOf(String)}.
+     */
+    String titleAt(int id) {
+        return titles[id];
+    }
+}
@@ -0,0 +1,162 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * Selects the HTTP client engine behind the mock employee RestTemplate via {@code mock.employee.client.engine}, one of
+ * {@code apache}, {@code jdk} or {@code simple}.
+ * <ul>
+ *     <li>{@code apache} (default) - Apache HttpClient 5 with a pooled, keep-alive connection manager whose
+ *     statistics are published as {@code employee.upstream.pool.*} gauges.</li>
+ *     <li>{@code jdk} - the JDK {@link HttpClient}, which pools internally and exposes no statistics. Its pool is
+ *     sized by JVM flags rather than {@code mock.employee.client.*}, since the JDK reads them once per process and
+ *     they apply to every client in it: {@code -Djdk.httpclient.connectionPoolSize=50} and
+ *     {@code -Djdk.httpclient.keepalive.timeout=60} (seconds).</li>
+ *     <li>{@code simple} - plain {@code HttpURLConnection}, kept for comparison.</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class HttpClientEngineConfig {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "mock.employee.client", name = "engine", havingValue = "apache", matchIfMissing = true)
+    static class ApacheEngine {
+
+        @Bean
+        public PoolingHttpClientConnectionManager employeeConnectionManager(MockEmployeeProperties mockEmployeeProperties) {
+            MockEmployeeProperties.Client client = mockEmployeeProperties.getClient();
+            return PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(client.getMaxTotal())
+                    .setMaxConnPerRoute(client.getMaxPerRoute())
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.ofSeconds(mockEmployeeProperties.getConnectTimeout()))
+                            .setSocketTimeout(timeout(mockEmployeeProperties.getEffectiveResponseTimeout()))
+                            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                            .build())
+                    .build();
+        }
+
+        @Bean
+        public CloseableHttpClient employeeHttpClient(
+                PoolingHttpClientConnectionManager employeeConnectionManager,
+                MockEmployeeProperties mockEmployeeProperties
+        ) {
+            MockEmployeeProperties.Client client = mockEmployeeProperties.getClient();
+            long keepAliveMillis = client.getKeepAlive().toMillis();
+            return HttpClients.custom()
+                    .setConnectionManager(employeeConnectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(timeout(client.getConnectionRequestTimeout()))
+                            .setResponseTimeout(timeout(mockEmployeeProperties.getEffectiveResponseTimeout()))
+                            .build())
+                    .setKeepAliveStrategy((response, context) -> {
+                        TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                        if (advertised == null || advertised.toMilliseconds() <= 0) {
+                            return TimeValue.ofMilliseconds(keepAliveMillis);
+                        }
+                        return TimeValue.ofMilliseconds(Math.min(advertised.toMilliseconds(), keepAliveMillis));
+                    })
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(client.getIdleEviction().toMillis()))
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory employeeRequestFactory(CloseableHttpClient employeeHttpClient) {
+            log.info("Using Apache HttpClient 5 engine for mock employee upstream calls");
+            return new HttpComponentsClientHttpRequestFactory(employeeHttpClient);
+        }
+
+        @Bean
+        public MeterBinder employeeConnectionPoolMetrics(PoolingHttpClientConnectionManager employeeConnectionManager) {
+            return registry -> {
+                poolGauge(registry, employeeConnectionManager, "leased", "Connections currently in use", PoolStats::getLeased);
+                poolGauge(registry, employeeConnectionManager, "available", "Idle connections ready for reuse", PoolStats::getAvailable);
+                poolGauge(registry, employeeConnectionManager, "pending", "Requests waiting for a connection", PoolStats::getPending);
+                poolGauge(registry, employeeConnectionManager, "max", "Maximum connections across all routes", PoolStats::getMax);
+            };
+        }
+
+        private static void poolGauge(
+                MeterRegistry registry,
+                PoolingHttpClientConnectionManager connectionManager,
+                String name,
+                String description,
+                ToIntFunction<PoolStats> stat
+        ) {
+            Gauge.builder("employee.upstream.pool." + name, connectionManager, manager -> stat.applyAsInt(manager.getTotalStats()))
+                    .description(description)
+                    .register(registry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "mock.employee.client", name = "engine", havingValue = "jdk")
+    static class JdkEngine {
+
+        @Bean
+        public HttpClient employeeHttpClient(MockEmployeeProperties mockEmployeeProperties) {
+            return HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(mockEmployeeProperties.getConnectTimeout()))
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory employeeRequestFactory(
+                HttpClient employeeHttpClient,
+                MockEmployeeProperties mockEmployeeProperties
+        ) {
+            log.info("Using JDK HttpClient engine for mock employee upstream calls, pool size {} and keep-alive {}s "
+                            + "from the jdk.httpclient.* JVM flags; pool statistics are not available",
+                    System.getProperty("jdk.httpclient.connectionPoolSize", "unbounded"),
+                    System.getProperty("jdk.httpclient.keepalive.timeout", "default"));
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(employeeHttpClient);
+            requestFactory.setReadTimeout(mockEmployeeProperties.getEffectiveResponseTimeout());
+            return requestFactory;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "mock.employee.client", name = "engine", havingValue = "simple")
+    static class SimpleEngine {
+
+        @Bean
+        public ClientHttpRequestFactory employeeRequestFactory(MockEmployeeProperties mockEmployeeProperties) {
+            log.info("Using HttpURLConnection engine for mock employee upstream calls");
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout(Duration.ofSeconds(mockEmployeeProperties.getConnectTimeout()));
+            requestFactory.setReadTimeout(mockEmployeeProperties.getEffectiveResponseTimeout());
+            return requestFactory;
+        }
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -1,5 +1,9 @@
 package com.reliaquest.api.config;
 
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -11,5 +15,233 @@ public class MockEmployeeProperties {
     private String uri;
     private Integer connectTimeout;
     private Integer readTimeout;
-}
+    private Cache cache = new Cache();
+    private NegativeCache negativeCache = new NegativeCache();
+    private Client client = new Client();
+    private RateLimit rateLimit = new RateLimit();
+    private Retry retry = new Retry();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Paging paging = new Paging();
+    private Pushdown pushdown = new Pushdown();
+    private VirtualThreads virtualThreads = new VirtualThreads();
+    private Reactive reactive = new Reactive();
+    private Bulk bulk = new Bulk();
+
+    /**
+     * Settings for the local employee roster cache ({@code mock.employee.cache.*}).
+     */
+    @Data
+    public static class Cache {
+        /** Whether roster reads are served from the local cache at all. */
+        private boolean enabled = true;
+
+        /** How long a loaded roster is considered fresh before a background refresh is triggered. */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Settings for remembering employee IDs the upstream does not know ({@code mock.employee.negative-cache.*}).
+     */
+    @Data
+    public static class NegativeCache {
+        /** Whether lookups of IDs the upstream recently answered with 404 are answered locally. */
+        private boolean enabled = true;
+
+        /** How long an unknown ID is remembered. */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /** Most unknown IDs remembered at once; the oldest is dropped beyond it. */
+        private int maxSize = 10_000;
+    }
+
+    /**
+     * Settings for the HTTP client engine used to call the mock employee server ({@code mock.employee.client.*}).
+     */
+    @Data
+    public static class Client {
+        /** Maximum number of pooled connections across all routes. */
+        private int maxTotal = 50;
+
+        /** Maximum number of pooled connections to a single host. */
+        private int maxPerRoute = 20;
+
+        /** How long a pooled connection may sit idle before it is evicted. */
+        private Duration idleEviction = Duration.ofSeconds(30);
+
+        /** Upper bound on how long a connection is kept alive for reuse, whatever the server advertises. */
+        private Duration keepAlive = Duration.ofMinutes(1);
+
+        /** How long to wait for a response once the request is sent; falls back to {@code read-timeout} when unset. */
+        private Duration responseTimeout;
+
+        /** How long to wait for a free connection from the pool. */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Settings for the client-side limiter that paces calls to the mock employee server
+     * ({@code mock.employee.rate-limit.*}).
+     */
+    @Data
+    public static class RateLimit {
+        /** Whether upstream calls are paced by the limiter at all. */
+        private boolean enabled = true;
+
+        /** Requests assumed to be allowed per upstream window before anything has been learned. */
+        private int initialBudget = 5;
+
+        /** Lower bound for the learned budget. */
+        private int minBudget = 1;
+
+        /** Budget added after a window is used up without being throttled. */
+        private int additiveIncrease = 1;
+
+        /** Factor the budget is multiplied by when the upstream throttles earlier than expected. */
+        private double decreaseFactor = 0.75;
+
+        /** Lockout assumed after a 429 before anything has been learned. */
+        private Duration initialBackoff = Duration.ofSeconds(30);
+
+        /** Upper bound for the learned lockout. */
+        private Duration maxBackoff = Duration.ofSeconds(120);
+
+        /** Factor the learned lockout grows by when a probe after the lockout is still throttled. */
+        private double backoffGrowth = 1.5;
+
+        /** How long a request may wait for the lockout to end before it is shed; zero sheds immediately. */
+        private Duration maxQueueWait = Duration.ofSeconds(1);
+    }
+
+    /**
+     * Settings for retrying idempotent calls to the mock employee server ({@code mock.employee.retry.*}).
+     */
+    @Data
+    public static class Retry {
+        /** Whether failed idempotent calls are retried at all. */
+        private boolean enabled = true;
+
+        /**
+         * HTTP methods considered idempotent and therefore retried. DELETE is left out: if the response to a delete is
+         * lost after the upstream deleted the employee, a retry reports the employee as not found.
+         */
+        private Set<String> methods = new LinkedHashSet<>(List.of("GET"));
 
+        /** Maximum attempts per call, including the first one. */
+        private int maxAttempts = 3;
+
+        /** Backoff ceiling before the first retry; doubled for every further retry. */
+        private Duration baseDelay = Duration.ofMillis(100);
+
+        /** Upper bound for the backoff ceiling. */
+        private Duration maxDelay = Duration.ofSeconds(2);
+
+        /** Time budget shared by all upstream attempts made while serving one inbound request. */
+        private Duration requestDeadline = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Settings for the circuit breaker guarding the mock employee server ({@code mock.employee.circuit-breaker.*}).
+     */
+    @Data
+    public static class CircuitBreaker {
+        /** Whether the circuit breaker can open at all. */
+        private boolean enabled = true;
+
+        /** Number of most recent calls the failure and slow-call rates are computed over. */
+        private int slidingWindowSize = 20;
+
+        /** Calls that must be recorded before the rates are evaluated. */
+        private int minimumCalls = 10;
+
+        /** Percentage of failed calls at or above which the circuit opens. */
+        private double failureRateThreshold = 50;
+
+        /** Calls taking at least this long count as slow. */
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+
+        /** Percentage of slow calls at or above which the circuit opens. */
+        private double slowCallRateThreshold = 80;
+
+        /** How long the circuit stays open before trial calls are let through. */
+        private Duration waitInOpen = Duration.ofSeconds(30);
+
+        /** Number of trial calls let through while half-open. */
+        private int permittedCallsInHalfOpen = 3;
+    }
+
+    /**
+     * Settings for reading the roster page by page from the mock employee server ({@code mock.employee.paging.*}).
+     */
+    @Data
+    public static class Paging {
+        /** Employees requested per page; the server caps this at 1000. */
+        private int pageSize = 100;
+    }
+
+    /**
+     * Settings for answering roster queries on the mock employee server ({@code mock.employee.pushdown.*}).
+     */
+    @Data
+    public static class Pushdown {
+        /** Whether name search, highest salary and top earners are pushed down when the roster is not cached. */
+        private boolean enabled = true;
+    }
+
+    /**
+     * Diagnostics for handling requests on virtual threads ({@code mock.employee.virtual-threads.*}). The mode itself
+     * is switched with {@code spring.threads.virtual.enabled} and only takes effect on Java 21 or later.
+     */
+    @Data
+    public static class VirtualThreads {
+        /** Whether virtual threads pinned to their carrier thread are recorded with JFR and reported. */
+        private boolean pinningDiagnostics = true;
+
+        /** Shortest pinning that is reported. */
+        private Duration pinnedThreshold = Duration.ofMillis(20);
+    }
+
+    /**
+     * Settings for the non-blocking employee service built on WebClient ({@code mock.employee.reactive.*}).
+     */
+    @Data
+    public static class Reactive {
+        /**
+         * Whether requests are served by the reactive service instead of the RestTemplate-based one. The reactive
+         * stack does not serve the bulk endpoints under {@code /api/v1/employeeDetails/bulk}.
+         */
+        private boolean enabled = false;
+
+        /** Maximum number of connections the reactive client keeps open to the mock employee server. */
+        private int maxConnections = 500;
+
+        /** Requests that may wait for a free connection before further ones are rejected. */
+        private int pendingAcquireMaxCount = 10_000;
+    }
+
+    /**
+     * Settings for the bulk create, delete and lookup endpoints ({@code mock.employee.bulk.*}).
+     */
+    @Data
+    public static class Bulk {
+        /** Employees sent to the mock employee server per bulk request; the server caps this at 1000. */
+        private int batchSize = 100;
+
+        /** Most employees a single bulk request to this service may carry. */
+        private int maxItems = 10_000;
+
+        /** IDs sent to the mock employee server per batch lookup; the server caps this at 1000. */
+        private int lookupBatchSize = 1000;
+    }
+
+    /**
+     * Returns the effective response timeout for upstream calls.
+     *
+     * @return the configured response timeout, or the read timeout when none is set.
+     */
+    public Duration getEffectiveResponseTimeout() {
+        if (client.getResponseTimeout() != null) {
+            return client.getResponseTimeout();
+        }
+        return Duration.ofSeconds(readTimeout);
+    }
+}
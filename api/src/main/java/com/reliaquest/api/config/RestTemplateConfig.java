@@ -3,17 +3,19 @@ package com.reliaquest.api.config;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 @Configuration
 public class RestTemplateConfig {
+    /**
+     * Builds the RestTemplate used to call the mock employee server on top of the configured client engine.
+     * Timeouts are owned by the engine, see {@link HttpClientEngineConfig}.
+     */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder, MockEmployeeProperties mockEmployeeProperties) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory employeeRequestFactory) {
         return builder
-                .setConnectTimeout(Duration.ofSeconds(mockEmployeeProperties.getConnectTimeout()))
-                .setReadTimeout(Duration.ofSeconds(mockEmployeeProperties.getReadTimeout()))
+                .requestFactory(() -> employeeRequestFactory)
                 .build();
     }
 }
@@ -0,0 +1,93 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, which happens when a virtual thread blocks while
+ * holding a monitor ({@code synchronized}) or inside a native frame. A pinned virtual thread occupies a carrier for as
+ * long as it blocks, so enough of them at once bring back the thread-pool exhaustion virtual threads are meant to
+ * remove.
+ * <p>
+ * Only active with {@code spring.threads.virtual.enabled} on Java 21 or later. Pinnings are read from the JDK's
+ * {@code jdk.VirtualThreadPinned} JFR event in an in-process recording stream; each one longer than
+ * {@code mock.employee.virtual-threads.pinned-threshold} is timed into {@code employee.virtual.pinned} and logged with
+ * the top of its stack.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "mock.employee.virtual-threads", name = "pinning-diagnostics", havingValue = "true",
+        matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final RecordingStream recording;
+
+    private final Timer pinned;
+
+    /**
+     * Constructor for VirtualThreadPinningMonitor, starting the recording stream.
+     *
+     * @param mockEmployeeProperties the properties holding the pinning threshold.
+     * @param meterRegistry          the registry to publish the pinning timer to.
+     */
+    @Autowired
+    public VirtualThreadPinningMonitor(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry) {
+        this.pinned = Timer.builder("employee.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread while blocked")
+                .register(meterRegistry);
+
+        this.recording = new RecordingStream();
+        recording.enable(PINNED_EVENT)
+                .withThreshold(mockEmployeeProperties.getVirtualThreads().getPinnedThreshold())
+                .withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::report);
+        recording.startAsync();
+        log.info("Reporting virtual threads pinned for at least {}",
+                mockEmployeeProperties.getVirtualThreads().getPinnedThreshold());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recording.close();
+    }
+
+    private void report(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        RecordedThread thread = event.getThread();
+        log.warn("Virtual thread {} was pinned to its carrier for {} ms at {}",
+                thread == null ? "?" : thread.getJavaName(),
+                event.getDuration().toMillis(),
+                topFrames(event));
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "<no stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
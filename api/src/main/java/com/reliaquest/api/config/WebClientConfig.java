@@ -0,0 +1,64 @@
+package com.reliaquest.api.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Builds the non-blocking WebClient used by the reactive employee service, on Reactor Netty. Only active with
+ * {@code mock.employee.reactive.enabled}.
+ * <p>
+ * Upstream calls run on Reactor Netty's event loop, one thread per core, and a request waiting for the upstream holds
+ * no thread at all. The connection pool is sized by {@code mock.employee.reactive.max-connections}; requests beyond
+ * it queue for a connection, up to {@code pending-acquire-max-count}, for at most the client's
+ * {@code connection-request-timeout}. Idle eviction, keep-alive and timeouts are shared with the blocking engines.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "mock.employee.reactive", name = "enabled", havingValue = "true")
+public class WebClientConfig {
+
+    /**
+     * Upper bound for a buffered upstream response: a page of the largest size the server hands out, with room to
+     * spare.
+     */
+    private static final int MAX_IN_MEMORY_SIZE = 4 * 1024 * 1024;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeConnectionProvider(MockEmployeeProperties mockEmployeeProperties) {
+        MockEmployeeProperties.Client client = mockEmployeeProperties.getClient();
+        MockEmployeeProperties.Reactive reactive = mockEmployeeProperties.getReactive();
+        return ConnectionProvider.builder("employee-upstream")
+                .maxConnections(reactive.getMaxConnections())
+                .pendingAcquireMaxCount(reactive.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(client.getConnectionRequestTimeout())
+                .maxIdleTime(client.getIdleEviction())
+                .maxLifeTime(client.getKeepAlive())
+                .evictInBackground(client.getIdleEviction())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient employeeWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider employeeConnectionProvider,
+            MockEmployeeProperties mockEmployeeProperties
+    ) {
+        HttpClient httpClient = HttpClient.create(employeeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, mockEmployeeProperties.getConnectTimeout() * 1000)
+                .responseTimeout(mockEmployeeProperties.getEffectiveResponseTimeout());
+        log.info("Using Reactor Netty WebClient for mock employee upstream calls, up to {} connections",
+                mockEmployeeProperties.getReactive().getMaxConnections());
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .build();
+    }
+}
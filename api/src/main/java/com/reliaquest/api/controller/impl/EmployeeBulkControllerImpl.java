@@ -0,0 +1,148 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.request.EmployeeCreationDto;
+import com.reliaquest.api.dto.response.EmployeeBulkResultDto;
+import com.reliaquest.api.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static com.reliaquest.api.util.UuidUtil.isValidUUID;
+
+/**
+ * Bulk variants of the lookup, create and delete endpoints of {@link EmployeeControllerImpl}, for callers that
+ * resolve, create or delete many employees at once.
+ * <p>
+ * A request is validated as a whole before anything is sent upstream: if any item is invalid, the request is rejected
+ * listing every invalid item, and nothing is created or deleted. Valid requests are dispatched in batches, and the
+ * response holds a result per item along with the throughput of the request.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "mock.employee.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequestMapping("/api/v1/employeeDetails/bulk")
+public class EmployeeBulkControllerImpl {
+
+    private final EmployeeService employeeService;
+
+    private final Validator validator;
+
+    private final int maxItems;
+
+    /**
+     * Constructor for EmployeeBulkControllerImpl.
+     *
+     * @param employeeService        the service to handle employee-related operations.
+     * @param validator              validates the employees of a bulk create.
+     * @param mockEmployeeProperties the settings holding the largest accepted bulk request.
+     */
+    @Autowired
+    public EmployeeBulkControllerImpl(
+            EmployeeService employeeService,
+            Validator validator,
+            MockEmployeeProperties mockEmployeeProperties
+    ) {
+        this.employeeService = employeeService;
+        this.validator = validator;
+        this.maxItems = mockEmployeeProperties.getBulk().getMaxItems();
+    }
+
+    /**
+     * Endpoint to create many employees.
+     *
+     * @param employeeInputs the details of the employees to create.
+     * @return ResponseEntity containing the result for each employee, in request order.
+     */
+    @Operation(summary = "Create employees in bulk", description = "Creates all given employees and reports the result for each.")
+    @PostMapping()
+    public ResponseEntity<EmployeeBulkResultDto> createEmployees(@RequestBody List<EmployeeCreationDto> employeeInputs) {
+        validateSize(employeeInputs);
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < employeeInputs.size(); i++) {
+            EmployeeCreationDto employeeInput = employeeInputs.get(i);
+            if (employeeInput == null) {
+                errors.add("[" + i + "] employee cannot be null");
+                continue;
+            }
+            int index = i;
+            validator.validate(employeeInput).stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> "[" + index + "] " + describe(violation))
+                    .forEach(errors::add);
+        }
+        rejectIfInvalid("employees", errors);
+
+        return ResponseEntity.ok().body(employeeService.createEmployees(employeeInputs));
+    }
+
+    /**
+     * Endpoint to delete many employees by ID.
+     *
+     * @param ids the IDs of the employees to delete.
+     * @return ResponseEntity containing the result for each ID, in request order.
+     */
+    @Operation(summary = "Delete employees in bulk", description = "Deletes the employees with the given IDs and reports the result for each.")
+    @DeleteMapping()
+    public ResponseEntity<EmployeeBulkResultDto> deleteEmployees(@RequestBody List<String> ids) {
+        validateIds(ids);
+
+        return ResponseEntity.ok().body(employeeService.deleteEmployeesByIds(ids));
+    }
+
+    /**
+     * Endpoint to look up many employees by ID. The IDs travel in the body, since a few thousand of them do not fit
+     * in a URL.
+     *
+     * @param ids the IDs of the employees to look up.
+     * @return ResponseEntity containing the result for each ID, in request order.
+     */
+    @Operation(summary = "Get employees by IDs", description = "Looks up the employees with the given IDs and reports the result for each.")
+    @PostMapping("/lookup")
+    public ResponseEntity<EmployeeBulkResultDto> getEmployeesByIds(@RequestBody List<String> ids) {
+        validateIds(ids);
+
+        return ResponseEntity.ok().body(employeeService.getEmployeesByIds(ids));
+    }
+
+    private void validateIds(List<String> ids) {
+        validateSize(ids);
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            if (id == null || id.isBlank()) {
+                errors.add("[" + i + "] Employee ID cannot be null or empty");
+            } else if (!isValidUUID(id)) {
+                errors.add("[" + i + "] Invalid UUID format for Employee ID: " + id);
+            }
+        }
+        rejectIfInvalid("employee IDs", errors);
+    }
+
+    private void validateSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request cannot be empty");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    "Bulk request holds " + items.size() + " items, at most " + maxItems + " are accepted");
+        }
+    }
+
+    private static void rejectIfInvalid(String what, List<String> errors) {
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid " + what + ": " + String.join("; ", errors));
+        }
+    }
+
+    private static String describe(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+}
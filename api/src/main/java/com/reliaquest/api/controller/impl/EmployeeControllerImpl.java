@@ -1,34 +1,49 @@
 package com.reliaquest.api.controller.impl;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.controller.IEmployeeController;
 import com.reliaquest.api.dto.request.EmployeeCreationDto;
 import com.reliaquest.api.dto.response.EmployeeEntityDto;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.EmployeeJsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static com.reliaquest.api.util.UuidUtil.isValidUUID;
 
 @RestController
+@ConditionalOnProperty(prefix = "mock.employee.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequestMapping("/api/v1/employeeDetails")
 public class EmployeeControllerImpl implements IEmployeeController<EmployeeEntityDto, EmployeeCreationDto> {
 
     private final EmployeeService employeeService;
 
+    private final JsonFactory jsonFactory;
+
     /**
      * Constructor for EmployeeControllerImpl.
      *
      * @param employeeService the service to handle employee-related operations.
+     * @param objectMapper    the mapper whose factory creates the generators of streamed responses.
      */
     @Autowired
-    public EmployeeControllerImpl(EmployeeService employeeService) {
+    public EmployeeControllerImpl(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.jsonFactory = objectMapper.getFactory();
     }
 
     /**
@@ -43,6 +58,35 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeEntit
         return ResponseEntity.ok().body(employees);
     }
 
+    /**
+     * Endpoint to stream all employees as newline-delimited JSON, selected with {@code Accept: application/x-ndjson}.
+     * Every employee is written as soon as it is available, so neither the list nor the response body is held in
+     * memory.
+     *
+     * @return ResponseEntity streaming one EmployeeEntityDto per line.
+     */
+    @Operation(summary = "Stream all employees as NDJSON", description = "Streams all employees, one JSON object per line.")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesAsNdjson() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> writeEmployees(out, false));
+    }
+
+    /**
+     * Endpoint to stream all employees as a chunked JSON array, selected with {@code ?stream=true}. The body is the
+     * same array as {@link #getAllEmployees()} returns, written while the roster is being read.
+     *
+     * @return ResponseEntity streaming a JSON array of EmployeeEntityDto objects.
+     */
+    @Operation(summary = "Stream all employees as a JSON array", description = "Streams all employees as a chunked JSON array.")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesAsJsonArray() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeEmployees(out, true));
+    }
+
     /**
      * Endpoint to search employees by name.
      *
@@ -60,6 +104,29 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeEntit
         return ResponseEntity.ok().body(employees);
     }
 
+    /**
+     * Endpoint to search employees by name, returning at most {@code limit} matches, selected with {@code ?limit=N}.
+     * Only as much of the roster is read as is needed to find the matches.
+     *
+     * @param searchString the string to search for in employee names.
+     * @param limit        the maximum number of matches to return.
+     * @return ResponseEntity containing at most {@code limit} EmployeeEntityDto objects matching the search criteria.
+     */
+    @Operation(summary = "Search employees by name with a limit", description = "Retrieves at most limit employees whose names match the search string.")
+    @GetMapping(value = "/search/{searchString}", params = "limit")
+    public ResponseEntity<List<EmployeeEntityDto>> getEmployeesByNameSearch(
+            @PathVariable String searchString, @RequestParam int limit) {
+        if (searchString == null || searchString.isBlank()) {
+            throw new IllegalArgumentException("Search string cannot be null or empty");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+
+        List<EmployeeEntityDto> employees = employeeService.getEmployeesByNameSearch(searchString, limit);
+        return ResponseEntity.ok().body(employees);
+    }
+
     /**
      * Endpoint to get an employee by ID.
      *
@@ -136,4 +203,41 @@ public class EmployeeControllerImpl implements IEmployeeController<EmployeeEntit
         String employeeName = employeeService.deleteEmployeeById(id);
         return ResponseEntity.ok(employeeName);
     }
+
+    /**
+     * Writes every employee to the response as it is handed over by the service, either as the elements of a JSON
+     * array or as one JSON object per line. Employees are written by an {@link EmployeeJsonWriter} straight from the
+     * service's records, with no EmployeeEntityDto in between. The generator is only flushed at the end; the servlet
+     * container sends a chunk whenever its buffer fills. On failure nothing is closed, so a truncated body is never completed into
+     * a well-formed one.
+     *
+     * @param out     the response body.
+     * @param asArray whether to write a JSON array rather than newline-delimited JSON.
+     * @throws IOException if the response cannot be written.
+     */
+    private void writeEmployees(OutputStream out, boolean asArray) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(out);
+        EmployeeJsonWriter employeeWriter = new EmployeeJsonWriter(generator);
+        if (asArray) {
+            generator.writeStartArray();
+        }
+        try {
+            employeeService.streamAllEmployees(employee -> {
+                try {
+                    employeeWriter.write(employee);
+                    if (!asArray) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        if (asArray) {
+            generator.writeEndArray();
+        }
+        generator.flush();
+    }
 }
@@ -0,0 +1,234 @@
+package com.reliaquest.api.controller.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.request.EmployeeCreationDto;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.reliaquest.api.util.UuidUtil.isValidUUID;
+
+/**
+ * Serves the same endpoints as {@link EmployeeControllerImpl} from the {@link ReactiveEmployeeService}, selected with
+ * {@code mock.employee.reactive.enabled}.
+ * <p>
+ * Every endpoint returns a Mono or Flux, which Spring MVC completes asynchronously: the servlet thread is handed back
+ * to the container as soon as the pipeline is assembled, and the response is written once the upstream has answered.
+ * The {@code IEmployeeController} contract fixes synchronous return types, so this controller mirrors it instead of
+ * implementing it. Bulk endpoints are only served by the blocking stack.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "mock.employee.reactive", name = "enabled", havingValue = "true")
+@RequestMapping("/api/v1/employeeDetails")
+public class ReactiveEmployeeControllerImpl {
+
+    private final ReactiveEmployeeService employeeService;
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Constructor for ReactiveEmployeeControllerImpl.
+     *
+     * @param employeeService the service to handle employee-related operations.
+     * @param objectMapper    the mapper whose factory creates the generators of streamed responses.
+     */
+    @Autowired
+    public ReactiveEmployeeControllerImpl(ReactiveEmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Endpoint to get all employees.
+     *
+     * @return Mono of the ResponseEntity containing a list of EmployeeEntityDto objects.
+     */
+    @Operation(summary = "Get all employees", description = "Retrieves a list of all employees.")
+    @GetMapping()
+    public Mono<ResponseEntity<List<EmployeeEntityDto>>> getAllEmployees() {
+        return employeeService.getAllEmployees()
+                .collectList()
+                .map(employees -> ResponseEntity.ok().body(employees));
+    }
+
+    /**
+     * Endpoint to stream all employees as newline-delimited JSON, selected with {@code Accept: application/x-ndjson}.
+     * Employees are written as the client consumes them, and the upstream is read no faster than that.
+     *
+     * @return Flux of EmployeeEntityDto objects, written one per line.
+     */
+    @Operation(summary = "Stream all employees as NDJSON", description = "Streams all employees, one JSON object per line.")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeEntityDto> streamAllEmployeesAsNdjson() {
+        return employeeService.getAllEmployees();
+    }
+
+    /**
+     * Endpoint to stream all employees as a chunked JSON array, selected with {@code ?stream=true}. The body is the
+     * same array as {@link #getAllEmployees()} returns, written while the roster is being read. Spring MVC would
+     * collect a Flux into a list before writing it as JSON, so the array is written by a {@link StreamingResponseBody}
+     * instead, which holds an async request thread while it consumes the Flux with bounded prefetch.
+     *
+     * @return ResponseEntity streaming a JSON array of EmployeeEntityDto objects.
+     */
+    @Operation(summary = "Stream all employees as a JSON array", description = "Streams all employees as a chunked JSON array.")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesAsJsonArray() {
+        Flux<EmployeeEntityDto> employees = employeeService.getAllEmployees();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeEmployees(out, employees));
+    }
+
+    /**
+     * Endpoint to search employees by name.
+     *
+     * @param searchString the string to search for in employee names.
+     * @return Mono of the ResponseEntity containing a list of EmployeeEntityDto objects matching the search criteria.
+     */
+    @Operation(summary = "Search employees by name", description = "Retrieves a list of employees whose names match the search string.")
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<EmployeeEntityDto>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        if (searchString == null || searchString.isBlank()) {
+            throw new IllegalArgumentException("Search string cannot be null or empty");
+        }
+
+        return employeeService.getEmployeesByNameSearch(searchString)
+                .collectList()
+                .map(employees -> ResponseEntity.ok().body(employees));
+    }
+
+    /**
+     * Endpoint to search employees by name, returning at most {@code limit} matches, selected with {@code ?limit=N}.
+     *
+     * @param searchString the string to search for in employee names.
+     * @param limit        the maximum number of matches to return.
+     * @return Mono of the ResponseEntity containing at most {@code limit} matching EmployeeEntityDto objects.
+     */
+    @Operation(summary = "Search employees by name with a limit", description = "Retrieves at most limit employees whose names match the search string.")
+    @GetMapping(value = "/search/{searchString}", params = "limit")
+    public Mono<ResponseEntity<List<EmployeeEntityDto>>> getEmployeesByNameSearch(
+            @PathVariable String searchString, @RequestParam int limit) {
+        if (searchString == null || searchString.isBlank()) {
+            throw new IllegalArgumentException("Search string cannot be null or empty");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+
+        return employeeService.getEmployeesByNameSearch(searchString, limit)
+                .collectList()
+                .map(employees -> ResponseEntity.ok().body(employees));
+    }
+
+    /**
+     * Endpoint to get an employee by ID.
+     *
+     * @param id the ID of the employee to retrieve.
+     * @return Mono of the ResponseEntity containing the EmployeeEntityDto object for the specified ID.
+     */
+    @Operation(summary = "Get employee by ID", description = "Retrieves an employee by their unique ID.")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeEntityDto>> getEmployeeById(@PathVariable String id) {
+        validateId(id);
+
+        return employeeService.getEmployeeById(id)
+                .map(employee -> ResponseEntity.ok().body(employee));
+    }
+
+    /**
+     * Endpoint to get the highest salary among all employees.
+     *
+     * @return Mono of the ResponseEntity containing the highest salary as an Integer.
+     */
+    @Operation(summary = "Get highest salary of employees", description = "Retrieves the highest salary among all employees.")
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees()
+                .map(highestSalary -> ResponseEntity.ok().body(highestSalary));
+    }
+
+    /**
+     * Endpoint to get the names of the top ten highest earning employees.
+     *
+     * @return Mono of the ResponseEntity containing a list of names of the top ten highest earning employees.
+     */
+    @Operation(summary = "Get top ten highest earning employee names", description = "Retrieves the names of the top ten highest earning employees.")
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames()
+                .map(topTenNames -> ResponseEntity.ok().body(topTenNames));
+    }
+
+    /**
+     * Endpoint to create a new employee.
+     *
+     * @param employeeInput the EmployeeCreationDto object containing the details of the employee to be created.
+     * @return Mono of the ResponseEntity containing the created EmployeeEntityDto object.
+     */
+    @Operation(summary = "Create a new employee", description = "Creates a new employee with the provided details.")
+    @PostMapping()
+    public Mono<ResponseEntity<EmployeeEntityDto>> createEmployee(@RequestBody @Valid EmployeeCreationDto employeeInput) {
+        return employeeService.createEmployee(employeeInput)
+                .map(createdEmployee -> ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee));
+    }
+
+    /**
+     * Endpoint to delete an employee by ID.
+     *
+     * @param id the ID of the employee to delete.
+     * @return Mono of the ResponseEntity containing the name of the deleted employee.
+     */
+    @Operation(summary = "Delete employee by ID", description = "Deletes an employee by their unique ID and returns the name of the deleted employee.")
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        validateId(id);
+
+        return employeeService.deleteEmployeeById(id)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Writes the employees as the elements of a JSON array as the Flux emits them. As in
+     * {@link EmployeeControllerImpl}, the generator is only flushed at the end and nothing is closed on failure, so a
+     * truncated body is never completed into a well-formed one.
+     *
+     * @param out       the response body.
+     * @param employees the employees to write.
+     * @throws IOException if the response cannot be written.
+     */
+    private void writeEmployees(OutputStream out, Flux<EmployeeEntityDto> employees) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(out);
+        generator.writeStartArray();
+        for (EmployeeEntityDto employee : employees.toIterable()) {
+            generator.writeObject(employee);
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private static void validateId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Employee ID cannot be null or empty");
+        }
+        if (!isValidUUID(id)) {
+            throw new IllegalArgumentException("Invalid UUID format for Employee ID: " + id);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkCreationDto {
+    @JsonProperty("employees")
+    private List<EmployeeCreationDto> employees;
+}
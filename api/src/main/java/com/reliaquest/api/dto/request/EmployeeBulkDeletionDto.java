@@ -0,0 +1,17 @@
+package com.reliaquest.api.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkDeletionDto {
+    @JsonProperty("ids")
+    private List<UUID> ids;
+}
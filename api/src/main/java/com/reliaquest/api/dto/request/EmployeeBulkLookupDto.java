@@ -5,10 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class EmployeeDeletionDto {
-    @JsonProperty("name")
-    private String name;
+public class EmployeeBulkLookupDto {
+    @JsonProperty("ids")
+    private List<UUID> ids;
 }
@@ -0,0 +1,75 @@
+package com.reliaquest.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk lookup, create or delete: one result per requested item, in request order, and how long the whole
+ * request took. Every item is counted once: as succeeded if it was found, created or deleted, as not found, or as
+ * failed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeBulkResultDto {
+    @JsonProperty("results")
+    private List<Item> results;
+
+    @JsonProperty("succeeded")
+    private int succeeded;
+
+    @JsonProperty("not_found")
+    private int notFound;
+
+    @JsonProperty("failed")
+    private int failed;
+
+    @JsonProperty("upstream_requests")
+    private int upstreamRequests;
+
+    @JsonProperty("elapsed_ms")
+    private long elapsedMs;
+
+    @JsonProperty("items_per_second")
+    private double itemsPerSecond;
+
+    /**
+     * What happened to one requested item.
+     */
+    public enum Status {
+        FOUND,
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        FAILED
+    }
+
+    /**
+     * Result for the item at {@code index} in the request.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        @JsonProperty("index")
+        private int index;
+
+        @JsonProperty("status")
+        private Status status;
+
+        @JsonProperty("id")
+        private String id;
+
+        @JsonProperty("employee")
+        private EmployeeEntityDto employee;
+
+        @JsonProperty("error")
+        private String error;
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.api.dto.response;
+
+/**
+ * Read-only view of one employee that exposes the ID, salary and age as primitives, so an employee can be written
+ * out without creating a {@link java.util.UUID} or boxing its numbers.
+ * <p>
+ * Implemented by {@link EmployeeServerDto} and by the rows of the cached roster snapshot. A row view may be reused
+ * for the next row once the consumer it was passed to returns, so it must not be kept.
+ */
+public interface EmployeeRecord {
+
+    boolean hasId();
+
+    long idMostSignificantBits();
+
+    long idLeastSignificantBits();
+
+    String getEmployeeName();
+
+    String getEmployeeEmail();
+
+    String getEmployeeTitle();
+
+    boolean hasEmployeeSalary();
+
+    int employeeSalary();
+
+    boolean hasEmployeeAge();
+
+    int employeeAge();
+}
@@ -6,7 +6,7 @@ import lombok.Data;
 import java.util.UUID;
 
 @Data
-public class EmployeeServerDto {
+public class EmployeeServerDto implements EmployeeRecord {
     @JsonProperty("id")
     private UUID id;
 
@@ -24,4 +24,39 @@ public class EmployeeServerDto {
 
     @JsonProperty("employee_age")
     private Integer employeeAge;
+
+    @Override
+    public boolean hasId() {
+        return id != null;
+    }
+
+    @Override
+    public long idMostSignificantBits() {
+        return id.getMostSignificantBits();
+    }
+
+    @Override
+    public long idLeastSignificantBits() {
+        return id.getLeastSignificantBits();
+    }
+
+    @Override
+    public boolean hasEmployeeSalary() {
+        return employeeSalary != null;
+    }
+
+    @Override
+    public int employeeSalary() {
+        return employeeSalary;
+    }
+
+    @Override
+    public boolean hasEmployeeAge() {
+        return employeeAge != null;
+    }
+
+    @Override
+    public int employeeAge() {
+        return employeeAge;
+    }
 }
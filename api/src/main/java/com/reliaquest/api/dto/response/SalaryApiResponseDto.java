@@ -4,9 +4,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 @Data
-public class EmployeeDeletionApiResponseDto {
+public class SalaryApiResponseDto {
     @JsonProperty("data")
-    private Boolean data;
+    private Integer data;
 
     @JsonProperty("status")
     private String status;
@@ -1,10 +1,43 @@
 package com.reliaquest.api.exception;
 
+import java.time.Duration;
+
 public class TooManyRequestsException extends RuntimeException {
+    private final Duration retryAfter;
+
+    private final boolean shedLocally;
+
     public TooManyRequestsException(String message) {
+        this(message, (Duration) null);
+    }
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        this(message, retryAfter, false);
+    }
+    public TooManyRequestsException(String message, Duration retryAfter, boolean shedLocally) {
         super(message);
+        this.retryAfter = retryAfter;
+        this.shedLocally = shedLocally;
     }
     public TooManyRequestsException(String message, Throwable cause) {
+        this(message, cause, false);
+    }
+    public TooManyRequestsException(String message, Throwable cause, boolean shedLocally) {
         super(message, cause);
+        this.retryAfter = null;
+        this.shedLocally = shedLocally;
+    }
+
+    /**
+     * @return how long the caller should wait before trying again, or null if unknown.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * @return true if the request was turned away by the local rate limiter and never reached the upstream.
+     */
+    public boolean isShedLocally() {
+        return shedLocally;
     }
 }
@@ -0,0 +1,17 @@
+package com.reliaquest.api.exception;
+
+public class UpstreamServiceException extends RuntimeException {
+    private final boolean retryable;
+
+    public UpstreamServiceException(String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    /**
+     * @return whether the failure is transient (server error or I/O failure) and the call may be repeated.
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
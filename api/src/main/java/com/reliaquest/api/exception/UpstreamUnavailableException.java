@@ -0,0 +1,19 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+public class UpstreamUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long the caller should wait before trying again, or null if unknown.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
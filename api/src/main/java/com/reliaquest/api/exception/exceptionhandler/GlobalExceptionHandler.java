@@ -2,7 +2,9 @@ package com.reliaquest.api.exception.exceptionhandler;
 
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -23,7 +25,21 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(TooManyRequestsException.class)
     public ResponseEntity<String> handleTooManyRequests(TooManyRequestsException ex) {
         log.error("Too many requests: {}", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ex.getMessage());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        if (ex.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        }
+        return response.body(ex.getMessage());
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<String> handleUpstreamUnavailable(UpstreamUnavailableException ex) {
+        log.error("Upstream unavailable: {}", ex.getMessage());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (ex.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        }
+        return response.body(ex.getMessage());
     }
 
     @ExceptionHandler(Exception.class)
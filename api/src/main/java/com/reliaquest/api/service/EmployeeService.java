@@ -1,14 +1,21 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.dto.request.EmployeeCreationDto;
+import com.reliaquest.api.dto.response.EmployeeBulkResultDto;
 import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.dto.response.EmployeeRecord;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     List<EmployeeEntityDto> getAllEmployees();
 
+    void streamAllEmployees(Consumer<EmployeeRecord> consumer);
+
     List<EmployeeEntityDto> getEmployeesByNameSearch(String searchString);
 
+    List<EmployeeEntityDto> getEmployeesByNameSearch(String searchString, int limit);
+
     EmployeeEntityDto getEmployeeById(String id);
 
     Integer getHighestSalaryOfEmployees();
@@ -18,4 +25,10 @@ public interface EmployeeService {
     EmployeeEntityDto createEmployee(EmployeeCreationDto employeeInput);
 
     String deleteEmployeeById(String id);
+
+    EmployeeBulkResultDto getEmployeesByIds(List<String> ids);
+
+    EmployeeBulkResultDto createEmployees(List<EmployeeCreationDto> employeeInputs);
+
+    EmployeeBulkResultDto deleteEmployeesByIds(List<String> ids);
 }
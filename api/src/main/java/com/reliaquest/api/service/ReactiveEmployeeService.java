@@ -0,0 +1,25 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.request.EmployeeCreationDto;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeService {
+    Flux<EmployeeEntityDto> getAllEmployees();
+
+    Flux<EmployeeEntityDto> getEmployeesByNameSearch(String searchString);
+
+    Flux<EmployeeEntityDto> getEmployeesByNameSearch(String searchString, int limit);
+
+    Mono<EmployeeEntityDto> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Mono<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    Mono<EmployeeEntityDto> createEmployee(EmployeeCreationDto employeeInput);
+
+    Mono<String> deleteEmployeeById(String id);
+}
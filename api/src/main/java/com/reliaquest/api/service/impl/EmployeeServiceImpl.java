@@ -1,18 +1,40 @@
 package com.reliaquest.api.service.impl;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.NotFoundIdCache;
+import com.reliaquest.api.cache.RosterSnapshot;
 import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.request.EmployeeBulkCreationDto;
+import com.reliaquest.api.dto.request.EmployeeBulkDeletionDto;
+import com.reliaquest.api.dto.request.EmployeeBulkLookupDto;
 import com.reliaquest.api.dto.request.EmployeeCreationDto;
-import com.reliaquest.api.dto.request.EmployeeDeletionDto;
 import com.reliaquest.api.dto.response.*;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.ResourceNotFoundException;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.upstream.AdaptiveRateLimiter;
+import com.reliaquest.api.upstream.QueryPushdown;
+import com.reliaquest.api.upstream.RequestCoalescer;
+import com.reliaquest.api.upstream.RetryPolicy;
+import com.reliaquest.api.upstream.RosterPager;
+import com.reliaquest.api.upstream.RosterStreamReader;
+import com.reliaquest.api.upstream.UpstreamCircuitBreaker;
+import com.reliaquest.api.util.RetryAfterUtil;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -20,25 +42,77 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpClientErrorException.*;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
+@ConditionalOnProperty(prefix = "mock.employee.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final MockEmployeeProperties mockEmployeeProperties;
 
     private final RestTemplate restTemplate;
 
+    private final EmployeeRosterCache employeeRosterCache;
+
+    private final RequestCoalescer requestCoalescer;
+
+    private final AdaptiveRateLimiter rateLimiter;
+
+    private final RetryPolicy retryPolicy;
+
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    private final RosterStreamReader rosterStreamReader;
+
+    private final RosterPager rosterPager;
+
+    private final QueryPushdown queryPushdown;
+
+    private final NotFoundIdCache notFoundIdCache;
+
     /**
      * Constructor for EmployeeServiceImpl.
      *
-     * @param restTemplate the RestTemplate to make HTTP requests.
+     * @param restTemplate        the RestTemplate to make HTTP requests.
+     * @param employeeRosterCache the local cache of the full employee roster.
+     * @param requestCoalescer    shares identical concurrent upstream reads.
+     * @param rateLimiter         paces upstream calls against the learned upstream budget.
+     * @param retryPolicy         retries idempotent upstream calls on transient failures.
+     * @param circuitBreaker      fails upstream calls fast while the upstream is failing or slow.
+     * @param rosterStreamReader  reads the upstream roster one employee at a time when it is not cached.
+     * @param rosterPager         walks the upstream roster page by page for reads that may stop early.
+     * @param queryPushdown       decides whether roster queries are answered by the upstream.
+     * @param notFoundIdCache     remembers IDs the upstream recently reported as unknown.
      */
     @Autowired
-    public EmployeeServiceImpl(RestTemplate restTemplate, MockEmployeeProperties mockEmployeeProperties) {
+    public EmployeeServiceImpl(
+            RestTemplate restTemplate,
+            MockEmployeeProperties mockEmployeeProperties,
+            EmployeeRosterCache employeeRosterCache,
+            RequestCoalescer requestCoalescer,
+            AdaptiveRateLimiter rateLimiter,
+            RetryPolicy retryPolicy,
+            UpstreamCircuitBreaker circuitBreaker,
+            RosterStreamReader rosterStreamReader,
+            RosterPager rosterPager,
+            QueryPushdown queryPushdown,
+            NotFoundIdCache notFoundIdCache
+    ) {
         this.restTemplate = restTemplate;
         this.mockEmployeeProperties = mockEmployeeProperties;
+        this.employeeRosterCache = employeeRosterCache;
+        this.requestCoalescer = requestCoalescer;
+        this.rateLimiter = rateLimiter;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.rosterStreamReader = rosterStreamReader;
+        this.rosterPager = rosterPager;
+        this.queryPushdown = queryPushdown;
+        this.notFoundIdCache = notFoundIdCache;
     }
 
     /**
@@ -48,17 +122,36 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public List<EmployeeEntityDto> getAllEmployees() {
+        if (employeeRosterCache.isEnabled()) {
+            RosterSnapshot snapshot = fetchRosterSnapshot();
+            List<EmployeeEntityDto> employees = new ArrayList<>(snapshot.size());
+            snapshot.forEachRecord(employeeRecord -> employees.add(convertToEmployee(employeeRecord)));
+            return employees;
+        }
+
         List<EmployeeEntityDto> employees = new ArrayList<>();
 
-        List<EmployeeServerDto> allEmployees = fetchAllEmployees();
-        for (EmployeeServerDto employeeDto : allEmployees) {
-            EmployeeEntityDto employee = convertToEmployee(employeeDto);
-            employees.add(employee);
-        }
+        forEachEmployee(employeeDto -> employees.add(convertToEmployee(employeeDto)));
 
         return employees;
     }
 
+    /**
+     * Passes every employee to the given consumer as soon as it is available, without collecting or converting them.
+     * With the roster cache enabled the consumer is handed a reused view over each row of the cached snapshot, so it
+     * must not keep the records it is given.
+     *
+     * @param consumer receives every employee, in roster order.
+     */
+    @Override
+    public void streamAllEmployees(Consumer<EmployeeRecord> consumer) {
+        if (employeeRosterCache.isEnabled()) {
+            fetchRosterSnapshot().forEachRecord(consumer);
+        } else {
+            streamUpstreamRoster(consumer::accept);
+        }
+    }
+
     /**
      * Searches for employees by name in the external API and returns a list of matching EmployeeEntityDto objects.
      *
@@ -67,13 +160,59 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public List<EmployeeEntityDto> getEmployeesByNameSearch(String searchString) {
+        if (shouldPushDown()) {
+            Optional<List<EmployeeEntityDto>> pushedDown = queryPushdown.execute("search", () -> convertAll(
+                    makeHttpRequest(
+                            mockEmployeeProperties.getUri() + "/search?name={name}",
+                            HttpMethod.GET,
+                            null,
+                            EmployeeListApiResponseDto.class,
+                            Map.of("name", searchString),
+                            null
+                    )));
+            if (pushedDown.isPresent()) {
+                return pushedDown.get();
+            }
+        }
+
+        if (employeeRosterCache.isEnabled()) {
+            return convertAll(fetchRosterSnapshot().searchByName(searchString, Integer.MAX_VALUE));
+        }
+
         List<EmployeeEntityDto> employees = new ArrayList<>();
-        List<EmployeeServerDto> allEmployees = fetchAllEmployees();
+        String needle = searchString.toLowerCase();
 
-        for (EmployeeServerDto employeeDto : allEmployees) {
-            if (employeeDto.getEmployeeName().toLowerCase().contains(searchString.toLowerCase())) {
-                EmployeeEntityDto employee = convertToEmployee(employeeDto);
-                employees.add(employee);
+        forEachEmployee(employeeDto -> {
+            if (employeeDto.getEmployeeName().toLowerCase().contains(needle)) {
+                employees.add(convertToEmployee(employeeDto));
+            }
+        });
+
+        return employees;
+    }
+
+    /**
+     * Searches for employees by name and returns at most {@code limit} matches, in roster order. Without the roster
+     * cache the roster is read page by page and no further page is fetched once enough matches are found.
+     *
+     * @param searchString the string to search for in employee names.
+     * @param limit        the maximum number of matches to return.
+     * @return List of at most {@code limit} EmployeeEntityDto objects matching the search criteria.
+     */
+    @Override
+    public List<EmployeeEntityDto> getEmployeesByNameSearch(String searchString, int limit) {
+        if (employeeRosterCache.isEnabled()) {
+            return convertAll(fetchRosterSnapshot().searchByName(searchString, limit));
+        }
+
+        List<EmployeeEntityDto> employees = new ArrayList<>();
+        String needle = searchString.toLowerCase();
+        Iterator<EmployeeServerDto> roster = iterateEmployees();
+
+        while (employees.size() < limit && roster.hasNext()) {
+            EmployeeServerDto employeeDto = roster.next();
+            if (employeeDto.getEmployeeName().toLowerCase().contains(needle)) {
+                employees.add(convertToEmployee(employeeDto));
             }
         }
 
@@ -82,6 +221,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     /**
      * Fetches an employee by ID from the external API and converts it to an EmployeeEntityDto object.
+     * An ID the upstream recently reported as unknown is answered as not found without calling it again.
      *
      * @param id the ID of the employee to retrieve.
      * @return EmployeeEntityDto object representing the employee with the specified ID.
@@ -89,6 +229,11 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public EmployeeEntityDto getEmployeeById(String id) {
+        UUID uuid = UUID.fromString(id);
+        if (notFoundIdCache.isKnownMissing(uuid)) {
+            throw new EmployeeNotFoundException("Employee with ID " + id + " not found.");
+        }
+
         EmployeeApiResponseDto response;
 
         try {
@@ -101,7 +246,10 @@ public class EmployeeServiceImpl implements EmployeeService {
                     null
             );
         } catch (ResourceNotFoundException ex) {
+            notFoundIdCache.recordMissing(uuid);
             throw new EmployeeNotFoundException("Employee with ID " + id + " not found.");
+        } catch (TooManyRequestsException | UpstreamUnavailableException ex) {
+            return findCachedEmployee(id).orElseThrow(() -> ex);
         }
 
         if (response != null && response.getData() != null) {
@@ -121,14 +269,37 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        List<EmployeeServerDto> allEmployees = fetchAllEmployees();
+        if (shouldPushDown()) {
+            Optional<Integer> pushedDown = queryPushdown.execute("highestSalary", () -> {
+                SalaryApiResponseDto response = makeHttpRequest(
+                        mockEmployeeProperties.getUri() + "/highestSalary",
+                        HttpMethod.GET,
+                        null,
+                        SalaryApiResponseDto.class,
+                        null,
+                        null
+                );
+                return response == null || response.getData() == null ? -1 : response.getData();
+            });
+            if (pushedDown.isPresent()) {
+                return pushedDown.get();
+            }
+        }
 
-        return allEmployees.stream()
-                .map(EmployeeServerDto::getEmployeeSalary)
-                .filter(Objects::nonNull)
-                .mapToInt(Integer::intValue)
-                .max()
-                .orElse(-1);
+        if (employeeRosterCache.isEnabled()) {
+            return fetchRosterSnapshot().highestSalary().orElse(-1);
+        }
+
+        int[] highest = {-1};
+
+        forEachEmployee(employeeDto -> {
+            Integer salary = employeeDto.getEmployeeSalary();
+            if (salary != null && salary > highest[0]) {
+                highest[0] = salary;
+            }
+        });
+
+        return highest[0];
     }
 
     /**
@@ -138,18 +309,52 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        List<EmployeeServerDto> allEmployees = fetchAllEmployees();
+        if (shouldPushDown()) {
+            Optional<List<String>> pushedDown = queryPushdown.execute("topEarners", () -> {
+                EmployeeListApiResponseDto response = makeHttpRequest(
+                        mockEmployeeProperties.getUri() + "/topEarners?limit=10",
+                        HttpMethod.GET,
+                        null,
+                        EmployeeListApiResponseDto.class,
+                        null,
+                        null
+                );
+                List<String> topTenNames = new ArrayList<>();
+                if (response != null && response.getData() != null) {
+                    // The upstream lists the highest earner first; keep the lowest-first order of the local path.
+                    for (int i = response.getData().size() - 1; i >= 0; i--) {
+                        topTenNames.add(response.getData().get(i).getEmployeeName());
+                    }
+                }
+                return topTenNames;
+            });
+            if (pushedDown.isPresent()) {
+                log.info("Successfully fetched top ten highest earning employee names: {}", pushedDown.get());
+                return pushedDown.get();
+            }
+        }
+
+        if (employeeRosterCache.isEnabled()) {
+            List<EmployeeServerDto> topEarners = fetchRosterSnapshot().topEarners(10);
+            List<String> topTenNames = new ArrayList<>(topEarners.size());
+            // The index lists the highest earner first; keep the lowest-first order of the heap below.
+            for (int i = topEarners.size() - 1; i >= 0; i--) {
+                topTenNames.add(topEarners.get(i).getEmployeeName());
+            }
+            log.info("Successfully fetched top ten highest earning employee names: {}", topTenNames);
+            return topTenNames;
+        }
 
         PriorityQueue<EmployeeServerDto> minHeap = new PriorityQueue<>((a, b) -> Integer.compare(a.getEmployeeSalary(), b.getEmployeeSalary()));
         List<String> topTenNames = new ArrayList<>();
 
-        for (EmployeeServerDto employeeDto : allEmployees) {
-            if (employeeDto.getEmployeeSalary() == null) continue;
+        forEachEmployee(employeeDto -> {
+            if (employeeDto.getEmployeeSalary() == null) return;
 
             minHeap.offer(employeeDto);
             if (minHeap.size() > 10)
                 minHeap.poll();
-        }
+        });
 
         while (!minHeap.isEmpty())
             topTenNames.add(minHeap.poll().getEmployeeName());
@@ -177,6 +382,8 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         if (response != null && response.getData() != null) {
             log.info("Successfully created employee: {}", response.getData());
+            employeeRosterCache.put(response.getData());
+            notFoundIdCache.forget(response.getData().getId());
             return convertToEmployee(response.getData());
         } else {
             throw new RuntimeException("Failed to create employee. Response was null or empty.");
@@ -185,38 +392,450 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     /**
      * Deletes an employee by ID using the external API and returns the name of the deleted employee.
+     * The delete goes through the upstream's bulk delete, which removes employees by ID, as a batch of one: a single
+     * upstream request that can only ever delete this employee, never another one sharing its name.
      *
      * @param id the ID of the employee to delete.
      * @return String representing the name of the deleted employee.
      */
     @Override
     public String deleteEmployeeById(String id) {
-        EmployeeEntityDto employee = getEmployeeById(id);
+        UUID uuid = UUID.fromString(id);
+        if (notFoundIdCache.isKnownMissing(uuid)) {
+            throw new EmployeeNotFoundException("Employee with ID " + id + " not found.");
+        }
 
-        EmployeeDeletionApiResponseDto response = makeHttpRequest(
-                mockEmployeeProperties.getUri(),
+        EmployeeListApiResponseDto response = makeHttpRequest(
+                mockEmployeeProperties.getUri() + "/bulk",
                 HttpMethod.DELETE,
                 null,
-                EmployeeDeletionApiResponseDto.class,
+                EmployeeListApiResponseDto.class,
                 null,
-                new EmployeeDeletionDto(employee.getEmployeeName())
+                new EmployeeBulkDeletionDto(List.of(uuid))
         );
 
-        if (response != null && response.getData() != null) {
-            log.info("Successfully deleted employee: {}", response.getData());
-            return employee.getEmployeeName();
-        } else {
+        if (response == null || response.getData() == null || response.getData().size() != 1) {
             log.warn("Failed to delete employee with ID: {}", id);
             return "";
         }
+        employeeRosterCache.remove(uuid);
+        EmployeeServerDto deleted = response.getData().get(0);
+        if (deleted == null) {
+            notFoundIdCache.recordMissing(uuid);
+            throw new EmployeeNotFoundException("Employee with ID " + id + " not found.");
+        }
+        log.info("Successfully deleted employee: {}", id);
+        return deleted.getEmployeeName();
+    }
+
+    /**
+     * Looks employees up by ID. IDs held by the cached roster, found through its hash index on ID, or recently
+     * reported as unknown by the upstream, are answered locally; the others are deduplicated and looked up upstream
+     * in batches of {@code mock.employee.bulk.lookup-batch-size}, one upstream request per batch. The IDs travel in
+     * the body of a POST, which changes nothing upstream, so the lookup is retried like a GET. A batch that fails is
+     * reported as failed item by item, and the employees found so far are still returned.
+     *
+     * @param ids the IDs of the employees to look up, expected to be valid UUIDs already.
+     * @return the result for each ID, in input order, holding the employee if there is one.
+     */
+    @Override
+    public EmployeeBulkResultDto getEmployeesByIds(List<String> ids) {
+        long start = System.nanoTime();
+        Optional<RosterSnapshot> snapshot = employeeRosterCache.peekSnapshot();
+        Map<UUID, EmployeeBulkResultDto.Item> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            UUID uuid = UUID.fromString(id);
+            if (resolved.containsKey(uuid)) {
+                continue;
+            }
+            Optional<EmployeeServerDto> cached = snapshot.flatMap(roster -> roster.findById(uuid));
+            if (cached.isPresent()) {
+                resolved.put(uuid, found(id, cached.get()));
+            } else if (notFoundIdCache.isKnownMissing(uuid)) {
+                resolved.put(uuid, notFound(id));
+            } else {
+                resolved.put(uuid, null);
+                misses.add(uuid.toString());
+            }
+        }
+
+        int batchSize = mockEmployeeProperties.getBulk().getLookupBatchSize();
+        List<EmployeeBulkResultDto.Item> fetched = new ArrayList<>(misses.size());
+        int upstreamRequests = sendInBatches("lookup", batchSize, misses, Function.identity(), (offset, batch) -> {
+            EmployeeListApiResponseDto response = makeIdempotentHttpRequest(
+                    mockEmployeeProperties.getUri() + "/bulk/lookup",
+                    HttpMethod.POST,
+                    EmployeeListApiResponseDto.class,
+                    new EmployeeBulkLookupDto(batch.stream().map(UUID::fromString).toList())
+            );
+            if (response == null || response.getData() == null || response.getData().size() != batch.size()) {
+                throw new UpstreamServiceException("Batch lookup response did not report every employee", null, false);
+            }
+            List<EmployeeBulkResultDto.Item> results = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                EmployeeServerDto employeeDto = response.getData().get(i);
+                if (employeeDto == null) {
+                    notFoundIdCache.recordMissing(UUID.fromString(batch.get(i)));
+                    results.add(notFound(batch.get(i)));
+                } else {
+                    results.add(found(batch.get(i), employeeDto));
+                }
+            }
+            return results;
+        }, fetched);
+        fetched.forEach(result -> resolved.put(UUID.fromString(result.getId()), result));
+
+        List<EmployeeBulkResultDto.Item> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            results.add(resolved.get(UUID.fromString(ids.get(i))).toBuilder()
+                    .index(i)
+                    .id(ids.get(i))
+                    .build());
+        }
+        log.debug("Batch lookup of {} IDs answered {} locally", ids.size(), resolved.size() - misses.size());
+        return summarize("lookup", results, upstreamRequests, start);
+    }
+
+    /**
+     * Creates employees in batches of {@code mock.employee.bulk.batch-size}, one upstream request per batch. The
+     * inputs are expected to be valid already: the upstream rejects a batch holding an invalid employee as a whole.
+     * A batch that fails is reported as failed item by item and does not stop the batches after it. Creates are not
+     * retried, so a failed batch may still have been created upstream.
+     *
+     * @param employeeInputs the employees to create.
+     * @return the result for each employee, in input order.
+     */
+    @Override
+    public EmployeeBulkResultDto createEmployees(List<EmployeeCreationDto> employeeInputs) {
+        return dispatchInBatches("create", employeeInputs, employeeInput -> null, (offset, batch) -> {
+            EmployeeListApiResponseDto response = makeHttpRequest(
+                    mockEmployeeProperties.getUri() + "/bulk",
+                    HttpMethod.POST,
+                    null,
+                    EmployeeListApiResponseDto.class,
+                    null,
+                    new EmployeeBulkCreationDto(batch)
+            );
+            List<EmployeeServerDto> created = response == null || response.getData() == null
+                    ? List.of()
+                    : response.getData();
+            List<EmployeeBulkResultDto.Item> results = new ArrayList<>(batch.size());
+            List<EmployeeServerDto> cached = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                EmployeeServerDto employeeDto = i < created.size() ? created.get(i) : null;
+                if (employeeDto == null) {
+                    results.add(failed(offset + i, null, "Upstream did not return the created employee"));
+                } else {
+                    cached.add(employeeDto);
+                    notFoundIdCache.forget(employeeDto.getId());
+                    results.add(EmployeeBulkResultDto.Item.builder()
+                            .index(offset + i)
+                            .status(EmployeeBulkResultDto.Status.CREATED)
+                            .id(employeeDto.getId().toString())
+                            .employee(convertToEmployee(employeeDto))
+                            .build());
+                }
+            }
+            employeeRosterCache.putAll(cached);
+            return results;
+        });
+    }
+
+    /**
+     * Deletes employees by ID in batches of {@code mock.employee.bulk.batch-size}, one upstream request per batch.
+     * The upstream deletes a batch by ID, so no employee has to be looked up first. The IDs are expected to be valid
+     * UUIDs already.
+     *
+     * @param ids the IDs of the employees to delete.
+     * @return the result for each ID, in input order, holding the deleted employee if there was one.
+     */
+    @Override
+    public EmployeeBulkResultDto deleteEmployeesByIds(List<String> ids) {
+        return dispatchInBatches("delete", ids, Function.identity(), (offset, batch) -> {
+            List<UUID> uuids = batch.stream().map(UUID::fromString).toList();
+            EmployeeListApiResponseDto response = makeHttpRequest(
+                    mockEmployeeProperties.getUri() + "/bulk",
+                    HttpMethod.DELETE,
+                    null,
+                    EmployeeListApiResponseDto.class,
+                    null,
+                    new EmployeeBulkDeletionDto(uuids)
+            );
+            if (response == null || response.getData() == null || response.getData().size() != batch.size()) {
+                throw new UpstreamServiceException("Bulk delete response did not report every employee", null, false);
+            }
+            List<EmployeeBulkResultDto.Item> results = new ArrayList<>(batch.size());
+            List<UUID> deleted = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                EmployeeServerDto employeeDto = response.getData().get(i);
+                EmployeeBulkResultDto.Item.ItemBuilder result = EmployeeBulkResultDto.Item.builder()
+                        .index(offset + i)
+                        .id(batch.get(i));
+                if (employeeDto == null) {
+                    result.status(EmployeeBulkResultDto.Status.NOT_FOUND);
+                } else {
+                    deleted.add(uuids.get(i));
+                    result.status(EmployeeBulkResultDto.Status.DELETED).employee(convertToEmployee(employeeDto));
+                }
+                results.add(result.build());
+            }
+            employeeRosterCache.removeAll(deleted);
+            return results;
+        });
+    }
+
+    /**
+     * Splits the items into batches of {@code mock.employee.bulk.batch-size} and sends them upstream one batch after
+     * another, collecting the per-item results and how fast the items went through.
+     *
+     * @param operation names the operation in the log.
+     * @param items     the items to dispatch.
+     * @param idOf      the employee ID an item refers to, if it names one, reported for items of a failed batch.
+     * @param batchCall sends one batch, given the index of its first item, and returns a result per item.
+     * @return the results of all items, in input order.
+     */
+    private <T> EmployeeBulkResultDto dispatchInBatches(
+            String operation,
+            List<T> items,
+            Function<T, String> idOf,
+            BiFunction<Integer, List<T>, List<EmployeeBulkResultDto.Item>> batchCall
+    ) {
+        long start = System.nanoTime();
+        List<EmployeeBulkResultDto.Item> results = new ArrayList<>(items.size());
+        int upstreamRequests = sendInBatches(
+                operation, mockEmployeeProperties.getBulk().getBatchSize(), items, idOf, batchCall, results);
+        return summarize(operation, results, upstreamRequests, start);
+    }
+
+    /**
+     * Sends the items upstream in batches of the given size, one batch after another. A batch that fails is reported
+     * as failed item by item and does not stop the batches after it.
+     *
+     * @param operation names the operation in the log.
+     * @param batchSize the most items per batch; at least one item is always sent per batch.
+     * @param items     the items to send.
+     * @param idOf      the employee ID an item refers to, if it names one, reported for items of a failed batch.
+     * @param batchCall sends one batch, given the index of its first item, and returns a result per item.
+     * @param results   receives the result of every item, in input order.
+     * @return the number of upstream requests made.
+     */
+    private <T> int sendInBatches(
+            String operation,
+            int batchSize,
+            List<T> items,
+            Function<T, String> idOf,
+            BiFunction<Integer, List<T>, List<EmployeeBulkResultDto.Item>> batchCall,
+            List<EmployeeBulkResultDto.Item> results
+    ) {
+        batchSize = Math.max(1, batchSize);
+        int upstreamRequests = 0;
+
+        for (int offset = 0; offset < items.size(); offset += batchSize) {
+            List<T> batch = items.subList(offset, Math.min(offset + batchSize, items.size()));
+            upstreamRequests++;
+            try {
+                results.addAll(batchCall.apply(offset, batch));
+            } catch (RuntimeException ex) {
+                log.warn("Bulk {} of items {} to {} failed: {}", operation, offset, offset + batch.size() - 1,
+                        ex.getMessage());
+                for (int i = 0; i < batch.size(); i++) {
+                    results.add(failed(offset + i, idOf.apply(batch.get(i)), ex.getMessage()));
+                }
+            }
+        }
+        return upstreamRequests;
+    }
+
+    /**
+     * Totals the per-item results of a bulk operation and logs its throughput. Items reported as not found are
+     * counted apart from both the succeeded and the failed ones: the upstream answered for them, but nothing was
+     * found or deleted.
+     *
+     * @param operation        names the operation in the log.
+     * @param results          the result of every requested item.
+     * @param upstreamRequests the number of upstream requests made.
+     * @param startNanos       when the operation started, from {@link System#nanoTime()}.
+     * @return the results with their totals.
+     */
+    private EmployeeBulkResultDto summarize(
+            String operation,
+            List<EmployeeBulkResultDto.Item> results,
+            int upstreamRequests,
+            long startNanos
+    ) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        int failed = 0;
+        int notFound = 0;
+        for (EmployeeBulkResultDto.Item result : results) {
+            if (result.getStatus() == EmployeeBulkResultDto.Status.FAILED) {
+                failed++;
+            } else if (result.getStatus() == EmployeeBulkResultDto.Status.NOT_FOUND) {
+                notFound++;
+            }
+        }
+        double itemsPerSecond = elapsedNanos > 0 ? results.size() * 1_000_000_000.0 / elapsedNanos : 0;
+        log.info("Bulk {} of {} employees took {} upstream requests and {} ms ({} employees/s), "
+                        + "{} not found, {} failed",
+                operation, results.size(), upstreamRequests, Duration.ofNanos(elapsedNanos).toMillis(),
+                Math.round(itemsPerSecond), notFound, failed);
+        return EmployeeBulkResultDto.builder()
+                .results(results)
+                .succeeded(results.size() - notFound - failed)
+                .notFound(notFound)
+                .failed(failed)
+                .upstreamRequests(upstreamRequests)
+                .elapsedMs(Duration.ofNanos(elapsedNanos).toMillis())
+                .itemsPerSecond(itemsPerSecond)
+                .build();
+    }
+
+    private EmployeeBulkResultDto.Item found(String id, EmployeeServerDto employeeDto) {
+        return EmployeeBulkResultDto.Item.builder()
+                .status(EmployeeBulkResultDto.Status.FOUND)
+                .id(id)
+                .employee(convertToEmployee(employeeDto))
+                .build();
+    }
+
+    private static EmployeeBulkResultDto.Item notFound(String id) {
+        return EmployeeBulkResultDto.Item.builder()
+                .status(EmployeeBulkResultDto.Status.NOT_FOUND)
+                .id(id)
+                .build();
+    }
+
+    private static EmployeeBulkResultDto.Item failed(int index, String id, String error) {
+        return EmployeeBulkResultDto.Item.builder()
+                .index(index)
+                .status(EmployeeBulkResultDto.Status.FAILED)
+                .id(id)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Whether roster queries should be answered by the upstream: only when the roster is not already held locally,
+     * since a cached roster answers them without any upstream request.
+     *
+     * @return true if the query should be pushed down.
+     */
+    private boolean shouldPushDown() {
+        return queryPushdown.isAvailable()
+                && (!employeeRosterCache.isEnabled() || employeeRosterCache.peekSnapshot().isEmpty());
+    }
+
+    /**
+     * Converts the employees of a list response.
+     *
+     * @param response the list response, possibly null.
+     * @return the converted employees, empty if the response holds none.
+     */
+    private List<EmployeeEntityDto> convertAll(EmployeeListApiResponseDto response) {
+        if (response == null || response.getData() == null) {
+            return List.of();
+        }
+        return convertAll(response.getData());
+    }
+
+    /**
+     * Converts a list of employees.
+     *
+     * @param employeeDtos the employees to convert.
+     * @return the converted employees, in the same order.
+     */
+    private List<EmployeeEntityDto> convertAll(List<EmployeeServerDto> employeeDtos) {
+        List<EmployeeEntityDto> employees = new ArrayList<>(employeeDtos.size());
+        for (EmployeeServerDto employeeDto : employeeDtos) {
+            employees.add(convertToEmployee(employeeDto));
+        }
+        return employees;
+    }
+
+    /**
+     * Passes every employee to the given consumer. With the roster cache enabled the cached roster is iterated;
+     * without it the upstream response is parsed as it streams in, so the roster is never materialized.
+     *
+     * @param consumer receives every employee, in roster order.
+     */
+    private void forEachEmployee(Consumer<EmployeeServerDto> consumer) {
+        if (employeeRosterCache.isEnabled()) {
+            fetchAllEmployees().forEach(consumer);
+        } else {
+            streamUpstreamRoster(consumer);
+        }
     }
 
     /**
-     * Fetches all employees from the external API.
+     * Returns a lazy iterator over all employees for reads that may stop early. With the roster cache enabled the
+     * cached roster is iterated; without it the roster is fetched one page at a time as the iterator advances.
+     *
+     * @return an iterator over all employees, in roster order.
+     */
+    private Iterator<EmployeeServerDto> iterateEmployees() {
+        if (employeeRosterCache.isEnabled()) {
+            return fetchAllEmployees().iterator();
+        }
+        return rosterPager.iterate(this::fetchEmployeePage);
+    }
+
+    /**
+     * Fetches one page of employees from the external API. Pages are plain GETs, so they are coalesced, retried and
+     * guarded by the circuit breaker like any other roster read.
+     *
+     * @param cursor the cursor returned with the previous page, or 0 for the first page.
+     * @param limit  the maximum number of employees to fetch.
+     * @return the page, with the cursor of the next one unless the upstream reported no further page.
+     */
+    private RosterPager.Page fetchEmployeePage(long cursor, int limit) {
+        String url = mockEmployeeProperties.getUri() + "?limit=" + limit + "&cursor=" + cursor;
+        ResponseEntity<EmployeeListApiResponseDto> response = requestCoalescer.execute(
+                HttpMethod.GET,
+                url,
+                () -> retryPolicy.execute(HttpMethod.GET, url, () -> callUpstream(
+                        url,
+                        () -> restTemplate.exchange(
+                                url, HttpMethod.GET, HttpEntity.EMPTY, EmployeeListApiResponseDto.class, Map.of())
+                ))
+        );
+
+        EmployeeListApiResponseDto body = response.getBody();
+        List<EmployeeServerDto> employees = body == null || body.getData() == null ? List.of() : body.getData();
+        String nextCursor = response.getHeaders().getFirst(RosterPager.NEXT_CURSOR_HEADER);
+        if (nextCursor == null) {
+            return new RosterPager.Page(employees, OptionalLong.empty());
+        }
+        try {
+            return new RosterPager.Page(employees, OptionalLong.of(Long.parseLong(nextCursor)));
+        } catch (NumberFormatException ex) {
+            throw new UpstreamServiceException("Upstream returned an invalid page cursor: " + nextCursor, ex, false);
+        }
+    }
+
+    /**
+     * Fetches the cached roster snapshot with its indexes, loading it on a cold cache.
+     *
+     * @return the roster snapshot.
+     */
+    private RosterSnapshot fetchRosterSnapshot() {
+        return employeeRosterCache.getSnapshot(this::loadAllEmployees);
+    }
+
+    /**
+     * Fetches all employees, serving them from the local roster cache when it holds a copy.
      *
      * @return List of EmployeeServerDto objects representing all employees.
      */
     private List<EmployeeServerDto> fetchAllEmployees() {
+        return employeeRosterCache.get(this::loadAllEmployees);
+    }
+
+    /**
+     * Loads all employees from the external API.
+     *
+     * @return List of EmployeeServerDto objects representing all employees.
+     */
+    private List<EmployeeServerDto> loadAllEmployees() {
         EmployeeListApiResponseDto response = makeHttpRequest(
                 mockEmployeeProperties.getUri(),
                 HttpMethod.GET,
@@ -235,8 +854,57 @@ public class EmployeeServiceImpl implements EmployeeService {
         return response.getData();
     }
 
+    /**
+     * Streams all employees from the external API to the given consumer while the response body is being read.
+     * Streamed reads are not coalesced, and a failed read is only retried if no employee has been delivered yet.
+     *
+     * @param consumer receives every employee, in roster order.
+     */
+    private void streamUpstreamRoster(Consumer<EmployeeServerDto> consumer) {
+        String url = mockEmployeeProperties.getUri();
+        long count = retryPolicy.execute(HttpMethod.GET, url, () -> {
+            AtomicBoolean delivered = new AtomicBoolean();
+            try {
+                return callUpstream(url, () -> restTemplate.execute(
+                        url,
+                        HttpMethod.GET,
+                        restTemplate.acceptHeaderRequestCallback(EmployeeListApiResponseDto.class),
+                        response -> rosterStreamReader.read(response.getBody(), employeeDto -> {
+                            delivered.set(true);
+                            consumer.accept(employeeDto);
+                        })
+                ));
+            } catch (UpstreamServiceException ex) {
+                if (delivered.get() && ex.isRetryable()) {
+                    throw new UpstreamServiceException(ex.getMessage(), ex.getCause(), false);
+                }
+                throw ex;
+            }
+        });
+
+        log.info("Successfully streamed {} employees", count);
+    }
+
+    /**
+     * Looks an employee up in the last cached roster, used when the upstream cannot be called.
+     *
+     * @param id the ID of the employee to look up.
+     * @return the cached employee, or empty if there is no cached roster or it does not contain the ID.
+     */
+    private Optional<EmployeeEntityDto> findCachedEmployee(String id) {
+        UUID uuid = UUID.fromString(id);
+        Optional<EmployeeEntityDto> cached = employeeRosterCache.peekSnapshot()
+                .flatMap(snapshot -> snapshot.findById(uuid))
+                .map(this::convertToEmployee);
+        cached.ifPresent(employee -> log.info("Upstream unavailable, serving employee {} from the cached roster", id));
+        return cached;
+    }
+
     /**
      * Makes an HTTP request to the specified URL with the given parameters.
+     * Plain GET requests are coalesced, so concurrent callers asking for the same URL share one upstream call,
+     * idempotent requests are retried on transient failures, and every call fails fast while the circuit breaker
+     * is open.
      *
      * @param url          the URL to make the request to.
      * @param httpMethod   the HTTP method to use (GET, POST, DELETE, etc.).
@@ -255,25 +923,110 @@ public class EmployeeServiceImpl implements EmployeeService {
             Map<String, ?> uriVariables,
             Object requestBody
     ) throws HttpClientErrorException {
-        HttpEntity<?> entity = (requestBody != null) ? new HttpEntity<>(requestBody, headers)
-                : new HttpEntity<>(headers);
-
-        try {
-            ResponseEntity<T> response = restTemplate.exchange(
-                    url,
+        if (headers == null && requestBody == null && (uriVariables == null || uriVariables.isEmpty())) {
+            return requestCoalescer.execute(
                     httpMethod,
-                    entity,
-                    responseType,
-                    uriVariables != null ? uriVariables : Map.of()
+                    url,
+                    () -> retryPolicy.execute(
+                            httpMethod, url, () -> exchange(url, httpMethod, null, responseType, null, null))
             );
-            return response.getBody();
-        } catch (TooManyRequests ex) {
-            throw new TooManyRequestsException("Too many requests made to the employee service. Please try again later.");
-        } catch (NotFound ex) {
-            throw new ResourceNotFoundException("Resource not found at URL: " + url);
-        } catch (Exception ex) {
-            throw new RuntimeException("An error occurred while making the HTTP request: " + ex.getMessage(), ex);
         }
+        return retryPolicy.execute(
+                httpMethod,
+                url,
+                () -> exchange(url, httpMethod, headers, responseType, uriVariables, requestBody)
+        );
+    }
+
+    /**
+     * Makes an HTTP request that changes nothing upstream although its method is not idempotent, such as a lookup
+     * sending its IDs in a POST body. It is retried on transient failures like a GET, but not coalesced.
+     *
+     * @param url          the URL to make the request to.
+     * @param httpMethod   the HTTP method to use.
+     * @param responseType the type of response expected.
+     * @param requestBody  the body of the request.
+     * @return the response body of type T.
+     */
+    private <T> T makeIdempotentHttpRequest(
+            String url,
+            HttpMethod httpMethod,
+            Class<T> responseType,
+            Object requestBody
+    ) {
+        return retryPolicy.execute(
+                httpMethod,
+                url,
+                true,
+                () -> exchange(url, httpMethod, null, responseType, null, requestBody)
+        );
+    }
+
+    /**
+     * Performs a single HTTP exchange with the external API.
+     *
+     * @param url          the URL to make the request to.
+     * @param httpMethod   the HTTP method to use (GET, POST, DELETE, etc.).
+     * @param headers      the HTTP headers to include in the request.
+     * @param responseType the type of response expected.
+     * @param uriVariables variables to be replaced in the URL.
+     * @param requestBody  the body of the request (if applicable).
+     * @return the response body of type T.
+     */
+    private <T> T exchange(
+            String url,
+            HttpMethod httpMethod,
+            HttpHeaders headers,
+            Class<T> responseType,
+            Map<String, ?> uriVariables,
+            Object requestBody
+    ) {
+        HttpEntity<?> entity = (requestBody != null) ? new HttpEntity<>(requestBody, headers)
+                : new HttpEntity<>(headers);
+
+        return callUpstream(url, () -> restTemplate.exchange(
+                url,
+                httpMethod,
+                entity,
+                responseType,
+                uriVariables != null ? uriVariables : Map.of()
+        ).getBody());
+    }
+
+    /**
+     * Performs a single call to the external API under the circuit breaker and the rate limiter, and translates its
+     * failures. Each attempt of a retried request passes the breaker on its own, and only the call itself is timed,
+     * not the wait for a limiter permit or the backoff before a retry.
+     *
+     * @param url  the URL being called, used in error messages.
+     * @param call performs the call.
+     * @return the result of the call.
+     */
+    private <T> T callUpstream(String url, Supplier<T> call) {
+        return circuitBreaker.execute(rateLimiter::acquire, () -> {
+            try {
+                T result = call.get();
+                rateLimiter.recordAdmitted();
+                return result;
+            } catch (TooManyRequests ex) {
+                Duration retryAfter = RetryAfterUtil.parse(ex.getResponseHeaders());
+                rateLimiter.recordThrottled(retryAfter);
+                throw new TooManyRequestsException(
+                        "Too many requests made to the employee service. Please try again later.", retryAfter);
+            } catch (NotFound ex) {
+                rateLimiter.recordAdmitted();
+                throw new ResourceNotFoundException("Resource not found at URL: " + url);
+            } catch (Exception ex) {
+                if (ex instanceof HttpStatusCodeException) {
+                    rateLimiter.recordAdmitted();
+                }
+                boolean transientFailure = ex instanceof ResourceAccessException
+                        || ex instanceof HttpServerErrorException serverError && !QueryPushdown.isIdConversionFailure(
+                                serverError.getStatusCode().value(), serverError.getResponseBodyAsString());
+                throw new UpstreamServiceException(
+                        "An error occurred while making the HTTP request: " + ex.getMessage(), ex, transientFailure);
+            }
+        });
     }
 
     /**
@@ -292,4 +1045,23 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .employeeAge(dto.getEmployeeAge())
                 .build();
     }
+
+    /**
+     * Converts an employee straight from a row of the cached roster, without creating an EmployeeServerDto first.
+     *
+     * @param employeeRecord the view of the employee, which must not be kept.
+     * @return EmployeeEntityDto object representing the employee.
+     */
+    private EmployeeEntityDto convertToEmployee(EmployeeRecord employeeRecord) {
+        return EmployeeEntityDto.builder()
+                .id(employeeRecord.hasId()
+                        ? new UUID(employeeRecord.idMostSignificantBits(), employeeRecord.idLeastSignificantBits())
+                        : null)
+                .employeeEmail(employeeRecord.getEmployeeEmail())
+                .employeeName(employeeRecord.getEmployeeName())
+                .employeeSalary(employeeRecord.hasEmployeeSalary() ? employeeRecord.employeeSalary() : null)
+                .employeeTitle(employeeRecord.getEmployeeTitle())
+                .employeeAge(employeeRecord.hasEmployeeAge() ? employeeRecord.employeeAge() : null)
+                .build();
+    }
 }
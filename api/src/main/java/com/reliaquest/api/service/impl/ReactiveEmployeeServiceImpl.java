@@ -0,0 +1,758 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.NotFoundIdCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.request.EmployeeBulkDeletionDto;
+import com.reliaquest.api.dto.request.EmployeeCreationDto;
+import com.reliaquest.api.dto.response.*;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.upstream.AdaptiveRateLimiter;
+import com.reliaquest.api.upstream.QueryPushdown;
+import com.reliaquest.api.upstream.RequestCoalescer;
+import com.reliaquest.api.upstream.RetryPolicy;
+import com.reliaquest.api.upstream.RosterPager;
+import com.reliaquest.api.upstream.RosterStreamReader;
+import com.reliaquest.api.upstream.UpstreamCircuitBreaker;
+import com.reliaquest.api.util.RetryAfterUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeServiceImpl} on top of WebClient, selected with
+ * {@code mock.employee.reactive.enabled}.
+ * <p>
+ * Every upstream call is part of a Reactor pipeline running on the WebClient's event loop, so a request waiting for
+ * the upstream holds no thread. The full roster is read with one streamed request whose body is decoded as it arrives,
+ * so a roster load takes one upstream call and one rate limiter token however large the roster is. A search with a
+ * limit reads the roster page by page instead, and a page is only requested once the one before it is consumed: a
+ * search that stops early stops fetching pages too. Idempotent calls are retried
+ * as {@link RetryPolicy} decides, waiting out the backoff on a timer rather than a sleeping thread, and all attempts
+ * of a call share the request deadline.
+ * <p>
+ * Upstream calls are guarded like the blocking ones, without blocking: identical plain reads in flight share one call
+ * through the {@link RequestCoalescer}, and every attempt asks the {@link UpstreamCircuitBreaker} for a permit and
+ * takes an {@link AdaptiveRateLimiter} token before it is sent. A learned lockout is waited out on a timer, for at
+ * most {@code max-queue-wait}, and a request that would wait longer is shed.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "mock.employee.reactive", name = "enabled", havingValue = "true")
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private static final int TOP_EARNERS = 10;
+
+    private final WebClient webClient;
+
+    private final MockEmployeeProperties mockEmployeeProperties;
+
+    private final EmployeeRosterCache employeeRosterCache;
+
+    private final RetryPolicy retryPolicy;
+
+    private final QueryPushdown queryPushdown;
+
+    private final NotFoundIdCache notFoundIdCache;
+
+    private final RequestCoalescer requestCoalescer;
+
+    private final AdaptiveRateLimiter rateLimiter;
+
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    private final RosterStreamReader rosterStreamReader;
+
+    private final Clock clock;
+
+    /**
+     * Constructor for ReactiveEmployeeServiceImpl.
+     *
+     * @param employeeWebClient      the non-blocking client to call the mock employee server with.
+     * @param mockEmployeeProperties the properties holding the upstream URI, paging and retry settings.
+     * @param employeeRosterCache    the local cache of the full employee roster.
+     * @param retryPolicy            decides which failed upstream calls are retried, and when.
+     * @param queryPushdown          decides whether roster queries are answered by the upstream.
+     * @param notFoundIdCache        remembers IDs the upstream recently reported as unknown.
+     * @param requestCoalescer       shares identical in-flight upstream reads.
+     * @param rateLimiter            keeps upstream calls within the budget learned from its throttling.
+     * @param circuitBreaker         stops calling the upstream while it keeps failing.
+     * @param rosterStreamReader     decodes the roster response as it streams in.
+     */
+    @Autowired
+    public ReactiveEmployeeServiceImpl(
+            WebClient employeeWebClient,
+            MockEmployeeProperties mockEmployeeProperties,
+            EmployeeRosterCache employeeRosterCache,
+            RetryPolicy retryPolicy,
+            QueryPushdown queryPushdown,
+            NotFoundIdCache notFoundIdCache,
+            RequestCoalescer requestCoalescer,
+            AdaptiveRateLimiter rateLimiter,
+            UpstreamCircuitBreaker circuitBreaker,
+            RosterStreamReader rosterStreamReader
+    ) {
+        this(employeeWebClient, mockEmployeeProperties, employeeRosterCache, retryPolicy, queryPushdown,
+                notFoundIdCache, requestCoalescer, rateLimiter, circuitBreaker, rosterStreamReader, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for ReactiveEmployeeServiceImpl.
+     *
+     * @param employeeWebClient      the non-blocking client to call the mock employee server with.
+     * @param mockEmployeeProperties the properties holding the upstream URI, paging and retry settings.
+     * @param employeeRosterCache    the local cache of the full employee roster.
+     * @param retryPolicy            decides which failed upstream calls are retried, and when.
+     * @param queryPushdown          decides whether roster queries are answered by the upstream.
+     * @param notFoundIdCache        remembers IDs the upstream recently reported as unknown.
+     * @param requestCoalescer       shares identical in-flight upstream reads.
+     * @param rateLimiter            keeps upstream calls within the budget learned from its throttling.
+     * @param circuitBreaker         stops calling the upstream while it keeps failing.
+     * @param rosterStreamReader     decodes the roster response as it streams in.
+     * @param clock                  the clock request deadlines and queue waits are measured with.
+     */
+    public ReactiveEmployeeServiceImpl(
+            WebClient employeeWebClient,
+            MockEmployeeProperties mockEmployeeProperties,
+            EmployeeRosterCache employeeRosterCache,
+            RetryPolicy retryPolicy,
+            QueryPushdown queryPushdown,
+            NotFoundIdCache notFoundIdCache,
+            RequestCoalescer requestCoalescer,
+            AdaptiveRateLimiter rateLimiter,
+            UpstreamCircuitBreaker circuitBreaker,
+            RosterStreamReader rosterStreamReader,
+            Clock clock
+    ) {
+        this.webClient = employeeWebClient;
+        this.mockEmployeeProperties = mockEmployeeProperties;
+        this.employeeRosterCache = employeeRosterCache;
+        this.retryPolicy = retryPolicy;
+        this.queryPushdown = queryPushdown;
+        this.notFoundIdCache = notFoundIdCache;
+        this.requestCoalescer = requestCoalescer;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.rosterStreamReader = rosterStreamReader;
+        this.clock = clock;
+    }
+
+    /**
+     * Emits all employees, from the cached roster or streamed from the external API.
+     *
+     * @return Flux of EmployeeEntityDto objects representing all employees, in roster order.
+     */
+    @Override
+    public Flux<EmployeeEntityDto> getAllEmployees() {
+        return roster().map(this::convertToEmployee);
+    }
+
+    /**
+     * Searches for employees by name, pushing the search down to the external API while the roster is not cached.
+     *
+     * @param searchString the string to search for in employee names.
+     * @return Flux of EmployeeEntityDto objects matching the search criteria.
+     */
+    @Override
+    public Flux<EmployeeEntityDto> getEmployeesByNameSearch(String searchString) {
+        Mono<List<EmployeeEntityDto>> local = employeeRosterCache.isEnabled()
+                ? rosterSnapshot().map(snapshot -> convertAll(snapshot.searchByName(searchString, Integer.MAX_VALUE)))
+                : scanRoster(streamRoster(), searchString).collectList();
+
+        return pushDown(
+                "search",
+                exchange(HttpMethod.GET, mockEmployeeProperties.getUri() + "/search?name={name}",
+                        Map.of("name", searchString), null, EmployeeListApiResponseDto.class)
+                        .map(response -> convertAll(response))
+                        .defaultIfEmpty(List.of()),
+                local
+        ).flatMapIterable(employees -> employees);
+    }
+
+    /**
+     * Searches for employees by name and emits at most {@code limit} matches, in roster order. Without the roster
+     * cache no further page is requested once enough matches are found.
+     *
+     * @param searchString the string to search for in employee names.
+     * @param limit        the maximum number of matches to emit.
+     * @return Flux of at most {@code limit} EmployeeEntityDto objects matching the search criteria.
+     */
+    @Override
+    public Flux<EmployeeEntityDto> getEmployeesByNameSearch(String searchString, int limit) {
+        if (employeeRosterCache.isEnabled()) {
+            return rosterSnapshot()
+                    .flatMapIterable(snapshot -> snapshot.searchByName(searchString, limit))
+                    .map(this::convertToEmployee);
+        }
+        return scanRoster(pageRoster(), searchString).take(limit);
+    }
+
+    /**
+     * Fetches an employee by ID from the external API, falling back to the cached roster while the upstream is
+     * throttling. An ID the upstream recently reported as unknown is answered as not found without calling it again.
+     *
+     * @param id the ID of the employee to retrieve.
+     * @return Mono of the employee, failing with EmployeeNotFoundException if there is no employee with the ID.
+     */
+    @Override
+    public Mono<EmployeeEntityDto> getEmployeeById(String id) {
+        UUID uuid = UUID.fromString(id);
+        if (notFoundIdCache.isKnownMissing(uuid)) {
+            return Mono.error(new EmployeeNotFoundException("Employee with ID " + id + " not found."));
+        }
+
+        return exchange(HttpMethod.GET, mockEmployeeProperties.getUri() + "/" + id, Map.of(), null,
+                EmployeeApiResponseDto.class)
+                .filter(response -> response.getData() != null)
+                .doOnNext(response -> log.info("Successfully fetched employee: {}", response))
+                .map(response -> convertToEmployee(response.getData()))
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException("Employee with ID " + id + " not found.")))
+                .onErrorMap(ResourceNotFoundException.class, ex -> {
+                    notFoundIdCache.recordMissing(uuid);
+                    return new EmployeeNotFoundException("Employee with ID " + id + " not found.");
+                })
+                .onErrorResume(TooManyRequestsException.class,
+                        ex -> findCachedEmployee(id).map(Mono::just).orElseGet(() -> Mono.error(ex)));
+    }
+
+    /**
+     * Fetches the highest salary among all employees.
+     *
+     * @return Mono of the highest salary, or -1 if no employee has one.
+     */
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        Mono<Integer> local = employeeRosterCache.isEnabled()
+                ? rosterSnapshot().map(snapshot -> snapshot.highestSalary().orElse(-1))
+                : streamRoster()
+                        .filter(employeeDto -> employeeDto.getEmployeeSalary() != null)
+                        .map(EmployeeServerDto::getEmployeeSalary)
+                        .reduce(-1, (highest, salary) -> Math.max(highest, salary));
+
+        return pushDown(
+                "highestSalary",
+                exchange(HttpMethod.GET, mockEmployeeProperties.getUri() + "/highestSalary", Map.of(), null,
+                        SalaryApiResponseDto.class)
+                        .map(response -> response.getData() == null ? -1 : response.getData())
+                        .defaultIfEmpty(-1),
+                local
+        );
+    }
+
+    /**
+     * Fetches the names of the top ten highest earning employees.
+     *
+     * @return Mono of the names, lowest earner first.
+     */
+    @Override
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        Mono<List<String>> local = employeeRosterCache.isEnabled()
+                ? rosterSnapshot().map(snapshot -> namesLowestFirst(snapshot.topEarners(TOP_EARNERS)))
+                : streamRoster()
+                        .filter(employeeDto -> employeeDto.getEmployeeSalary() != null)
+                        .collect(
+                                () -> new PriorityQueue<EmployeeServerDto>(
+                                        Comparator.comparing(EmployeeServerDto::getEmployeeSalary)),
+                                (minHeap, employeeDto) -> {
+                                    minHeap.offer(employeeDto);
+                                    if (minHeap.size() > TOP_EARNERS) {
+                                        minHeap.poll();
+                                    }
+                                })
+                        .map(minHeap -> {
+                            List<String> topTenNames = new ArrayList<>(minHeap.size());
+                            while (!minHeap.isEmpty()) {
+                                topTenNames.add(minHeap.poll().getEmployeeName());
+                            }
+                            return topTenNames;
+                        });
+
+        return pushDown(
+                "topEarners",
+                exchange(HttpMethod.GET, mockEmployeeProperties.getUri() + "/topEarners?limit=" + TOP_EARNERS,
+                        Map.of(), null, EmployeeListApiResponseDto.class)
+                        .map(response -> response.getData() == null
+                                ? List.<String>of()
+                                : namesLowestFirst(response.getData()))
+                        .defaultIfEmpty(List.of()),
+                local
+        ).doOnNext(topTenNames -> log.info("Successfully fetched top ten highest earning employee names: {}",
+                topTenNames));
+    }
+
+    /**
+     * Creates a new employee using the external API.
+     *
+     * @param employeeInput the EmployeeCreationDto object containing the details of the employee to create.
+     * @return Mono of the created employee.
+     */
+    @Override
+    public Mono<EmployeeEntityDto> createEmployee(EmployeeCreationDto employeeInput) {
+        return exchange(HttpMethod.POST, mockEmployeeProperties.getUri(), Map.of(), employeeInput,
+                EmployeeApiResponseDto.class)
+                .filter(response -> response.getData() != null)
+                .switchIfEmpty(Mono.error(
+                        () -> new RuntimeException("Failed to create employee. Response was null or empty.")))
+                .map(response -> {
+                    log.info("Successfully created employee: {}", response.getData());
+                    employeeRosterCache.put(response.getData());
+                    notFoundIdCache.forget(response.getData().getId());
+                    return convertToEmployee(response.getData());
+                });
+    }
+
+    /**
+     * Deletes an employee by ID using the external API. As in {@link EmployeeServiceImpl}, the delete goes through
+     * the upstream's bulk delete as a batch of one, so it is a single upstream request that removes exactly the
+     * employee with this ID.
+     *
+     * @param id the ID of the employee to delete.
+     * @return Mono of the name of the deleted employee, or an empty name if the upstream gave no answer.
+     */
+    @Override
+    public Mono<String> deleteEmployeeById(String id) {
+        UUID uuid = UUID.fromString(id);
+        if (notFoundIdCache.isKnownMissing(uuid)) {
+            return Mono.error(new EmployeeNotFoundException("Employee with ID " + id + " not found."));
+        }
+
+        return exchange(HttpMethod.DELETE, mockEmployeeProperties.getUri() + "/bulk", Map.of(),
+                new EmployeeBulkDeletionDto(List.of(uuid)), EmployeeListApiResponseDto.class)
+                .filter(response -> response.getData() != null && response.getData().size() == 1)
+                .flatMap(response -> {
+                    employeeRosterCache.remove(uuid);
+                    EmployeeServerDto deleted = response.getData().get(0);
+                    if (deleted == null) {
+                        notFoundIdCache.recordMissing(uuid);
+                        return Mono.error(new EmployeeNotFoundException("Employee with ID " + id + " not found."));
+                    }
+                    log.info("Successfully deleted employee: {}", id);
+                    return Mono.just(deleted.getEmployeeName());
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("Failed to delete employee with ID: {}", id);
+                    return "";
+                }));
+    }
+
+    /**
+     * Whether roster queries should be answered by the upstream, as in {@link EmployeeServiceImpl}.
+     *
+     * @return true if the query should be pushed down.
+     */
+    private boolean shouldPushDown() {
+        return queryPushdown.isAvailable()
+                && (!employeeRosterCache.isEnabled() || employeeRosterCache.peekSnapshot().isEmpty());
+    }
+
+    /**
+     * Answers a roster query with the upstream while push-down is worthwhile, and locally otherwise. An answer showing
+     * that the upstream does not offer the query turns push-down off and answers the query locally.
+     *
+     * @param query    identifies the query in logs and metrics.
+     * @param pushed   asks the upstream.
+     * @param fallback computes the answer from the roster.
+     * @return Mono of the answer.
+     */
+    private <T> Mono<T> pushDown(String query, Mono<T> pushed, Mono<T> fallback) {
+        return Mono.defer(() -> {
+            if (!shouldPushDown()) {
+                return fallback;
+            }
+            return pushed
+                    .doOnNext(result -> queryPushdown.recordPushed(query))
+                    .onErrorResume(QueryPushdown::isUnsupportedAnswer, ex -> {
+                        queryPushdown.recordUnsupported(query);
+                        return fallback;
+                    });
+        });
+    }
+
+    /**
+     * Emits every employee: from the cached roster when the cache is enabled, streamed from the upstream otherwise.
+     *
+     * @return Flux of all employees, in roster order.
+     */
+    private Flux<EmployeeServerDto> roster() {
+        if (employeeRosterCache.isEnabled()) {
+            return rosterSnapshot().flatMapIterable(RosterSnapshot::employees);
+        }
+        return streamRoster();
+    }
+
+    /**
+     * Emits the employees of an upstream roster read whose name contains the search string, ignoring case.
+     *
+     * @param employees    the upstream roster read.
+     * @param searchString the string to search for in employee names.
+     * @return Flux of the matching employees, in roster order.
+     */
+    private Flux<EmployeeEntityDto> scanRoster(Flux<EmployeeServerDto> employees, String searchString) {
+        String needle = searchString.toLowerCase();
+        return employees
+                .filter(employeeDto -> employeeDto.getEmployeeName() != null
+                        && employeeDto.getEmployeeName().toLowerCase().contains(needle))
+                .map(this::convertToEmployee);
+    }
+
+    /**
+     * Fetches the cached roster snapshot, loading it on a cold cache. A warm cache answers in place with the snapshot
+     * it just handed out; only when it had none is the roster loaded, on the bounded-elastic scheduler, so a load never
+     * blocks an event loop even if the cache is invalidated in between.
+     *
+     * @return Mono of the roster snapshot.
+     */
+    private Mono<RosterSnapshot> rosterSnapshot() {
+        return Mono.defer(() -> employeeRosterCache.getLoadedSnapshot(this::loadRoster)
+                .map(Mono::just)
+                .orElseGet(() -> Mono.fromSupplier(() -> employeeRosterCache.getSnapshot(this::loadRoster))
+                        .subscribeOn(Schedulers.boundedElastic())));
+    }
+
+    /**
+     * Loads all employees for the roster cache, which calls this on a bounded-elastic thread or on its own refresh
+     * thread, where waiting for the roster is allowed.
+     *
+     * @return List of EmployeeServerDto objects representing all employees.
+     */
+    private List<EmployeeServerDto> loadRoster() {
+        return streamRoster().collectList().block();
+    }
+
+    /**
+     * Streams the upstream roster with one request, emitting every employee as soon as it has been decoded. The body
+     * is read no faster than the subscriber asks for employees. Streamed reads are not coalesced, and a failed read is
+     * only retried if no employee has been emitted yet, as in the blocking service.
+     *
+     * @return Flux of all employees, in roster order.
+     */
+    private Flux<EmployeeServerDto> streamRoster() {
+        String url = mockEmployeeProperties.getUri();
+        return Flux.defer(() -> {
+            AtomicLong delivered = new AtomicLong();
+            return upstream(HttpMethod.GET, url, webClient.get()
+                    .uri(url)
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .transform(rosterStreamReader::decode)
+                    .doOnNext(employeeDto -> delivered.incrementAndGet())
+                    .onErrorMap(ex -> {
+                        Throwable failure = ex instanceof IOException
+                                ? new UpstreamServiceException("Upstream returned an unreadable roster: "
+                                        + ex.getMessage(), ex, true)
+                                : translate(url, ex);
+                        if (delivered.get() > 0 && failure instanceof UpstreamServiceException upstreamFailure
+                                && upstreamFailure.isRetryable()) {
+                            return new UpstreamServiceException(
+                                    upstreamFailure.getMessage(), upstreamFailure.getCause(), false);
+                        }
+                        return failure;
+                    }))
+                    .doOnComplete(() -> log.info("Successfully streamed {} employees", delivered.get()));
+        });
+    }
+
+    /**
+     * Emits the upstream roster page by page, for reads that may stop early. The next page is requested only once the
+     * employees of the previous one have been consumed, so the upstream is read no faster than the subscriber asks
+     * for employees.
+     *
+     * @return Flux of all employees, in roster order.
+     */
+    private Flux<EmployeeServerDto> pageRoster() {
+        int pageSize = mockEmployeeProperties.getPaging().getPageSize();
+        return fetchEmployeePage(0, pageSize)
+                .expand(page -> page.nextCursor().isPresent()
+                        ? fetchEmployeePage(page.nextCursor().getAsLong(), pageSize)
+                        : Mono.empty())
+                .concatMapIterable(RosterPager.Page::employees, 1);
+    }
+
+    /**
+     * Fetches one page of employees from the external API.
+     *
+     * @param cursor the cursor returned with the previous page, or 0 for the first page.
+     * @param limit  the maximum number of employees to fetch.
+     * @return Mono of the page, with the cursor of the next one unless the upstream reported no further page.
+     */
+    private Mono<RosterPager.Page> fetchEmployeePage(long cursor, int limit) {
+        String url = mockEmployeeProperties.getUri() + "?limit=" + limit + "&cursor=" + cursor;
+        return coalesced(HttpMethod.GET, url, upstream(HttpMethod.GET, url, webClient.get()
+                .uri(url)
+                .retrieve()
+                .toEntity(EmployeeListApiResponseDto.class)))
+                .map(this::toPage);
+    }
+
+    /**
+     * Reads a page and the cursor of the next one from a page response.
+     *
+     * @param response the page response.
+     * @return the page.
+     */
+    private RosterPager.Page toPage(ResponseEntity<EmployeeListApiResponseDto> response) {
+        EmployeeListApiResponseDto body = response.getBody();
+        List<EmployeeServerDto> employees = body == null || body.getData() == null ? List.of() : body.getData();
+        String nextCursor = response.getHeaders().getFirst(RosterPager.NEXT_CURSOR_HEADER);
+        if (nextCursor == null) {
+            return new RosterPager.Page(employees, OptionalLong.empty());
+        }
+        try {
+            return new RosterPager.Page(employees, OptionalLong.of(Long.parseLong(nextCursor)));
+        } catch (NumberFormatException ex) {
+            throw new UpstreamServiceException("Upstream returned an invalid page cursor: " + nextCursor, ex, false);
+        }
+    }
+
+    /**
+     * Looks an employee up in the last cached roster, used when the upstream cannot be called.
+     *
+     * @param id the ID of the employee to look up.
+     * @return the cached employee, or empty if there is no cached roster or it does not contain the ID.
+     */
+    private Optional<EmployeeEntityDto> findCachedEmployee(String id) {
+        UUID uuid = UUID.fromString(id);
+        Optional<EmployeeEntityDto> cached = employeeRosterCache.peekSnapshot()
+                .flatMap(snapshot -> snapshot.findById(uuid))
+                .map(this::convertToEmployee);
+        cached.ifPresent(employee -> log.info("Upstream unavailable, serving employee {} from the cached roster", id));
+        return cached;
+    }
+
+    /**
+     * Makes an HTTP request to the external API and emits its response body, if it has one. Plain reads without a
+     * body or URI variables share an identical read already in flight.
+     *
+     * @param httpMethod   the HTTP method to use (GET, POST, DELETE, etc.).
+     * @param url          the URL to make the request to.
+     * @param uriVariables variables to be replaced in the URL.
+     * @param requestBody  the body of the request, or null for none.
+     * @param responseType the type of response expected.
+     * @return Mono of the response body.
+     */
+    private <T> Mono<T> exchange(
+            HttpMethod httpMethod,
+            String url,
+            Map<String, ?> uriVariables,
+            Object requestBody,
+            Class<T> responseType
+    ) {
+        WebClient.RequestBodySpec request = webClient.method(httpMethod).uri(url, uriVariables);
+        WebClient.RequestHeadersSpec<?> spec = requestBody != null ? request.bodyValue(requestBody) : request;
+        Mono<T> call = upstream(httpMethod, url, spec.retrieve().bodyToMono(responseType));
+        return requestBody == null && uriVariables.isEmpty() ? coalesced(httpMethod, url, call) : call;
+    }
+
+    /**
+     * Shares an upstream read with any identical read already in flight, as the blocking service does. The shared
+     * call runs to completion even if the subscriber that started it cancels, since others may be waiting on it.
+     *
+     * @param httpMethod the HTTP method of the call; only GET requests are shared.
+     * @param url        the URL of the call, identifying it.
+     * @param call       the guarded and retried upstream call.
+     * @return Mono of the result of the shared call.
+     */
+    private <T> Mono<T> coalesced(HttpMethod httpMethod, String url, Mono<T> call) {
+        return Mono.fromFuture(() -> requestCoalescer.executeAsync(httpMethod, url, call::toFuture));
+    }
+
+    /**
+     * Runs an upstream call with its failures translated, retrying it as {@link RetryPolicy} decides. Every attempt is
+     * {@link #guarded(Flux) guarded} by the circuit breaker and the rate limiter, and every retry subscribes to the
+     * call again, which sends a new request. All attempts together are bounded by the request deadline.
+     *
+     * @param httpMethod the HTTP method of the call.
+     * @param url        the URL of the call, used in error messages and metrics.
+     * @param call       sends the request when subscribed to.
+     * @return Mono of the result of the first successful attempt.
+     */
+    private <T> Mono<T> upstream(HttpMethod httpMethod, String url, Mono<T> call) {
+        return upstream(httpMethod, url, call.flux()).singleOrEmpty();
+    }
+
+    /**
+     * Runs a streamed upstream call like {@link #upstream(HttpMethod, String, Mono)}. The request deadline bounds the
+     * wait for the first element, retries included, and then the wait for every further element, so a long stream
+     * is only cut off when it stalls.
+     *
+     * @param httpMethod the HTTP method of the call.
+     * @param url        the URL of the call, used in error messages and metrics.
+     * @param call       sends the request when subscribed to.
+     * @return Flux of the elements of the first attempt that did not fail before it was retried.
+     */
+    private <T> Flux<T> upstream(HttpMethod httpMethod, String url, Flux<T> call) {
+        Duration requestDeadline = mockEmployeeProperties.getRetry().getRequestDeadline();
+        Flux<T> attempt = guarded(call.onErrorMap(ex -> translate(url, ex)));
+        return Flux.defer(() -> {
+            Instant deadline = clock.instant().plus(requestDeadline);
+            return attempt
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                        Throwable failure = signal.failure();
+                        Optional<Duration> delay = failure instanceof RuntimeException runtimeFailure
+                                ? retryPolicy.nextDelay(httpMethod, url, (int) signal.totalRetries() + 1,
+                                        runtimeFailure, Duration.between(clock.instant(), deadline))
+                                : Optional.empty();
+                        return delay.map(Mono::delay).orElseGet(() -> Mono.error(failure));
+                    })))
+                    .timeout(requestDeadline)
+                    .onErrorMap(TimeoutException.class, ex -> new UpstreamServiceException(
+                            "Upstream call to " + url + " did not complete within " + requestDeadline, ex, false));
+        });
+    }
+
+    /**
+     * Sends one attempt of an upstream call once the circuit breaker lets it through and the rate limiter grants a
+     * token. The breaker permit is handed back if no token is granted or the attempt is cancelled, and the call is
+     * timed from when it is sent.
+     *
+     * @param call sends the request when subscribed to, with its failures translated.
+     * @return Flux of the result of the attempt, failing with an UpstreamUnavailableException if the circuit is open.
+     */
+    private <T> Flux<T> guarded(Flux<T> call) {
+        return Flux.defer(() -> {
+            UpstreamCircuitBreaker.Permit permit = circuitBreaker.acquirePermit();
+            Instant queueDeadline = clock.instant().plus(mockEmployeeProperties.getRateLimit().getMaxQueueWait());
+            return admit(queueDeadline, false)
+                    .onErrorResume(ex -> {
+                        permit.release();
+                        return Mono.error(ex);
+                    })
+                    .thenMany(Flux.defer(() -> {
+                        permit.markSent();
+                        return call
+                                .doOnComplete(() -> {
+                                    rateLimiter.recordAdmitted();
+                                    permit.onSuccess();
+                                })
+                                .doOnError(permit::onFailure);
+                    }))
+                    .doOnCancel(permit::release);
+        });
+    }
+
+    /**
+     * Takes a rate limiter token, waiting out a learned lockout on a timer instead of a thread.
+     *
+     * @param queueDeadline until when the request may wait for the lockout to end.
+     * @param waited        whether the request already waited.
+     * @return Mono completing once a token is taken, or failing with a TooManyRequestsException if the request is shed.
+     */
+    private Mono<Void> admit(Instant queueDeadline, boolean waited) {
+        return Mono.defer(() -> {
+            Duration wait = rateLimiter.tryAcquire(Duration.between(clock.instant(), queueDeadline), waited);
+            return wait.isZero() ? Mono.empty() : Mono.delay(wait).then(admit(queueDeadline, true));
+        });
+    }
+
+    /**
+     * Translates a WebClient failure into the exceptions the rest of the api handles, telling the rate limiter
+     * whether the upstream admitted or throttled the request.
+     *
+     * @param url the URL being called, used in error messages.
+     * @param ex  the failure.
+     * @return the translated failure.
+     */
+    private Throwable translate(String url, Throwable ex) {
+        if (ex instanceof WebClientResponseException.TooManyRequests tooManyRequests) {
+            Duration retryAfter = RetryAfterUtil.parse(tooManyRequests.getHeaders());
+            rateLimiter.recordThrottled(retryAfter);
+            return new TooManyRequestsException(
+                    "Too many requests made to the employee service. Please try again later.", retryAfter);
+        }
+        if (ex instanceof WebClientResponseException) {
+            rateLimiter.recordAdmitted();
+        }
+        if (ex instanceof WebClientResponseException.NotFound) {
+            return new ResourceNotFoundException("Resource not found at URL: " + url);
+        }
+        if (ex instanceof WebClientResponseException || ex instanceof WebClientRequestException) {
+            boolean transientFailure = ex instanceof WebClientRequestException
+                    || ex instanceof WebClientResponseException response
+                            && response.getStatusCode().is5xxServerError()
+                            && !QueryPushdown.isIdConversionFailure(
+                                    response.getStatusCode().value(), response.getResponseBodyAsString());
+            return new UpstreamServiceException(
+                    "An error occurred while making the HTTP request: " + ex.getMessage(), ex, transientFailure);
+        }
+        return ex;
+    }
+
+    /**
+     * Lists the names of employees given highest earner first, lowest earner first.
+     *
+     * @param topEarners the employees, highest earner first.
+     * @return their names, lowest earner first.
+     */
+    private static List<String> namesLowestFirst(List<EmployeeServerDto> topEarners) {
+        List<String> names = new ArrayList<>(topEarners.size());
+        for (int i = topEarners.size() - 1; i >= 0; i--) {
+            names.add(topEarners.get(i).getEmployeeName());
+        }
+        return names;
+    }
+
+    /**
+     * Converts the employees of a list response.
+     *
+     * @param response the list response.
+     * @return the converted employees, empty if the response holds none.
+     */
+    private List<EmployeeEntityDto> convertAll(EmployeeListApiResponseDto response) {
+        return response.getData() == null ? List.of() : convertAll(response.getData());
+    }
+
+    /**
+     * Converts a list of employees.
+     *
+     * @param employeeDtos the employees to convert.
+     * @return the converted employees, in the same order.
+     */
+    private List<EmployeeEntityDto> convertAll(List<EmployeeServerDto> employeeDtos) {
+        List<EmployeeEntityDto> employees = new ArrayList<>(employeeDtos.size());
+        for (EmployeeServerDto employeeDto : employeeDtos) {
+            employees.add(convertToEmployee(employeeDto));
+        }
+        return employees;
+    }
+
+    /**
+     * Converts an EmployeeServerDto object to an EmployeeEntityDto object.
+     *
+     * @param dto the EmployeeServerDto object to convert.
+     * @return EmployeeEntityDto object representing the employee.
+     */
+    private EmployeeEntityDto convertToEmployee(EmployeeServerDto dto) {
+        return EmployeeEntityDto.builder()
+                .id(dto.getId())
+                .employeeEmail(dto.getEmployeeEmail())
+                .employeeName(dto.getEmployeeName())
+                .employeeSalary(dto.getEmployeeSalary())
+                .employeeTitle(dto.getEmployeeTitle())
+                .employeeAge(dto.getEmployeeAge())
+                .build();
+    }
+}
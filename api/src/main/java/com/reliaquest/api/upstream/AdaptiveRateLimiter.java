@@ -0,0 +1,355 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side AIMD limiter that learns the mock employee server's request budget and lockout window.
+ * <p>
+ * The upstream admits a fixed number of requests and then rejects everything with 429 until a lockout has passed
+ * since the last admitted request. This limiter hands out that many tokens per window; when a window is used up
+ * without being throttled it lets one probe request further (additive increase), and later requests wait until the
+ * learned lockout has passed since the last admitted request, which starts a new window. A 429 ends the window: if it
+ * came after more requests than expected, the observed count becomes the new budget, otherwise the budget shrinks
+ * multiplicatively. Requests are then held back locally until the learned lockout has passed, waiting at most
+ * {@code max-queue-wait} before being shed with a {@link TooManyRequestsException}. A probe that is still throttled
+ * after the lockout grows the learned lockout.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimiter {
+
+    private static final Duration MIN_PAUSE = Duration.ofSeconds(1);
+
+    private final MockEmployeeProperties.RateLimit settings;
+
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition lockoutPassed = lock.newCondition();
+
+    private int budget;
+
+    private int remaining;
+
+    private int admittedThisWindow;
+
+    private int windowBudget;
+
+    private Duration backoff;
+
+    private Instant lockedUntil = Instant.MIN;
+
+    private Instant lastAdmittedAt;
+
+    private boolean probing;
+
+    private boolean probedThisWindow;
+
+    private final Counter granted;
+
+    private final Counter queued;
+
+    private final Counter shed;
+
+    private final Counter throttled;
+
+    /**
+     * Constructor for AdaptiveRateLimiter.
+     *
+     * @param mockEmployeeProperties the properties holding the limiter settings.
+     * @param meterRegistry          the registry to publish limiter metrics to.
+     */
+    @Autowired
+    public AdaptiveRateLimiter(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry) {
+        this(mockEmployeeProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for AdaptiveRateLimiter.
+     *
+     * @param mockEmployeeProperties the properties holding the limiter settings.
+     * @param meterRegistry          the registry to publish limiter metrics to.
+     * @param clock                  the clock used to time lockouts.
+     */
+    public AdaptiveRateLimiter(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.settings = mockEmployeeProperties.getRateLimit();
+        this.clock = clock;
+        this.budget = settings.getInitialBudget();
+        this.remaining = budget;
+        this.windowBudget = budget;
+        this.backoff = settings.getInitialBackoff();
+        this.lastAdmittedAt = clock.instant();
+
+        this.granted = decisionCounter(meterRegistry, "granted");
+        this.queued = decisionCounter(meterRegistry, "queued");
+        this.shed = decisionCounter(meterRegistry, "shed");
+        this.throttled = Counter.builder("employee.upstream.limiter.throttled")
+                .description("429 responses received from the upstream")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.limiter.budget", this, AdaptiveRateLimiter::getEstimatedBudget)
+                .description("Learned number of requests the upstream admits per window")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.limiter.remaining", this, AdaptiveRateLimiter::getRemaining)
+                .description("Requests left in the current window")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.limiter.backoff", this, limiter -> limiter.getEstimatedBackoff().toMillis() / 1000.0)
+                .description("Learned upstream lockout after the budget is spent")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token for one upstream request, waiting out a learned lockout for at most {@code max-queue-wait}.
+     *
+     * @throws TooManyRequestsException if the request is shed because the upstream is locked out.
+     */
+    public void acquire() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            boolean waited = false;
+            long queueDeadline = System.nanoTime() + settings.getMaxQueueWait().toNanos();
+            while (true) {
+                Duration wait = admit(Duration.ofNanos(queueDeadline - System.nanoTime()), waited);
+                if (wait.isZero()) {
+                    return;
+                }
+                waited = true;
+                lockoutPassed.awaitNanos(wait.toNanos());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            shed.increment();
+            throw new TooManyRequestsException("Interrupted while waiting for the employee service budget.", ex, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a token for one upstream request if one is available now, without waiting. Callers that must not block
+     * wait out the returned duration on a timer and try again, passing how much of {@code max-queue-wait} is left.
+     *
+     * @param queueWaitLeft how much longer the request may still wait for a lockout to end.
+     * @param waited        whether the request already waited, so that it is counted as queued once granted.
+     * @return zero if a token was taken, otherwise how long until the lockout or the window ends.
+     * @throws TooManyRequestsException if the request is shed because the wait outlasts {@code queueWaitLeft}.
+     */
+    public Duration tryAcquire(Duration queueWaitLeft, boolean waited) {
+        if (!settings.isEnabled()) {
+            return Duration.ZERO;
+        }
+
+        lock.lock();
+        try {
+            return admit(queueWaitLeft, waited);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a token unless the upstream is locked out or this window's budget and probe are used up. Must be called
+     * holding the lock.
+     *
+     * @return zero if a token was taken, otherwise how long until the lockout or the window ends.
+     */
+    private Duration admit(Duration queueWaitLeft, boolean waited) {
+        Instant now = clock.instant();
+        if (now.isBefore(lockedUntil)) {
+            Duration wait = Duration.between(now, lockedUntil);
+            if (wait.compareTo(queueWaitLeft) > 0) {
+                shed.increment();
+                throw new TooManyRequestsException(
+                        "Employee service budget exhausted; request shed locally. Please try again later.",
+                        wait,
+                        true);
+            }
+            return wait;
+        }
+
+        if (remaining == 0 && probedThisWindow) {
+            Instant windowEnd = lastAdmittedAt.plus(backoff);
+            if (now.isBefore(windowEnd)) {
+                Duration wait = Duration.between(now, windowEnd);
+                if (wait.compareTo(queueWaitLeft) > 0) {
+                    shed.increment();
+                    throw new TooManyRequestsException(
+                            "Employee service budget used up for this window; request shed locally. Please try again later.",
+                            wait,
+                            true);
+                }
+                return wait;
+            }
+            startWindow();
+        }
+
+        if (remaining > 0) {
+            remaining--;
+        } else if (probing) {
+            shed.increment();
+            throw new TooManyRequestsException(
+                    "Employee service is recovering from a lockout; request shed locally. Please try again later.",
+                    MIN_PAUSE,
+                    true);
+        } else {
+            budget += settings.getAdditiveIncrease();
+            probedThisWindow = true;
+            log.debug("Window used up without throttling; probing with budget {}", budget);
+        }
+        (waited ? queued : granted).increment();
+        return Duration.ZERO;
+    }
+
+    /**
+     * Records that the upstream admitted a request, whatever its response status other than 429.
+     */
+    public void recordAdmitted() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            admittedThisWindow++;
+            lastAdmittedAt = clock.instant();
+            probing = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a 429 from the upstream, ending the current window and starting a local lockout.
+     *
+     * @param retryAfter the lockout advertised by the upstream, or null if none was sent.
+     */
+    public void recordThrottled(Duration retryAfter) {
+        throttled.increment();
+        if (!settings.isEnabled()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            if (now.isBefore(lockedUntil)) {
+                return;
+            }
+
+            if (probing) {
+                backoff = min(multiply(backoff, settings.getBackoffGrowth()), settings.getMaxBackoff());
+                log.debug("Upstream still locked out after probing; learned lockout grown to {}", backoff);
+            } else if (admittedThisWindow >= windowBudget) {
+                budget = Math.max(settings.getMinBudget(), admittedThisWindow);
+            } else {
+                budget = Math.max(settings.getMinBudget(), (int) Math.floor(budget * settings.getDecreaseFactor()));
+            }
+
+            Instant learnedEnd = lastAdmittedAt.plus(backoff);
+            Instant earliest = now.plus(MIN_PAUSE);
+            lockedUntil = retryAfter != null
+                    ? now.plus(retryAfter)
+                    : (learnedEnd.isAfter(earliest) ? learnedEnd : earliest);
+            startWindow();
+            probing = true;
+            log.info("Upstream throttled; budget estimated at {} requests, holding requests until {}", budget, lockedUntil);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands out a fresh window of tokens at the learned budget. Must be called holding the lock.
+     */
+    private void startWindow() {
+        remaining = budget;
+        windowBudget = budget;
+        admittedThisWindow = 0;
+        probedThisWindow = false;
+    }
+
+    /**
+     * @return the learned number of requests the upstream admits per window.
+     */
+    public int getEstimatedBudget() {
+        lock.lock();
+        try {
+            return budget;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the requests left in the current window.
+     */
+    public int getRemaining() {
+        lock.lock();
+        try {
+            return remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the learned lockout applied after the upstream throttles.
+     */
+    public Duration getEstimatedBackoff() {
+        lock.lock();
+        try {
+            return backoff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return whether requests are currently being held back locally.
+     */
+    public boolean isLockedOut() {
+        lock.lock();
+        try {
+            return clock.instant().isBefore(lockedUntil);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getShedCount() {
+        return (long) shed.count();
+    }
+
+    private static Duration multiply(Duration duration, double factor) {
+        return Duration.ofMillis((long) (duration.toMillis() * factor));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.upstream.limiter.decisions")
+                .description("Upstream requests by limiter decision")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
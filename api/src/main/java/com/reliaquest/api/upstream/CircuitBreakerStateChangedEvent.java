@@ -0,0 +1,21 @@
+package com.reliaquest.api.upstream;
+
+import java.time.Instant;
+
+/**
+ * Published whenever the {@link UpstreamCircuitBreaker} moves from one state to another.
+ *
+ * @param from         the state the breaker left.
+ * @param to           the state the breaker entered.
+ * @param failureRate  the failure rate, in percent, that led to the transition; -1 if not rate driven.
+ * @param slowCallRate the slow-call rate, in percent, that led to the transition; -1 if not rate driven.
+ * @param at           when the transition happened.
+ */
+public record CircuitBreakerStateChangedEvent(
+        UpstreamCircuitBreaker.State from,
+        UpstreamCircuitBreaker.State to,
+        double failureRate,
+        double slowCallRate,
+        Instant at
+) {
+}
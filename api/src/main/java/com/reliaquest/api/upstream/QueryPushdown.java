@@ -0,0 +1,156 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Decides whether roster queries (name search, highest salary, top earners) are answered by the mock employee
+ * server instead of shipping the whole roster to the api.
+ * <p>
+ * A pushed-down query is one small upstream request. Support is detected at runtime: the first query that the
+ * upstream does not recognise turns push-down off for the lifetime of the application, and every caller falls back to
+ * computing the answer from the roster. A server without the query endpoints routes their paths to its by-id lookup,
+ * which rejects the path segment as an ID with a 400, or with a 500 when the server maps every error to 500; either
+ * way the body names the failed UUID conversion. A 404 is taken as unsupported too. Any other 400, such as a
+ * parameter the query endpoint rejected, is an error like any other and leaves push-down on. Servers that answer
+ * unknown paths in any other way have to be opted out with {@code mock.employee.pushdown.enabled=false}.
+ */
+@Slf4j
+@Component
+public class QueryPushdown {
+
+    /** Part of the message Spring reports when a path segment cannot be converted to the UUID of a by-id lookup. */
+    private static final String ID_CONVERSION_FAILURE = "required type 'java.util.UUID'";
+
+    private final MockEmployeeProperties.Pushdown settings;
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean supported = true;
+
+    /**
+     * Constructor for QueryPushdown.
+     *
+     * @param mockEmployeeProperties the push-down settings.
+     * @param meterRegistry          the registry to publish push-down metrics to.
+     */
+    @Autowired
+    public QueryPushdown(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry) {
+        this.settings = mockEmployeeProperties.getPushdown();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return whether queries should currently be pushed down to the upstream.
+     */
+    public boolean isAvailable() {
+        return settings.isEnabled() && supported;
+    }
+
+    /**
+     * Runs a pushed-down query.
+     *
+     * @param query identifies the query in logs and metrics.
+     * @param call  performs the upstream request.
+     * @return the upstream answer, or empty if the upstream does not support the query and the caller has to
+     *     compute it from the roster.
+     */
+    public <T> Optional<T> execute(String query, Supplier<T> call) {
+        try {
+            T result = call.get();
+            recordPushed(query);
+            return Optional.of(result);
+        } catch (RuntimeException ex) {
+            if (!isUnsupportedAnswer(ex)) {
+                throw ex;
+            }
+            recordUnsupported(query);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether a failed pushed-down query means the upstream does not offer the query endpoints.
+     *
+     * @param failure the failure of the upstream request, as translated by the caller.
+     * @return true for a 404, or a 400 or 500 caused by converting the query path to an employee ID.
+     */
+    public static boolean isUnsupportedAnswer(Throwable failure) {
+        if (failure instanceof ResourceNotFoundException) {
+            return true;
+        }
+        if (!(failure instanceof UpstreamServiceException)) {
+            return false;
+        }
+        if (failure.getCause() instanceof HttpStatusCodeException http) {
+            return isUnsupportedAnswer(http.getStatusCode().value(), http.getResponseBodyAsString());
+        }
+        if (failure.getCause() instanceof WebClientResponseException web) {
+            return isUnsupportedAnswer(web.getStatusCode().value(), web.getResponseBodyAsString());
+        }
+        return false;
+    }
+
+    /**
+     * Whether an upstream error is a by-id lookup failing to convert a path segment to a UUID. The same request
+     * fails the same way every time, so such a 500 is not worth retrying.
+     *
+     * @param status the HTTP status of the upstream answer.
+     * @param body   the body of the upstream answer.
+     * @return true if the upstream answered 500 for a failed UUID conversion.
+     */
+    public static boolean isIdConversionFailure(int status, String body) {
+        return status == 500 && namesIdConversion(body);
+    }
+
+    private static boolean isUnsupportedAnswer(int status, String body) {
+        return (status == 400 || status == 500) && namesIdConversion(body);
+    }
+
+    private static boolean namesIdConversion(String body) {
+        return body != null && body.contains(ID_CONVERSION_FAILURE);
+    }
+
+    /**
+     * Records a query the upstream answered, for callers that make the upstream request themselves.
+     *
+     * @param query identifies the query in metrics.
+     */
+    public void recordPushed(String query) {
+        count(query, "pushed");
+    }
+
+    /**
+     * Records a query the upstream did not recognise and turns push-down off, for callers that make the upstream
+     * request themselves.
+     *
+     * @param query identifies the query in logs and metrics.
+     */
+    public void recordUnsupported(String query) {
+        if (supported) {
+            supported = false;
+            log.warn("Upstream does not support query push-down ({} was not recognised), computing queries locally", query);
+        }
+        count(query, "unsupported");
+    }
+
+    private void count(String query, String outcome) {
+        Counter.builder("employee.upstream.pushdown")
+                .description("Roster queries pushed down to the upstream, by query and outcome")
+                .tag("query", query)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,191 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.util.UriTemplateUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing of identical upstream reads.
+ * <p>
+ * Concurrent callers asking for the same method and URL share one in-flight call: the first caller (the leader)
+ * performs it and every caller that arrives while it is running (a waiter) receives the leader's result or
+ * exception. Once the call completes the key is released, so a later caller triggers a fresh call. Only
+ * {@code GET} requests are coalesced; any other method is always executed directly.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter leaders;
+
+    private final Counter waiters;
+
+    /**
+     * Constructor for RequestCoalescer.
+     *
+     * @param meterRegistry the registry to publish coalescing metrics to.
+     */
+    @Autowired
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.leaders = Counter.builder("employee.upstream.coalescing.calls")
+                .description("Upstream reads grouped by whether they went over the wire or joined one in flight")
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.waiters = Counter.builder("employee.upstream.coalescing.calls")
+                .description("Upstream reads grouped by whether they went over the wire or joined one in flight")
+                .tag("role", "waiter")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.coalescing.in.flight", inFlight, ConcurrentMap::size)
+                .description("Distinct upstream reads currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executes the given upstream call, sharing it with any identical call already in flight.
+     *
+     * @param httpMethod the HTTP method of the call.
+     * @param key        identifies the call, typically the full request URL.
+     * @param call       performs the upstream call.
+     * @return the result of the shared call.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(HttpMethod httpMethod, String key, Supplier<T> call) {
+        if (!HttpMethod.GET.equals(httpMethod)) {
+            return call.get();
+        }
+
+        String flightKey = httpMethod.name() + " " + key;
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            existing.waiters.incrementAndGet();
+            waiters.increment();
+            log.debug("Joining in-flight upstream call: {}", flightKey);
+            return (T) await(existing.result);
+        }
+
+        leaders.increment();
+        try {
+            T result = call.get();
+            release(flightKey, flight, key);
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            release(flightKey, flight, key);
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Starts the given asynchronous upstream call, sharing it with any identical call already in flight. Each caller
+     * gets its own future over the shared result, so cancelling one does not cancel the call for the others.
+     *
+     * @param httpMethod the HTTP method of the call.
+     * @param key        identifies the call, typically the full request URL.
+     * @param call       starts the upstream call.
+     * @return a future completing with the result of the shared call.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(HttpMethod httpMethod, String key, Supplier<CompletableFuture<T>> call) {
+        if (!HttpMethod.GET.equals(httpMethod)) {
+            return call.get();
+        }
+
+        String flightKey = httpMethod.name() + " " + key;
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            existing.waiters.incrementAndGet();
+            waiters.increment();
+            log.debug("Joining in-flight upstream call: {}", flightKey);
+            return (CompletableFuture<T>) existing.result.copy();
+        }
+
+        leaders.increment();
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException | Error ex) {
+            release(flightKey, flight, key);
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        }
+        started.whenComplete((result, failure) -> {
+            release(flightKey, flight, key);
+            if (failure == null) {
+                flight.result.complete(result);
+            } else {
+                flight.result.completeExceptionally(
+                        failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+            }
+        });
+        return (CompletableFuture<T>) flight.result.copy();
+    }
+
+    /**
+     * Returns how many callers are currently waiting on the in-flight call for the given method and key.
+     *
+     * @param httpMethod the HTTP method of the call.
+     * @param key        identifies the call, typically the full request URL.
+     * @return the number of waiters, or zero if no such call is in flight.
+     */
+    public int getWaiterCount(HttpMethod httpMethod, String key) {
+        Flight flight = inFlight.get(httpMethod.name() + " " + key);
+        return flight == null ? 0 : flight.waiters.get();
+    }
+
+    public long getLeaderCount() {
+        return (long) leaders.count();
+    }
+
+    public long getCoalescedCount() {
+        return (long) waiters.count();
+    }
+
+    private void release(String flightKey, Flight flight, String key) {
+        inFlight.remove(flightKey, flight);
+        DistributionSummary.builder("employee.upstream.coalescing.waiters")
+                .description("Callers that shared a single upstream call, per call")
+                .tag("uri", UriTemplateUtil.templateOf(key))
+                .register(meterRegistry)
+                .record(flight.waiters.get());
+    }
+
+    private static Object await(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+}
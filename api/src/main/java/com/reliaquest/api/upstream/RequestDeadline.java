@@ -0,0 +1,39 @@
+package com.reliaquest.api.upstream;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Holds the deadline of the inbound request being served on the current thread, so that every upstream call it
+ * makes draws from one shared time budget.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Instant> DEADLINE = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * Sets the deadline for the inbound request served on the current thread.
+     *
+     * @param deadline the instant by which upstream work should be finished.
+     */
+    public static void set(Instant deadline) {
+        DEADLINE.set(deadline);
+    }
+
+    /**
+     * @return the deadline of the inbound request served on the current thread, if one is set.
+     */
+    public static Optional<Instant> current() {
+        return Optional.ofNullable(DEADLINE.get());
+    }
+
+    /**
+     * Clears the deadline once the inbound request is done.
+     */
+    public static void clear() {
+        DEADLINE.remove();
+    }
+}
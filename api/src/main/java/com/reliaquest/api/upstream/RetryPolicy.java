@@ -0,0 +1,241 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import com.reliaquest.api.util.UriTemplateUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Retries idempotent upstream calls with full-jitter exponential backoff.
+ * <p>
+ * Only methods listed in {@code mock.employee.retry.methods}, and calls their caller declares idempotent, such as a
+ * lookup that sends its IDs in a POST body, are retried, and only for transient failures: 5xx
+ * responses, I/O errors and upstream 429s that carry a {@code Retry-After}. A request shed by the
+ * {@link AdaptiveRateLimiter} never reached the upstream and is not retried: the limiter has already waited as long as
+ * {@code max-queue-wait} allows, and sleeping out its lockout here would hold the thread past that bound. The delay
+ * before retry {@code n} is drawn uniformly from {@code [0, min(max-delay, base-delay * 2^(n-2))]}; a
+ * {@code Retry-After} is used as-is. A retry is only attempted if its delay fits in the remaining
+ * budget of the inbound request (see {@link RequestDeadline}); calls made outside a request get a budget of their
+ * own. Every attempt is timed and every retry counted.
+ */
+@Slf4j
+@Component
+public class RetryPolicy {
+
+    private final MockEmployeeProperties.Retry settings;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Sleeper sleeper;
+
+    private final RandomGenerator random;
+
+    private final Clock clock;
+
+    /**
+     * Constructor for RetryPolicy.
+     *
+     * @param mockEmployeeProperties the properties holding the retry settings.
+     * @param meterRegistry          the registry to publish attempt and retry metrics to.
+     */
+    @Autowired
+    public RetryPolicy(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry) {
+        this(mockEmployeeProperties, meterRegistry, delay -> TimeUnit.NANOSECONDS.sleep(delay.toNanos()),
+                () -> ThreadLocalRandom.current().nextLong(), Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for RetryPolicy.
+     *
+     * @param mockEmployeeProperties the properties holding the retry settings.
+     * @param meterRegistry          the registry to publish attempt and retry metrics to.
+     * @param sleeper                waits out the backoff between attempts.
+     * @param random                 source of backoff jitter.
+     * @param clock                  the clock deadlines are measured with.
+     */
+    public RetryPolicy(
+            MockEmployeeProperties mockEmployeeProperties,
+            MeterRegistry meterRegistry,
+            Sleeper sleeper,
+            RandomGenerator random,
+            Clock clock
+    ) {
+        this.settings = mockEmployeeProperties.getRetry();
+        this.meterRegistry = meterRegistry;
+        this.sleeper = sleeper;
+        this.random = random;
+        this.clock = clock;
+    }
+
+    /**
+     * Executes an upstream call, retrying it on transient failures if its method is idempotent.
+     *
+     * @param httpMethod the HTTP method of the call.
+     * @param url        the URL of the call, used to tag metrics.
+     * @param attempt    performs one attempt of the call.
+     * @return the result of the first successful attempt.
+     */
+    public <T> T execute(HttpMethod httpMethod, String url, Supplier<T> attempt) {
+        return execute(httpMethod, url, isIdempotent(httpMethod), attempt);
+    }
+
+    /**
+     * Executes an upstream call, retrying it on transient failures if the caller declares it idempotent, whatever
+     * its method.
+     *
+     * @param httpMethod the HTTP method of the call.
+     * @param url        the URL of the call, used to tag metrics.
+     * @param idempotent whether the call may be repeated without changing the upstream's state.
+     * @param attempt    performs one attempt of the call.
+     * @return the result of the first successful attempt.
+     */
+    public <T> T execute(HttpMethod httpMethod, String url, boolean idempotent, Supplier<T> attempt) {
+        Instant deadline = RequestDeadline.current().orElseGet(() -> clock.instant().plus(settings.getRequestDeadline()));
+        String uri = UriTemplateUtil.templateOf(url);
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            long start = System.nanoTime();
+            try {
+                T result = attempt.get();
+                recordAttempt(httpMethod, uri, "success", start);
+                return result;
+            } catch (RuntimeException ex) {
+                recordAttempt(httpMethod, uri, outcomeOf(ex), start);
+                Optional<Duration> delay = nextDelay(
+                        httpMethod, url, idempotent, attemptNumber, ex, Duration.between(clock.instant(), deadline));
+                if (delay.isEmpty()) {
+                    throw ex;
+                }
+
+                try {
+                    sleeper.sleep(delay.get());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decides whether a failed attempt is retried, for callers that wait out the backoff themselves instead of
+     * blocking in {@link #execute}. A retry is counted whenever a delay is returned.
+     *
+     * @param httpMethod    the HTTP method of the call.
+     * @param url           the URL of the call, used to tag metrics.
+     * @param attemptNumber the number of the attempt that failed, starting at 1.
+     * @param failure       why the attempt failed.
+     * @param remaining     how much of the caller's time budget is left.
+     * @return the delay before the next attempt, or empty if the failure has to be passed on.
+     */
+    public Optional<Duration> nextDelay(
+            HttpMethod httpMethod,
+            String url,
+            int attemptNumber,
+            RuntimeException failure,
+            Duration remaining
+    ) {
+        return nextDelay(httpMethod, url, isIdempotent(httpMethod), attemptNumber, failure, remaining);
+    }
+
+    private Optional<Duration> nextDelay(
+            HttpMethod httpMethod,
+            String url,
+            boolean idempotent,
+            int attemptNumber,
+            RuntimeException failure,
+            Duration remaining
+    ) {
+        boolean retryable = settings.isEnabled() && idempotent;
+        if (!retryable || !isTransient(failure) || attemptNumber >= settings.getMaxAttempts()) {
+            return Optional.empty();
+        }
+
+        String uri = UriTemplateUtil.templateOf(url);
+        Duration delay = delayBefore(attemptNumber + 1, failure);
+        if (delay.compareTo(remaining) > 0) {
+            log.debug("Not retrying {} {}: backoff of {} exceeds the request deadline", httpMethod, uri, delay);
+            return Optional.empty();
+        }
+
+        retryCounter(httpMethod, uri, outcomeOf(failure)).increment();
+        log.debug("Retrying {} {} in {} after attempt {} failed: {}",
+                httpMethod, uri, delay, attemptNumber, failure.getMessage());
+        return Optional.of(delay);
+    }
+
+    private boolean isIdempotent(HttpMethod httpMethod) {
+        return settings.getMethods().contains(httpMethod.name());
+    }
+
+    private Duration delayBefore(int attemptNumber, RuntimeException failure) {
+        if (failure instanceof TooManyRequestsException tooManyRequests && tooManyRequests.getRetryAfter() != null) {
+            return tooManyRequests.getRetryAfter();
+        }
+
+        long ceiling = settings.getBaseDelay().toNanos() << Math.min(attemptNumber - 2, 30);
+        ceiling = Math.min(Math.max(ceiling, 0), settings.getMaxDelay().toNanos());
+        return Duration.ofNanos(ceiling == 0 ? 0 : random.nextLong(ceiling + 1));
+    }
+
+    private static boolean isTransient(RuntimeException failure) {
+        if (failure instanceof TooManyRequestsException tooManyRequests) {
+            return !tooManyRequests.isShedLocally() && tooManyRequests.getRetryAfter() != null;
+        }
+        return failure instanceof UpstreamServiceException upstreamFailure && upstreamFailure.isRetryable();
+    }
+
+    private static String outcomeOf(RuntimeException failure) {
+        if (failure instanceof TooManyRequestsException) {
+            return "throttled";
+        }
+        if (failure instanceof ResourceNotFoundException) {
+            return "not_found";
+        }
+        return "error";
+    }
+
+    private void recordAttempt(HttpMethod httpMethod, String uri, String outcome, long startNanos) {
+        Timer.builder("employee.upstream.attempts")
+                .description("Latency of individual upstream attempts, retries included")
+                .tag("method", httpMethod.name())
+                .tag("uri", uri)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter retryCounter(HttpMethod httpMethod, String uri, String reason) {
+        return Counter.builder("employee.upstream.retries")
+                .description("Upstream attempts repeated after a transient failure")
+                .tag("method", httpMethod.name())
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits out the backoff between two attempts.
+     */
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(Duration delay) throws InterruptedException;
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+/**
+ * Walks the upstream roster page by page with the cursor pagination of the mock employee server.
+ * <p>
+ * The iterators returned by {@link #iterate(PageFetcher)} are lazy: a page is only fetched once the previous one
+ * has been consumed, so a caller that stops early (e.g. after the first N search matches) never fetches the rest of
+ * the roster. Every page fetch is timed, which makes the cost per page visible next to the cost of a full roster
+ * read.
+ */
+@Component
+public class RosterPager {
+
+    /** Response header carrying the cursor of the next page; absent on the last page. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final MockEmployeeProperties mockEmployeeProperties;
+
+    private final Timer pageFetches;
+
+    private final DistributionSummary pageSizes;
+
+    /**
+     * Constructor for RosterPager.
+     *
+     * @param mockEmployeeProperties the paging settings.
+     * @param meterRegistry          the registry to publish paging metrics to.
+     */
+    @Autowired
+    public RosterPager(MockEmployeeProperties mockEmployeeProperties, MeterRegistry meterRegistry) {
+        this.mockEmployeeProperties = mockEmployeeProperties;
+        this.pageFetches = Timer.builder("employee.upstream.page.fetch")
+                .description("Latency of fetching one page of the upstream roster")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.pageSizes = DistributionSummary.builder("employee.upstream.page.size")
+                .description("Employees per fetched page of the upstream roster")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fetches one page of the upstream roster.
+     */
+    @FunctionalInterface
+    public interface PageFetcher {
+
+        /**
+         * @param cursor the cursor returned with the previous page, or 0 for the first page.
+         * @param limit  the maximum number of employees to return.
+         * @return the page.
+         */
+        Page fetch(long cursor, int limit);
+    }
+
+    /**
+     * One page of the upstream roster.
+     *
+     * @param employees  the employees of this page, in roster order.
+     * @param nextCursor the cursor of the next page, or empty if this is the last page.
+     */
+    public record Page(List<EmployeeServerDto> employees, OptionalLong nextCursor) {
+    }
+
+    /**
+     * Returns an iterator over the whole roster that fetches the next page only when it is needed.
+     *
+     * @param fetcher fetches a page from the upstream.
+     * @return a lazy iterator over all employees, in roster order.
+     */
+    public Iterator<EmployeeServerDto> iterate(PageFetcher fetcher) {
+        return new PageIterator(fetcher, mockEmployeeProperties.getPaging().getPageSize());
+    }
+
+    private final class PageIterator implements Iterator<EmployeeServerDto> {
+
+        private final PageFetcher fetcher;
+
+        private final int pageSize;
+
+        private Iterator<EmployeeServerDto> page = Collections.emptyIterator();
+
+        private OptionalLong nextCursor = OptionalLong.of(0);
+
+        private PageIterator(PageFetcher fetcher, int pageSize) {
+            this.fetcher = fetcher;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && nextCursor.isPresent()) {
+                long cursor = nextCursor.getAsLong();
+                Page fetched = pageFetches.record(() -> fetcher.fetch(cursor, pageSize));
+                pageSizes.record(fetched.employees().size());
+                if (fetched.nextCursor().isPresent() && fetched.nextCursor().getAsLong() <= cursor) {
+                    throw new UpstreamServiceException(
+                            "Upstream returned a non-advancing page cursor " + fetched.nextCursor().getAsLong()
+                                    + " after cursor " + cursor, null, false);
+                }
+                page = fetched.employees().iterator();
+                nextCursor = fetched.nextCursor();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public EmployeeServerDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+}
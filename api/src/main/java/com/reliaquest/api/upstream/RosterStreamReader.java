@@ -0,0 +1,222 @@
+package com.reliaquest.api.upstream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the upstream roster response ({@code {"data": [...], "status": ...}}) one employee at a time.
+ * <p>
+ * Each element of {@code data} is bound and handed to the consumer while the body is still being read, so callers
+ * that filter or aggregate never hold more than one employee of the response in memory. A body arriving as a
+ * reactive stream of buffers is {@link #decode(Flux) decoded} the same way on a non-blocking parser.
+ */
+@Component
+public class RosterStreamReader {
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectReader employeeReader;
+
+    /**
+     * Constructor for RosterStreamReader.
+     *
+     * @param objectMapper the mapper providing the parser factory and employee binding.
+     */
+    @Autowired
+    public RosterStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(EmployeeServerDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Streams the employees of a roster response to the given consumer, in response order.
+     *
+     * @param body     the response body.
+     * @param consumer receives every employee as soon as it has been read.
+     * @return the number of employees read.
+     * @throws IOException if the body cannot be read or is not a roster response.
+     */
+    public long read(InputStream body, Consumer<EmployeeServerDto> consumer) throws IOException {
+        long count = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the roster response to be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"data".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    EmployeeServerDto employee = employeeReader.readValue(parser);
+                    if (employee != null) {
+                        consumer.accept(employee);
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Decodes a roster response arriving as a stream of buffers into its employees, in response order. Every buffer
+     * is fed to a non-blocking parser as it arrives and released, and an employee is emitted as soon as its last token
+     * has been read, so neither the body nor the roster is held in memory.
+     *
+     * @param body the buffers of the response body.
+     * @return Flux of the employees, failing with an IOException if the body is not a complete roster response.
+     */
+    public Flux<EmployeeServerDto> decode(Flux<DataBuffer> body) {
+        return Flux.using(
+                BufferDecoder::new,
+                decoder -> body
+                        .concatMap(buffer -> {
+                            try {
+                                return Flux.fromIterable(decoder.feed(buffer));
+                            } catch (IOException ex) {
+                                return Flux.error(ex);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                        .concatWith(Flux.defer(() -> {
+                            try {
+                                return Flux.fromIterable(decoder.finish());
+                            } catch (IOException ex) {
+                                return Flux.error(ex);
+                            }
+                        })),
+                BufferDecoder::close
+        );
+    }
+
+    /**
+     * Incremental counterpart of {@link #read(InputStream, Consumer)} for one response. The tokens of an element of
+     * {@code data} are collected until the element is complete and then bound; everything else is skipped.
+     */
+    private final class BufferDecoder {
+
+        private final JsonParser parser;
+
+        private final ByteArrayFeeder feeder;
+
+        private int depth;
+
+        private String field;
+
+        private boolean inData;
+
+        private TokenBuffer element;
+
+        private int elementDepth;
+
+        private boolean complete;
+
+        private BufferDecoder() throws IOException {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        /**
+         * Feeds the next buffer of the body to the parser.
+         *
+         * @param buffer the buffer; the caller releases it.
+         * @return the employees completed by the buffer.
+         * @throws IOException if the body is not a roster response.
+         */
+        private List<EmployeeServerDto> feed(DataBuffer buffer) throws IOException {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        }
+
+        /**
+         * Ends the body.
+         *
+         * @return the employees completed by the end of the body.
+         * @throws IOException if the body ended before the roster response did.
+         */
+        private List<EmployeeServerDto> finish() throws IOException {
+            feeder.endOfInput();
+            List<EmployeeServerDto> employees = drain();
+            if (!complete) {
+                throw new JsonParseException(parser, "Roster response ended before it was complete");
+            }
+            return employees;
+        }
+
+        private List<EmployeeServerDto> drain() throws IOException {
+            List<EmployeeServerDto> employees = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (complete) {
+                    continue;
+                }
+                if (element != null || inData && depth == 2 && token != JsonToken.END_ARRAY) {
+                    if (element == null) {
+                        element = new TokenBuffer(parser);
+                    }
+                    element.copyCurrentEvent(parser);
+                    elementDepth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+                    if (elementDepth == 0) {
+                        EmployeeServerDto employee = employeeReader.readValue(element.asParser(objectMapper));
+                        if (employee != null) {
+                            employees.add(employee);
+                        }
+                        element = null;
+                    }
+                } else if (depth == 0) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "Expected the roster response to be a JSON object");
+                    }
+                    depth = 1;
+                } else if (depth == 1 && token == JsonToken.FIELD_NAME) {
+                    field = parser.currentName();
+                } else if (depth == 1 && token == JsonToken.END_OBJECT) {
+                    complete = true;
+                } else if (depth == 1 && token == JsonToken.START_ARRAY && "data".equals(field)) {
+                    inData = true;
+                    depth = 2;
+                } else if (inData && depth == 2) {
+                    inData = false;
+                    depth = 1;
+                } else {
+                    depth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+                }
+            }
+            return employees;
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException ex) {
+                // The parser only reads fed buffers, so there is nothing left to release.
+            }
+        }
+    }
+}
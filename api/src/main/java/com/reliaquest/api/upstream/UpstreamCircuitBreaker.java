@@ -0,0 +1,409 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker around calls to the mock employee server.
+ * <p>
+ * While {@link State#CLOSED} every call goes through and its outcome is recorded in a sliding window of the most
+ * recent calls. Once the window holds {@code minimum-calls} outcomes and either the failure rate or the slow-call
+ * rate reaches its threshold, the circuit {@link State#OPEN opens}: calls fail fast with an
+ * {@link UpstreamUnavailableException} instead of waiting on an upstream that is locked out. After
+ * {@code wait-in-open} the circuit goes {@link State#HALF_OPEN half-open} and lets a few trial calls through; their
+ * outcomes decide whether it closes again or reopens. Failures are the transient ones the upstream is responsible
+ * for (upstream 429s, 5xx responses and I/O errors); a 404 or another client error means the upstream answered, and
+ * a request shed by the local {@link AdaptiveRateLimiter} never reached it. A call is timed from when it is sent, so
+ * waiting for a limiter permit does not make it slow. Every transition is counted and published as a
+ * {@link CircuitBreakerStateChangedEvent}.
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreaker {
+
+    private static final Duration HALF_OPEN_RETRY_AFTER = Duration.ofSeconds(1);
+
+    /**
+     * States of the circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final MockEmployeeProperties.CircuitBreaker settings;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final boolean[] failedCalls;
+
+    private final boolean[] slowCalls;
+
+    private int recordedCalls;
+
+    private int nextSlot;
+
+    private int failures;
+
+    private int slows;
+
+    private State state = State.CLOSED;
+
+    private long generation;
+
+    private Instant openedAt = Instant.MIN;
+
+    private int halfOpenPermitsIssued;
+
+    private final Counter succeeded;
+
+    private final Counter failed;
+
+    private final Counter rejected;
+
+    private final Counter slow;
+
+    /**
+     * Constructor for UpstreamCircuitBreaker.
+     *
+     * @param mockEmployeeProperties the properties holding the circuit breaker settings.
+     * @param meterRegistry          the registry to publish circuit breaker metrics to.
+     * @param eventPublisher         publishes state transitions.
+     */
+    @Autowired
+    public UpstreamCircuitBreaker(
+            MockEmployeeProperties mockEmployeeProperties,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this(mockEmployeeProperties, meterRegistry, eventPublisher, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for UpstreamCircuitBreaker.
+     *
+     * @param mockEmployeeProperties the properties holding the circuit breaker settings.
+     * @param meterRegistry          the registry to publish circuit breaker metrics to.
+     * @param eventPublisher         publishes state transitions.
+     * @param clock                  the clock used to time calls and the open state.
+     */
+    public UpstreamCircuitBreaker(
+            MockEmployeeProperties mockEmployeeProperties,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock
+    ) {
+        this.settings = mockEmployeeProperties.getCircuitBreaker();
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.failedCalls = new boolean[settings.getSlidingWindowSize()];
+        this.slowCalls = new boolean[settings.getSlidingWindowSize()];
+
+        this.succeeded = callCounter(meterRegistry, "success");
+        this.failed = callCounter(meterRegistry, "failure");
+        this.rejected = callCounter(meterRegistry, "rejected");
+        this.slow = Counter.builder("employee.upstream.circuit.slow.calls")
+                .description("Upstream calls that took at least the slow-call duration")
+                .register(meterRegistry);
+        for (State candidate : State.values()) {
+            Gauge.builder("employee.upstream.circuit.state", this, breaker -> breaker.getState() == candidate ? 1 : 0)
+                    .description("1 for the state the upstream circuit breaker is in, 0 otherwise")
+                    .tag("state", tagOf(candidate))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Executes an upstream call if the circuit lets it through, recording its outcome.
+     *
+     * @param call performs the upstream call.
+     * @return the result of the call.
+     * @throws UpstreamUnavailableException if the circuit is open, or half-open with all trial calls taken.
+     */
+    public <T> T execute(Supplier<T> call) {
+        return execute(() -> { }, call);
+    }
+
+    /**
+     * Executes an upstream call if the circuit lets it through, after a local admission step such as waiting for a
+     * rate limiter permit. Only the call itself is timed, and a failed admission is not recorded: the call never
+     * reached the upstream, so a trial permit it held while half-open is handed back.
+     *
+     * @param admission runs once the circuit has let the call through, before it is sent.
+     * @param call      performs the upstream call.
+     * @return the result of the call.
+     * @throws UpstreamUnavailableException if the circuit is open, or half-open with all trial calls taken.
+     */
+    public <T> T execute(Runnable admission, Supplier<T> call) {
+        Permit permit = acquirePermit();
+        try {
+            admission.run();
+        } catch (RuntimeException ex) {
+            permit.release();
+            throw ex;
+        }
+        permit.markSent();
+        try {
+            T result = call.get();
+            permit.onSuccess();
+            return result;
+        } catch (RuntimeException ex) {
+            permit.onFailure(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Asks the circuit to let one upstream call through, for callers that cannot wrap the call in
+     * {@link #execute(Runnable, Supplier)} because it completes asynchronously. The caller settles the permit exactly
+     * once: {@link Permit#onSuccess()} or {@link Permit#onFailure(Throwable)} once the call completes, or
+     * {@link Permit#release()} if it is never sent or is cancelled.
+     *
+     * @return the permit for the call.
+     * @throws UpstreamUnavailableException if the circuit is open, or half-open with all trial calls taken.
+     */
+    public Permit acquirePermit() {
+        if (!settings.isEnabled()) {
+            return new Permit(-1, false);
+        }
+        return new Permit(acquirePermission(), true);
+    }
+
+    /**
+     * @return the current state; an open circuit only goes half-open once a call asks for permission.
+     */
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedCount() {
+        return (long) rejected.count();
+    }
+
+    private long acquirePermission() {
+        CircuitBreakerStateChangedEvent transition = null;
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            if (state == State.OPEN) {
+                Instant closesAt = openedAt.plus(settings.getWaitInOpen());
+                if (now.isBefore(closesAt)) {
+                    rejected.increment();
+                    throw new UpstreamUnavailableException(
+                            "Employee service is unavailable; circuit breaker is open. Please try again later.",
+                            Duration.between(now, closesAt));
+                }
+                transition = transitionTo(State.HALF_OPEN, -1, -1);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermitsIssued >= settings.getPermittedCallsInHalfOpen()) {
+                    rejected.increment();
+                    throw new UpstreamUnavailableException(
+                            "Employee service is recovering; circuit breaker is half-open. Please try again later.",
+                            HALF_OPEN_RETRY_AFTER);
+                }
+                halfOpenPermitsIssued++;
+            }
+            return generation;
+        } finally {
+            lock.unlock();
+            publish(transition);
+        }
+    }
+
+    private void releasePermission(long permitGeneration) {
+        lock.lock();
+        try {
+            if (permitGeneration == generation && state == State.HALF_OPEN && halfOpenPermitsIssued > 0) {
+                halfOpenPermitsIssued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onCompletion(long permitGeneration, boolean failure, Duration duration) {
+        boolean slowCall = duration.compareTo(settings.getSlowCallDuration()) >= 0;
+        (failure ? failed : succeeded).increment();
+        if (slowCall) {
+            slow.increment();
+        }
+
+        CircuitBreakerStateChangedEvent transition = null;
+        lock.lock();
+        try {
+            if (permitGeneration != generation) {
+                return;
+            }
+            record(failure, slowCall);
+
+            double failureRate = 100.0 * failures / recordedCalls;
+            double slowCallRate = 100.0 * slows / recordedCalls;
+            boolean overThreshold = failureRate >= settings.getFailureRateThreshold()
+                    || slowCallRate >= settings.getSlowCallRateThreshold();
+
+            if (state == State.CLOSED) {
+                int minimumCalls = Math.min(settings.getMinimumCalls(), failedCalls.length);
+                if (recordedCalls >= minimumCalls && overThreshold) {
+                    transition = transitionTo(State.OPEN, failureRate, slowCallRate);
+                }
+            } else if (state == State.HALF_OPEN && recordedCalls >= settings.getPermittedCallsInHalfOpen()) {
+                transition = transitionTo(overThreshold ? State.OPEN : State.CLOSED, failureRate, slowCallRate);
+            }
+        } finally {
+            lock.unlock();
+            publish(transition);
+        }
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recordedCalls == failedCalls.length) {
+            failures -= failedCalls[nextSlot] ? 1 : 0;
+            slows -= slowCalls[nextSlot] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failedCalls[nextSlot] = failure;
+        slowCalls[nextSlot] = slowCall;
+        failures += failure ? 1 : 0;
+        slows += slowCall ? 1 : 0;
+        nextSlot = (nextSlot + 1) % failedCalls.length;
+    }
+
+    private CircuitBreakerStateChangedEvent transitionTo(State target, double failureRate, double slowCallRate) {
+        State previous = state;
+        Instant now = clock.instant();
+        state = target;
+        generation++;
+        recordedCalls = 0;
+        nextSlot = 0;
+        failures = 0;
+        slows = 0;
+        halfOpenPermitsIssued = 0;
+        if (target == State.OPEN) {
+            openedAt = now;
+        }
+
+        Counter.builder("employee.upstream.circuit.transitions")
+                .description("Upstream circuit breaker state transitions")
+                .tag("from", tagOf(previous))
+                .tag("to", tagOf(target))
+                .register(meterRegistry)
+                .increment();
+        log.warn("Upstream circuit breaker {} -> {} (failure rate {}%, slow-call rate {}%)",
+                previous, target, failureRate, slowCallRate);
+        return new CircuitBreakerStateChangedEvent(previous, target, failureRate, slowCallRate, now);
+    }
+
+    private void publish(CircuitBreakerStateChangedEvent transition) {
+        if (transition != null) {
+            eventPublisher.publishEvent(transition);
+        }
+    }
+
+    private static boolean isFailure(Throwable failure) {
+        if (failure instanceof TooManyRequestsException tooManyRequests) {
+            return !tooManyRequests.isShedLocally();
+        }
+        return failure instanceof UpstreamServiceException upstreamFailure && upstreamFailure.isRetryable();
+    }
+
+    /**
+     * Permission for one upstream call, handed out by {@link #acquirePermit()}. Only the first of the settling methods
+     * has an effect, so a permit can be settled from several completion signals without being recorded twice.
+     */
+    public final class Permit {
+
+        private final long permitGeneration;
+
+        private final boolean recorded;
+
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private volatile Instant sentAt;
+
+        private Permit(long permitGeneration, boolean recorded) {
+            this.permitGeneration = permitGeneration;
+            this.recorded = recorded;
+        }
+
+        /**
+         * Marks the call as sent; it is timed from here, so waiting for a limiter permit does not make it slow.
+         */
+        public void markSent() {
+            sentAt = clock.instant();
+        }
+
+        /**
+         * Records that the call completed normally.
+         */
+        public void onSuccess() {
+            complete(false);
+        }
+
+        /**
+         * Records that the call failed; only failures the upstream is responsible for count against the circuit.
+         *
+         * @param failure what the call failed with.
+         */
+        public void onFailure(Throwable failure) {
+            complete(isFailure(failure));
+        }
+
+        /**
+         * Hands the permit back without recording an outcome, for a call that never reached the upstream.
+         */
+        public void release() {
+            if (recorded && settled.compareAndSet(false, true)) {
+                releasePermission(permitGeneration);
+            }
+        }
+
+        private void complete(boolean failure) {
+            if (!recorded || !settled.compareAndSet(false, true)) {
+                return;
+            }
+            Instant end = clock.instant();
+            onCompletion(permitGeneration, failure, Duration.between(sentAt == null ? end : sentAt, end));
+        }
+    }
+
+    private static String tagOf(State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.upstream.circuit.calls")
+                .description("Upstream calls by circuit breaker outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
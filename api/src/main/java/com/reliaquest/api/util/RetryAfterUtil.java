@@ -0,0 +1,36 @@
+package com.reliaquest.api.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.springframework.http.HttpHeaders;
+
+public class RetryAfterUtil {
+    /**
+     * Parses a {@code Retry-After} header given either as delta-seconds or as an HTTP date.
+     *
+     * @param headers the response headers, may be null.
+     * @return how long to wait, or null if the header is absent or malformed.
+     */
+    public static Duration parse(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // Not delta-seconds, try the HTTP date form below.
+        }
+        try {
+            Instant retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration wait = Duration.between(Instant.now(), retryAt);
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
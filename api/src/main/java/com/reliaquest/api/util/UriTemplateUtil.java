@@ -0,0 +1,26 @@
+package com.reliaquest.api.util;
+
+import java.net.URI;
+import java.util.regex.Pattern;
+
+public class UriTemplateUtil {
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+
+    /**
+     * Reduces an upstream URL to a low-cardinality path template suitable for metric tags,
+     * e.g. {@code http://host/api/v1/employee/4a3a...} becomes {@code /api/v1/employee/{id}}.
+     *
+     * @param url the request URL.
+     * @return the path with UUID segments replaced by {@code {id}}.
+     */
+    public static String templateOf(String url) {
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (IllegalArgumentException ex) {
+            path = url;
+        }
+        return path == null ? url : UUID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.dto.response.EmployeeRecord;
+
+import java.io.IOException;
+
+/**
+ * Writes employees straight to a {@link JsonGenerator} in the wire format of {@link EmployeeEntityDto}, without
+ * converting them to an {@link EmployeeEntityDto} or letting the mapper introspect one.
+ * <p>
+ * Field names are pre-encoded once, the ID is formatted into a buffer owned by the writer, and salary and age are
+ * written as primitives, so writing an employee allocates nothing. Fields are written in the order and with the
+ * null handling the default mapper uses for {@link EmployeeEntityDto}. A writer wraps one generator and is not
+ * thread-safe.
+ */
+public final class EmployeeJsonWriter {
+
+    private static final SerializableString ID = new SerializedString("id");
+
+    private static final SerializableString EMAIL = new SerializedString("employee_email");
+
+    private static final SerializableString NAME = new SerializedString("employee_name");
+
+    private static final SerializableString SALARY = new SerializedString("employee_salary");
+
+    private static final SerializableString TITLE = new SerializedString("employee_title");
+
+    private static final SerializableString AGE = new SerializedString("employee_age");
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final JsonGenerator generator;
+
+    private final char[] idBuffer = new char[36];
+
+    /**
+     * Constructor for EmployeeJsonWriter.
+     *
+     * @param generator the generator to write employees to.
+     */
+    public EmployeeJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Writes one employee as a JSON object.
+     *
+     * @param employee the employee to write.
+     * @throws IOException if the generator cannot write.
+     */
+    public void write(EmployeeRecord employee) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeFieldName(ID);
+        if (employee.hasId()) {
+            formatUuid(employee.idMostSignificantBits(), employee.idLeastSignificantBits());
+            generator.writeString(idBuffer, 0, idBuffer.length);
+        } else {
+            generator.writeNull();
+        }
+
+        generator.writeFieldName(EMAIL);
+        generator.writeString(employee.getEmployeeEmail());
+
+        generator.writeFieldName(NAME);
+        generator.writeString(employee.getEmployeeName());
+
+        generator.writeFieldName(SALARY);
+        if (employee.hasEmployeeSalary()) {
+            generator.writeNumber(employee.employeeSalary());
+        } else {
+            generator.writeNull();
+        }
+
+        generator.writeFieldName(TITLE);
+        generator.writeString(employee.getEmployeeTitle());
+
+        generator.writeFieldName(AGE);
+        if (employee.hasEmployeeAge()) {
+            generator.writeNumber(employee.employeeAge());
+        } else {
+            generator.writeNull();
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Formats a UUID into the ID buffer in its canonical 8-4-4-4-12 form, as {@link java.util.UUID#toString()} does.
+     */
+    private void formatUuid(long mostSignificantBits, long leastSignificantBits) {
+        formatHex(mostSignificantBits >>> 32, 0, 8);
+        idBuffer[8] = '-';
+        formatHex(mostSignificantBits >>> 16, 9, 4);
+        idBuffer[13] = '-';
+        formatHex(mostSignificantBits, 14, 4);
+        idBuffer[18] = '-';
+        formatHex(leastSignificantBits >>> 48, 19, 4);
+        idBuffer[23] = '-';
+        formatHex(leastSignificantBits, 24, 12);
+    }
+
+    private void formatHex(long value, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            idBuffer[i] = HEX_DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.upstream.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Starts the upstream time budget of every inbound request, see {@link RequestDeadline}.
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final MockEmployeeProperties mockEmployeeProperties;
+
+    @Autowired
+    public RequestDeadlineFilter(MockEmployeeProperties mockEmployeeProperties) {
+        this.mockEmployeeProperties = mockEmployeeProperties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.set(Instant.now().plus(mockEmployeeProperties.getRetry().getRequestDeadline()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import com.reliaquest.api.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeRosterCacheTest {
+
+    private MockEmployeeProperties properties;
+
+    private MutableClock clock;
+
+    private List<Runnable> scheduledRefreshes;
+
+    private EmployeeRosterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MockEmployeeProperties();
+        properties.getCache().setTtl(Duration.ofSeconds(30));
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        scheduledRefreshes = new ArrayList<>();
+        cache = new EmployeeRosterCache(properties, new SimpleMeterRegistry(), scheduledRefreshes::add, clock);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromCache_WhileFresh() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<EmployeeServerDto>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(employee("John Doe"));
+        };
+
+        assertEquals(1, cache.get(loader).size());
+        clock.advance(Duration.ofSeconds(29));
+        assertEquals(1, cache.get(loader).size());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    void get_ShouldServeStaleRosterAndScheduleSingleRefresh_WhenTtlExpired() {
+        cache.get(() -> List.of(employee("John Doe")));
+        clock.advance(Duration.ofSeconds(31));
+
+        Supplier<List<EmployeeServerDto>> refreshLoader = () -> List.of(employee("John Doe"), employee("Jane Smith"));
+        assertEquals(1, cache.get(refreshLoader).size());
+        assertEquals(1, cache.get(refreshLoader).size());
+        assertEquals(1, scheduledRefreshes.size());
+
+        scheduledRefreshes.get(0).run();
+
+        assertEquals(2, cache.get(refreshLoader).size());
+        assertEquals(2, cache.getStaleHitCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getRefreshCount());
+    }
+
+    @Test
+    void get_ShouldKeepStaleRosterAndAllowAnotherRefresh_WhenRefreshFails() {
+        cache.get(() -> List.of(employee("John Doe")));
+        clock.advance(Duration.ofMinutes(1));
+
+        cache.get(() -> {
+            throw new IllegalStateException("upstream down");
+        });
+        scheduledRefreshes.get(0).run();
+
+        assertEquals(1, cache.getRefreshFailureCount());
+        assertEquals(1, cache.peek().orElseThrow().size());
+
+        cache.get(() -> List.of());
+        assertEquals(2, scheduledRefreshes.size());
+    }
+
+    @Test
+    void putAndRemove_ShouldUpdateCachedRosterInPlace() {
+        EmployeeServerDto john = employee("John Doe");
+        cache.get(() -> List.of(john));
+
+        EmployeeServerDto jane = employee("Jane Smith");
+        cache.put(jane);
+        cache.remove(john.getId());
+
+        List<EmployeeServerDto> roster = cache.peek().orElseThrow();
+        assertEquals(1, roster.size());
+        assertEquals("Jane Smith", roster.get(0).getEmployeeName());
+    }
+
+    @Test
+    void putAllAndRemoveAll_ShouldUpdateCachedRosterWithOneSnapshotPerBatch() {
+        EmployeeServerDto john = employee("John Doe");
+        EmployeeServerDto jane = employee("Jane Smith");
+        cache.get(() -> List.of(john, jane));
+        RosterSnapshot loaded = cache.peekSnapshot().orElseThrow();
+
+        EmployeeServerDto anna = employee("Anna Nixon");
+        EmployeeServerDto bill = employee("Bill Bob");
+        cache.putAll(List.of(anna, bill));
+        RosterSnapshot created = cache.peekSnapshot().orElseThrow();
+        cache.removeAll(List.of(john.getId(), anna.getId()));
+        cache.removeAll(List.of());
+
+        List<EmployeeServerDto> roster = cache.peek().orElseThrow();
+        assertEquals(List.of("Jane Smith", "Bill Bob"), roster.stream().map(EmployeeServerDto::getEmployeeName).toList());
+        assertEquals(4, created.size());
+        assertEquals(2, loaded.size());
+    }
+
+    @Test
+    void load_ShouldReplayLocalWrites_WhenTheyRaceAnInFlightLoad() {
+        EmployeeServerDto john = employee("John Doe");
+        EmployeeServerDto jane = employee("Jane Smith");
+
+        List<EmployeeServerDto> roster = cache.get(() -> {
+            cache.put(jane);
+            cache.remove(john.getId());
+            return List.of(john);
+        });
+
+        assertEquals(1, roster.size());
+        assertEquals("Jane Smith", roster.get(0).getEmployeeName());
+    }
+
+    @Test
+    void get_ShouldAlwaysCallLoader_WhenCacheDisabled() {
+        properties.getCache().setEnabled(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(() -> List.of(employee(String.valueOf(loads.incrementAndGet()))));
+        cache.get(() -> List.of(employee(String.valueOf(loads.incrementAndGet()))));
+
+        assertEquals(2, loads.get());
+        assertTrue(cache.peek().isEmpty());
+    }
+
+    private static EmployeeServerDto employee(String name) {
+        EmployeeServerDto employee = new EmployeeServerDto();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployeeName(name);
+        employee.setEmployeeSalary(50000);
+        return employee;
+    }
+}
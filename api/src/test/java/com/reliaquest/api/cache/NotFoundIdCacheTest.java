@@ -0,0 +1,77 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotFoundIdCacheTest {
+
+    private MockEmployeeProperties properties;
+
+    private MutableClock clock;
+
+    private NotFoundIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MockEmployeeProperties();
+        properties.getNegativeCache().setTtl(Duration.ofSeconds(30));
+        properties.getNegativeCache().setMaxSize(2);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new NotFoundIdCache(properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void isKnownMissing_ShouldAnswerRecordedIds_UntilTheyExpire() {
+        UUID id = UUID.randomUUID();
+        assertFalse(cache.isKnownMissing(id));
+
+        cache.recordMissing(id);
+        clock.advance(Duration.ofSeconds(29));
+        assertTrue(cache.isKnownMissing(id));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertFalse(cache.isKnownMissing(id));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void recordMissing_ShouldDropTheOldestId_WhenFull() {
+        UUID oldest = UUID.randomUUID();
+        UUID middle = UUID.randomUUID();
+        UUID newest = UUID.randomUUID();
+
+        cache.recordMissing(oldest);
+        cache.recordMissing(middle);
+        cache.recordMissing(oldest);
+        cache.recordMissing(newest);
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.isKnownMissing(middle));
+        assertTrue(cache.isKnownMissing(oldest));
+        assertTrue(cache.isKnownMissing(newest));
+    }
+
+    @Test
+    void forget_ShouldDropTheId_AndDisabledCacheShouldRememberNothing() {
+        UUID id = UUID.randomUUID();
+        cache.recordMissing(id);
+        cache.forget(id);
+        assertFalse(cache.isKnownMissing(id));
+
+        properties.getNegativeCache().setEnabled(false);
+        cache.recordMissing(id);
+        assertFalse(cache.isKnownMissing(id));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,292 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterSnapshotTest {
+
+    private static final String[] FIRST_NAMES = {"Anna", "Bill", "Joanne", "Tiger", "Hannah", "Omar", "Priya", "\u00C5sa"};
+
+    private static final String[] LAST_NAMES = {"Nixon", "Bob", "Annapurna", "Smith", "Garcia", "Kowalski", "Nanna"};
+
+    private static final String[] TITLES = {"Developer", "Manager", "Designer", null};
+
+    private static final String[] NEEDLES = {"", "a", "an", "ann", "ANNA", "nna", "xon", "bill bob", "nnap", "zzz",
+            "\u00E5sa", "h", "anna n", "annapurna", " ", "garcia"};
+
+    @Test
+    void searchByName_ShouldMatchLinearScan_OnLoadedRoster() {
+        List<EmployeeServerDto> roster = roster(new Random(7), 2_000);
+        RosterSnapshot snapshot = new RosterSnapshot(roster, Instant.EPOCH);
+
+        for (String needle : NEEDLES) {
+            assertEquals(scan(roster, needle), snapshot.searchByName(needle, Integer.MAX_VALUE), needle);
+        }
+    }
+
+    @Test
+    void searchByName_ShouldFollowLocalWrites_AndLeaveOlderSnapshotsUnchanged() {
+        Random random = new Random(11);
+        List<EmployeeServerDto> expected = new ArrayList<>(roster(random, 500));
+        RosterSnapshot original = new RosterSnapshot(expected, Instant.EPOCH);
+        List<EmployeeServerDto> originalRoster = List.copyOf(expected);
+        RosterSnapshot snapshot = original;
+
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                EmployeeServerDto created = employee(random);
+                snapshot = snapshot.withUpserted(created);
+                expected.add(created);
+            } else if (operation == 1) {
+                EmployeeServerDto removed = expected.remove(random.nextInt(expected.size()));
+                snapshot = snapshot.withRemoved(removed.getId());
+            } else {
+                int index = random.nextInt(expected.size());
+                EmployeeServerDto renamed = employee(random);
+                renamed.setId(expected.get(index).getId());
+                snapshot = snapshot.withUpserted(renamed);
+                expected.set(index, renamed);
+            }
+        }
+
+        assertEquals(expected, snapshot.employees());
+        assertEquals(expected.size(), snapshot.size());
+        for (String needle : NEEDLES) {
+            assertEquals(scan(expected, needle), snapshot.searchByName(needle, Integer.MAX_VALUE), needle);
+            assertEquals(scan(originalRoster, needle), original.searchByName(needle, Integer.MAX_VALUE), needle);
+        }
+    }
+
+    @Test
+    void searchByName_ShouldStopAtLimit_InRosterOrder() {
+        List<EmployeeServerDto> roster = roster(new Random(3), 1_000);
+        RosterSnapshot snapshot = new RosterSnapshot(roster, Instant.EPOCH);
+
+        assertEquals(scan(roster, "nixon").subList(0, 5), snapshot.searchByName("nixon", 5));
+        assertEquals(scan(roster, "a").subList(0, 5), snapshot.searchByName("a", 5));
+    }
+
+    @Test
+    void salaryQueries_ShouldMatchSortedRoster_AcrossLocalWrites() {
+        Random random = new Random(13);
+        List<EmployeeServerDto> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            expected.add(salaried(random));
+        }
+        RosterSnapshot snapshot = new RosterSnapshot(expected, Instant.EPOCH);
+        assertSalaryQueries(expected, snapshot);
+
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                EmployeeServerDto created = salaried(random);
+                snapshot = snapshot.withUpserted(created);
+                expected.add(created);
+            } else if (operation == 1) {
+                EmployeeServerDto removed = expected.remove(random.nextInt(expected.size()));
+                snapshot = snapshot.withRemoved(removed.getId());
+            } else {
+                int index = random.nextInt(expected.size());
+                EmployeeServerDto changed = salaried(random);
+                changed.setId(expected.get(index).getId());
+                snapshot = snapshot.withUpserted(changed);
+                expected.set(index, changed);
+            }
+            assertSalaryQueries(expected, snapshot);
+        }
+    }
+
+    @Test
+    void salaryPercentile_ShouldUseNearestRank() {
+        List<EmployeeServerDto> roster = new ArrayList<>();
+        for (int salary = 100; salary >= 10; salary -= 10) {
+            EmployeeServerDto employee = employee(new Random(salary));
+            employee.setEmployeeSalary(salary);
+            roster.add(employee);
+        }
+        RosterSnapshot snapshot = new RosterSnapshot(roster, Instant.EPOCH);
+
+        assertEquals(OptionalInt.of(10), snapshot.salaryPercentile(0));
+        assertEquals(OptionalInt.of(10), snapshot.salaryPercentile(10));
+        assertEquals(OptionalInt.of(50), snapshot.salaryPercentile(50));
+        assertEquals(OptionalInt.of(100), snapshot.salaryPercentile(91));
+        assertEquals(OptionalInt.of(100), snapshot.salaryPercentile(100));
+        assertEquals(OptionalInt.empty(), new RosterSnapshot(List.of(), Instant.EPOCH).salaryPercentile(50));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.salaryPercentile(101));
+    }
+
+    @Test
+    void employees_ShouldReadBackEveryField_IncludingMissingValues() {
+        EmployeeServerDto complete = employee(new Random(17));
+        complete.setEmployeeEmail("anna@company.com");
+        EmployeeServerDto sparse = new EmployeeServerDto();
+        sparse.setId(UUID.randomUUID());
+        RosterSnapshot snapshot = new RosterSnapshot(List.of(complete, sparse), Instant.EPOCH);
+
+        EmployeeServerDto retitled = employee(new Random(19));
+        retitled.setId(complete.getId());
+        retitled.setEmployeeTitle("Chief Cartographer");
+        RosterSnapshot updated = snapshot.withUpserted(retitled);
+
+        assertEquals(List.of(complete, sparse), snapshot.employees());
+        assertEquals(List.of(retitled, sparse), updated.employees());
+        assertEquals(Optional.of(sparse), updated.findById(sparse.getId()));
+        assertEquals(Optional.empty(), updated.withRemoved(sparse.getId()).findById(sparse.getId()));
+    }
+
+    @Test
+    void employees_ShouldKeepTitles_WhenDerivedSnapshotsAddNewTitles() {
+        Random random = new Random(23);
+        RosterSnapshot original = new RosterSnapshot(roster(random, 3), Instant.EPOCH);
+        List<EmployeeServerDto> originalRoster = original.employees();
+        List<EmployeeServerDto> expected = new ArrayList<>(originalRoster);
+        RosterSnapshot snapshot = original;
+
+        for (int i = 0; i < 100; i++) {
+            EmployeeServerDto created = employee(random);
+            created.setEmployeeTitle("Title " + i);
+            snapshot = snapshot.withUpserted(created);
+            expected.add(created);
+        }
+        EmployeeServerDto branched = employee(random);
+        branched.setEmployeeTitle("Title 7");
+        RosterSnapshot branch = original.withUpserted(branched);
+
+        assertEquals(expected, snapshot.employees());
+        assertEquals(originalRoster, original.employees());
+        assertEquals("Title 7", branch.employees().get(3).getEmployeeTitle());
+    }
+
+    @Test
+    void withRemoved_ShouldReturnSameSnapshot_WhenIdIsUnknown() {
+        RosterSnapshot snapshot = new RosterSnapshot(roster(new Random(5), 10), Instant.EPOCH);
+
+        assertSame(snapshot, snapshot.withRemoved(UUID.randomUUID()));
+    }
+
+    @Test
+    void findById_ShouldFollowLocalWrites_AndKeepAnsweringForOlderSnapshots() {
+        Random random = new Random(13);
+        List<EmployeeServerDto> roster = roster(random, 100);
+        RosterSnapshot original = new RosterSnapshot(roster, Instant.EPOCH);
+        EmployeeServerDto employee = roster.get(42);
+
+        RosterSnapshot removed = original.withRemoved(employee.getId());
+        EmployeeServerDto recreated = employee(random);
+        recreated.setId(employee.getId());
+        RosterSnapshot readded = removed.withUpserted(employee(random)).withUpserted(recreated);
+
+        for (EmployeeServerDto each : roster) {
+            assertEquals(Optional.of(each), original.findById(each.getId()));
+        }
+        assertEquals(Optional.empty(), removed.findById(employee.getId()));
+        assertEquals(Optional.of(recreated), readded.findById(employee.getId()));
+        assertEquals(Optional.of(employee), original.findById(employee.getId()));
+        assertEquals(Optional.empty(), readded.findById(UUID.randomUUID()));
+    }
+
+    @Test
+    void batchWrites_ShouldMatchTheSameWritesOneByOne() {
+        Random random = new Random(17);
+        List<EmployeeServerDto> roster = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            roster.add(salaried(random));
+        }
+        RosterSnapshot original = new RosterSnapshot(roster, Instant.EPOCH);
+
+        List<EmployeeServerDto> upserts = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            EmployeeServerDto employee = salaried(random);
+            if (i % 3 == 0) {
+                employee.setId(roster.get(random.nextInt(roster.size())).getId());
+            }
+            upserts.add(employee);
+        }
+        EmployeeServerDto repeated = salaried(random);
+        repeated.setId(upserts.get(1).getId());
+        upserts.add(repeated);
+        List<UUID> removals = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            removals.add(i % 10 == 0 ? UUID.randomUUID() : roster.get(random.nextInt(roster.size())).getId());
+        }
+
+        RosterSnapshot oneByOne = original;
+        for (EmployeeServerDto employee : upserts) {
+            oneByOne = oneByOne.withUpserted(employee);
+        }
+        for (UUID id : removals) {
+            oneByOne = oneByOne.withRemoved(id);
+        }
+        RosterSnapshot batched = original.withUpsertedAll(upserts).withRemovedAll(removals);
+
+        assertEquals(oneByOne.employees(), batched.employees());
+        assertEquals(oneByOne.size(), batched.size());
+        assertSalaryQueries(oneByOne.employees(), batched);
+        for (EmployeeServerDto employee : upserts) {
+            assertEquals(oneByOne.findById(employee.getId()), batched.findById(employee.getId()));
+        }
+        assertEquals(roster, original.employees());
+        assertSame(batched, batched.withRemovedAll(List.of(UUID.randomUUID())));
+    }
+
+    private static List<EmployeeServerDto> scan(List<EmployeeServerDto> roster, String needle) {
+        String lowerNeedle = needle.toLowerCase();
+        return roster.stream()
+                .filter(employee -> employee.getEmployeeName().toLowerCase().contains(lowerNeedle))
+                .toList();
+    }
+
+    private static void assertSalaryQueries(List<EmployeeServerDto> roster, RosterSnapshot snapshot) {
+        List<EmployeeServerDto> bySalary = roster.stream()
+                .filter(employee -> employee.getEmployeeSalary() != null)
+                .sorted(Comparator.comparing(EmployeeServerDto::getEmployeeSalary).reversed())
+                .toList();
+
+        assertEquals(bySalary.isEmpty() ? OptionalInt.empty() : OptionalInt.of(bySalary.get(0).getEmployeeSalary()),
+                snapshot.highestSalary());
+        assertEquals(bySalary.subList(0, Math.min(10, bySalary.size())), snapshot.topEarners(10));
+        assertEquals(bySalary, snapshot.topEarners(Integer.MAX_VALUE));
+        if (!bySalary.isEmpty()) {
+            int median = bySalary.get(bySalary.size() - (bySalary.size() + 1) / 2).getEmployeeSalary();
+            assertEquals(OptionalInt.of(median), snapshot.salaryPercentile(50));
+        }
+    }
+
+    private static EmployeeServerDto salaried(Random random) {
+        EmployeeServerDto employee = employee(random);
+        // A narrow salary range with some gaps exercises ties and employees without a salary.
+        employee.setEmployeeSalary(random.nextInt(20) == 0 ? null : random.nextInt(1, 20) * 10_000);
+        return employee;
+    }
+
+    private static List<EmployeeServerDto> roster(Random random, int size) {
+        List<EmployeeServerDto> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            roster.add(employee(random));
+        }
+        return roster;
+    }
+
+    private static EmployeeServerDto employee(Random random) {
+        EmployeeServerDto employee = new EmployeeServerDto();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployeeName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        employee.setEmployeeSalary(random.nextInt(30_000, 500_000));
+        employee.setEmployeeAge(random.nextInt(18, 70));
+        employee.setEmployeeTitle(TITLES[random.nextInt(TITLES.length)]);
+        return employee;
+    }
+}
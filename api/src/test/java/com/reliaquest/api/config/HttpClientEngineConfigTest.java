@@ -0,0 +1,60 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientEngineConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withBean(MockEmployeeProperties.class)
+            .withUserConfiguration(HttpClientEngineConfig.class)
+            .withPropertyValues(
+                    "mock.employee.connect-timeout=1",
+                    "mock.employee.read-timeout=2",
+                    "mock.employee.client.max-total=7",
+                    "mock.employee.client.max-per-route=3");
+
+    @Test
+    void employeeRequestFactory_ShouldDefaultToPooledApacheEngine() {
+        contextRunner.run(context -> {
+            assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, context.getBean(ClientHttpRequestFactory.class));
+
+            PoolingHttpClientConnectionManager connectionManager = context.getBean(PoolingHttpClientConnectionManager.class);
+            assertEquals(7, connectionManager.getMaxTotal());
+            assertEquals(3, connectionManager.getDefaultMaxPerRoute());
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean("employeeConnectionPoolMetrics", MeterBinder.class).bindTo(registry);
+            assertEquals(7.0, registry.get("employee.upstream.pool.max").gauge().value());
+            assertEquals(0.0, registry.get("employee.upstream.pool.leased").gauge().value());
+        });
+    }
+
+    @Test
+    void employeeRequestFactory_ShouldUseJdkClient_WhenConfigured() {
+        contextRunner.withPropertyValues("mock.employee.client.engine=jdk").run(context -> {
+            assertInstanceOf(JdkClientHttpRequestFactory.class, context.getBean(ClientHttpRequestFactory.class));
+            assertFalse(context.containsBean("employeeConnectionManager"));
+            // Pool flags are process-wide, so the engine leaves them to the command line.
+            assertNull(System.getProperty("jdk.httpclient.connectionPoolSize"));
+        });
+    }
+
+    @Test
+    void employeeRequestFactory_ShouldUseSimpleFactory_WhenConfigured() {
+        contextRunner.withPropertyValues("mock.employee.client.engine=simple").run(context ->
+                assertInstanceOf(SimpleClientHttpRequestFactory.class, context.getBean(ClientHttpRequestFactory.class)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withBean(MockEmployeeProperties.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withUserConfiguration(VirtualThreadPinningMonitor.class);
+
+    @Test
+    void monitor_ShouldStartAndPublishTimer_WhenVirtualThreadsAreEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            assertNotNull(context.getBean(VirtualThreadPinningMonitor.class));
+            assertEquals(0, context.getBean(MeterRegistry.class).get("employee.virtual.pinned").timer().count());
+        });
+    }
+
+    @Test
+    void monitor_ShouldNotStart_WhenVirtualThreadsAreDisabled() {
+        contextRunner.run(context -> assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty()));
+    }
+
+    @Test
+    void monitor_ShouldNotStart_WhenPinningDiagnosticsAreOff() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.threads.virtual.enabled=true",
+                        "mock.employee.virtual-threads.pinning-diagnostics=false")
+                .run(context -> assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.controller.impl.EmployeeBulkControllerImpl;
+import com.reliaquest.api.dto.request.EmployeeCreationDto;
+import com.reliaquest.api.dto.response.EmployeeBulkResultDto;
+import com.reliaquest.api.service.EmployeeService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkControllerImplTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeBulkControllerImpl bulkController;
+
+    @BeforeEach
+    void setUp() {
+        MockEmployeeProperties properties = new MockEmployeeProperties();
+        properties.getBulk().setMaxItems(3);
+        bulkController = new EmployeeBulkControllerImpl(
+                employeeService, Validation.buildDefaultValidatorFactory().getValidator(), properties);
+    }
+
+    @Test
+    void createEmployees_ShouldDelegateToService_WhenAllEmployeesAreValid() {
+        List<EmployeeCreationDto> inputs = List.of(employee("John Doe"), employee("Jane Smith"));
+        EmployeeBulkResultDto result = EmployeeBulkResultDto.builder().succeeded(2).build();
+        when(employeeService.createEmployees(inputs)).thenReturn(result);
+
+        ResponseEntity<EmployeeBulkResultDto> response = bulkController.createEmployees(inputs);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(result, response.getBody());
+    }
+
+    @Test
+    void createEmployees_ShouldListEveryInvalidEmployee_AndCreateNone() {
+        EmployeeCreationDto tooYoung = employee("Too Young");
+        tooYoung.setAge(12);
+        List<EmployeeCreationDto> inputs = Arrays.asList(employee("John Doe"), tooYoung, null);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> bulkController.createEmployees(inputs)
+        );
+
+        assertEquals("Invalid employees: [1] age: Age must be at least 16; [2] employee cannot be null",
+                exception.getMessage());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void deleteEmployees_ShouldRejectMalformedIds_AndOversizedRequests() {
+        IllegalArgumentException invalid = assertThrows(
+                IllegalArgumentException.class,
+                () -> bulkController.deleteEmployees(List.of(UUID.randomUUID().toString(), "not-a-uuid"))
+        );
+        assertEquals("Invalid employee IDs: [1] Invalid UUID format for Employee ID: not-a-uuid", invalid.getMessage());
+
+        List<String> tooMany = List.of("a", "b", "c", "d");
+        assertThrows(IllegalArgumentException.class, () -> bulkController.deleteEmployees(tooMany));
+        verifyNoInteractions(employeeService);
+    }
+
+    private static EmployeeCreationDto employee(String name) {
+        EmployeeCreationDto employee = new EmployeeCreationDto();
+        employee.setName(name);
+        employee.setSalary(50000);
+        employee.setAge(30);
+        employee.setTitle("Developer");
+        return employee;
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.controller.impl.EmployeeControllerImpl;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Checks which handler of {@link EmployeeControllerImpl} answers {@code GET /api/v1/employeeDetails}, as decided by
+ * the {@code Accept} header and the {@code stream} parameter.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeControllerContentNegotiationTest {
+
+    private static final String EMPLOYEES = "/api/v1/employeeDetails";
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new EmployeeControllerImpl(employeeService, new ObjectMapper()))
+                .build();
+    }
+
+    @Test
+    void getEmployees_ShouldReturnTheList_WhenAnyMediaTypeIsAccepted() throws Exception {
+        EmployeeEntityDto employee = new EmployeeEntityDto();
+        employee.setId(UUID.randomUUID());
+        employee.setEmployeeName("John Doe");
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee));
+
+        mockMvc.perform(get(EMPLOYEES).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncNotStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"));
+
+        verify(employeeService, never()).streamAllEmployees(any());
+    }
+
+    @Test
+    void getEmployees_ShouldStreamNdjson_WhenNdjsonIsAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get(EMPLOYEES).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(""));
+
+        verify(employeeService).streamAllEmployees(any());
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void getEmployees_ShouldStreamAJsonArray_WhenStreamIsRequested() throws Exception {
+        MvcResult result = mockMvc.perform(get(EMPLOYEES).param("stream", "true").accept(MediaType.ALL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("[]"));
+
+        verify(employeeService).streamAllEmployees(any());
+        verify(employeeService, never()).getAllEmployees();
+    }
+}
@@ -1,25 +1,38 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.controller.impl.EmployeeControllerImpl;
 import com.reliaquest.api.dto.request.EmployeeCreationDto;
 import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.dto.response.EmployeeRecord;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
 import com.reliaquest.api.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +41,9 @@ class EmployeeControllerImplTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private EmployeeControllerImpl employeeController;
 
@@ -85,6 +101,56 @@ class EmployeeControllerImplTest {
         verify(employeeService, times(1)).getAllEmployees();
     }
 
+    // Tests for streaming getAllEmployees()
+    @Test
+    void streamAllEmployeesAsNdjson_ShouldWriteOneEmployeePerLine() throws IOException {
+        streamEmployees(testEmployee1, testEmployee2);
+
+        ResponseEntity<StreamingResponseBody> response = employeeController.streamAllEmployeesAsNdjson();
+        String body = write(response.getBody());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(body.endsWith("\n"));
+        assertEquals(testEmployee1, objectMapper.readValue(lines[0], EmployeeEntityDto.class));
+        assertEquals(testEmployee2, objectMapper.readValue(lines[1], EmployeeEntityDto.class));
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void streamAllEmployeesAsJsonArray_ShouldWriteSameArrayAsGetAllEmployees() throws IOException {
+        streamEmployees(testEmployee1, testEmployee2);
+
+        ResponseEntity<StreamingResponseBody> response = employeeController.streamAllEmployeesAsJsonArray();
+        String body = write(response.getBody());
+
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(List.of(testEmployee1, testEmployee2), objectMapper.readValue(body, new TypeReference<List<EmployeeEntityDto>>() { }));
+        assertEquals(objectMapper.writeValueAsString(List.of(testEmployee1, testEmployee2)), body);
+    }
+
+    @Test
+    void streamAllEmployeesAsJsonArray_ShouldWriteEmptyArray_WhenNoEmployeesExist() throws IOException {
+        streamEmployees();
+
+        assertEquals("[]", write(employeeController.streamAllEmployeesAsJsonArray().getBody()));
+        assertEquals("", write(employeeController.streamAllEmployeesAsNdjson().getBody()));
+    }
+
+    @Test
+    void streamAllEmployeesAsJsonArray_ShouldNotCompleteTheArray_WhenServiceFails() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<EmployeeRecord>>getArgument(0).accept(toRecord(testEmployee1));
+            throw new RuntimeException("upstream dropped the connection");
+        }).when(employeeService).streamAllEmployees(any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(RuntimeException.class, () -> employeeController.streamAllEmployeesAsJsonArray().getBody().writeTo(out));
+        assertFalse(out.toString(StandardCharsets.UTF_8).endsWith("]"));
+    }
+
     // Tests for getEmployeesByNameSearch()
     @Test
     void getEmployeesByNameSearch_ShouldReturnMatchingEmployees_WhenValidSearchString() {
@@ -133,6 +199,27 @@ class EmployeeControllerImplTest {
         verify(employeeService, never()).getEmployeesByNameSearch(any());
     }
 
+    @Test
+    void getEmployeesByNameSearchWithLimit_ShouldPassLimitToService() {
+        when(employeeService.getEmployeesByNameSearch("Doe", 1)).thenReturn(List.of(testEmployee1));
+
+        ResponseEntity<List<EmployeeEntityDto>> response = employeeController.getEmployeesByNameSearch("Doe", 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(testEmployee1), response.getBody());
+    }
+
+    @Test
+    void getEmployeesByNameSearchWithLimit_ShouldThrowException_WhenLimitIsNotPositive() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> employeeController.getEmployeesByNameSearch("Doe", 0)
+        );
+
+        assertEquals("Limit must be positive: 0", exception.getMessage());
+        verify(employeeService, never()).getEmployeesByNameSearch(anyString(), anyInt());
+    }
+
     // Tests for getEmployeeById()
     @Test
     void getEmployeeById_ShouldReturnEmployee_WhenValidIdProvided() {
@@ -328,8 +415,33 @@ class EmployeeControllerImplTest {
     void constructor_ShouldInitializeService() {
         EmployeeService mockService = mock(EmployeeService.class);
 
-        EmployeeControllerImpl controller = new EmployeeControllerImpl(mockService);
+        EmployeeControllerImpl controller = new EmployeeControllerImpl(mockService, new ObjectMapper());
 
         assertNotNull(controller);
     }
+
+    private void streamEmployees(EmployeeEntityDto... employees) {
+        doAnswer(invocation -> {
+            Consumer<EmployeeRecord> consumer = invocation.getArgument(0);
+            Arrays.stream(employees).map(EmployeeControllerImplTest::toRecord).forEach(consumer);
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+    }
+
+    private static EmployeeRecord toRecord(EmployeeEntityDto employee) {
+        EmployeeServerDto record = new EmployeeServerDto();
+        record.setId(employee.getId());
+        record.setEmployeeName(employee.getEmployeeName());
+        record.setEmployeeEmail(employee.getEmployeeEmail());
+        record.setEmployeeSalary(employee.getEmployeeSalary());
+        record.setEmployeeTitle(employee.getEmployeeTitle());
+        record.setEmployeeAge(employee.getEmployeeAge());
+        return record;
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
 }
@@ -1,29 +1,49 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.NotFoundIdCache;
 import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.request.EmployeeBulkCreationDto;
+import com.reliaquest.api.dto.request.EmployeeBulkDeletionDto;
+import com.reliaquest.api.dto.request.EmployeeBulkLookupDto;
 import com.reliaquest.api.dto.request.EmployeeCreationDto;
-import com.reliaquest.api.dto.request.EmployeeDeletionDto;
 import com.reliaquest.api.dto.response.*;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.TooManyRequestsException;
 
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import com.reliaquest.api.upstream.AdaptiveRateLimiter;
+import com.reliaquest.api.upstream.QueryPushdown;
+import com.reliaquest.api.upstream.RequestCoalescer;
+import com.reliaquest.api.upstream.RetryPolicy;
+import com.reliaquest.api.upstream.RosterPager;
+import com.reliaquest.api.upstream.RosterStreamReader;
+import com.reliaquest.api.upstream.UpstreamCircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,7 +59,12 @@ class EmployeeServiceImplTest {
     @Mock
     private MockEmployeeProperties mockEmployeeProperties;
 
-    @InjectMocks
+    private MockEmployeeProperties upstreamProperties;
+
+    private EmployeeRosterCache employeeRosterCache;
+
+    private NotFoundIdCache notFoundIdCache;
+
     private EmployeeServiceImpl employeeService;
 
     private static final String BASE_URI = "http://localhost:8080/api/v1/employees";
@@ -47,6 +72,26 @@ class EmployeeServiceImplTest {
     @BeforeEach
     void setUp() {
         when(mockEmployeeProperties.getUri()).thenReturn(BASE_URI);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        upstreamProperties = new MockEmployeeProperties();
+        // Most tests cover the local query paths; the push-down tests switch it back on.
+        upstreamProperties.getPushdown().setEnabled(false);
+        employeeRosterCache = new EmployeeRosterCache(
+                upstreamProperties, meterRegistry, Runnable::run, Clock.systemUTC());
+        notFoundIdCache = new NotFoundIdCache(upstreamProperties, meterRegistry);
+        employeeService = new EmployeeServiceImpl(
+                restTemplate,
+                mockEmployeeProperties,
+                employeeRosterCache,
+                new RequestCoalescer(meterRegistry),
+                new AdaptiveRateLimiter(upstreamProperties, meterRegistry),
+                new RetryPolicy(upstreamProperties, meterRegistry, delay -> { }, new Random(42), Clock.systemUTC()),
+                new UpstreamCircuitBreaker(upstreamProperties, meterRegistry, event -> { }),
+                new RosterStreamReader(new ObjectMapper()),
+                new RosterPager(upstreamProperties, meterRegistry),
+                new QueryPushdown(upstreamProperties, meterRegistry),
+                notFoundIdCache);
     }
 
     @Test
@@ -186,6 +231,49 @@ class EmployeeServiceImplTest {
         assertEquals("Employee with ID " + employeeId + " not found.", exception.getMessage());
     }
 
+    @Test
+    void getEmployeeById_ShouldNotCallUpstreamAgain_ForAnIdJustReportedMissing_UntilItIsCreated() {
+        UUID employeeId = UUID.randomUUID();
+
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/" + employeeId),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeApiResponseDto.class),
+                eq(Map.of())
+        )).thenThrow(HttpClientErrorException.create(
+                org.springframework.http.HttpStatus.NOT_FOUND,
+                "Not Found",
+                org.springframework.http.HttpHeaders.EMPTY,
+                null,
+                null
+        ));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(employeeId.toString()));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(employeeId.toString()));
+        verify(restTemplate, times(1)).exchange(
+                eq(BASE_URI + "/" + employeeId),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeApiResponseDto.class),
+                eq(Map.of()));
+        assertEquals(1, notFoundIdCache.getHitCount());
+
+        EmployeeApiResponseDto createdResponseDto = new EmployeeApiResponseDto();
+        createdResponseDto.setData(
+                createMockServerEmployee(employeeId, "New Employee", "new@example.com", 60000, "Developer", 28));
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                eq(EmployeeApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(createdResponseDto));
+        employeeService.createEmployee(new EmployeeCreationDto());
+
+        assertFalse(notFoundIdCache.isKnownMissing(employeeId));
+    }
+
     @Test
     void getEmployeeById_ShouldThrowEmployeeNotFoundException_WhenResponseDataIsNull() {
         UUID employeeId = UUID.randomUUID();
@@ -349,28 +437,16 @@ class EmployeeServiceImplTest {
         UUID employeeId = UUID.randomUUID();
         String employeeName = "John Doe";
 
-        // Mock getEmployeeById call
-        EmployeeServerDto serverEmployee = createMockServerEmployee(employeeId, employeeName, "john@example.com", 50000, "Developer", 30);
-        EmployeeApiResponseDto getResponseDto = new EmployeeApiResponseDto();
-        getResponseDto.setData(serverEmployee);
-
-        when(restTemplate.exchange(
-                eq(BASE_URI + "/" + employeeId),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                eq(EmployeeApiResponseDto.class),
-                eq(Map.of())
-        )).thenReturn(ResponseEntity.ok(getResponseDto));
-
         // Mock delete call
-        EmployeeDeletionApiResponseDto deleteResponseDto = new EmployeeDeletionApiResponseDto();
-        deleteResponseDto.setData(true);
+        EmployeeServerDto serverEmployee = createMockServerEmployee(employeeId, employeeName, "john@example.com", 50000, "Developer", 30);
+        EmployeeListApiResponseDto deleteResponseDto = new EmployeeListApiResponseDto();
+        deleteResponseDto.setData(List.of(serverEmployee));
 
         when(restTemplate.exchange(
-                eq(BASE_URI),
+                eq(BASE_URI + "/bulk"),
                 eq(HttpMethod.DELETE),
                 any(HttpEntity.class),
-                eq(EmployeeDeletionApiResponseDto.class),
+                eq(EmployeeListApiResponseDto.class),
                 eq(Map.of())
         )).thenReturn(ResponseEntity.ok(deleteResponseDto));
 
@@ -378,9 +454,9 @@ class EmployeeServiceImplTest {
 
         assertEquals(employeeName, result);
 
-        // Verify the delete request body
+        // Verify the delete is the only request and deletes by ID
         ArgumentCaptor<HttpEntity> entityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
-        verify(restTemplate, times(2)).exchange(
+        verify(restTemplate, times(1)).exchange(
                 anyString(),
                 any(HttpMethod.class),
                 entityCaptor.capture(),
@@ -388,44 +464,214 @@ class EmployeeServiceImplTest {
                 eq(Map.of())
         );
 
-        // Check the second call (delete call) has the correct body
-        HttpEntity<?> deleteEntity = entityCaptor.getAllValues().get(1);
-        assertNotNull(deleteEntity.getBody());
-        assertTrue(deleteEntity.getBody() instanceof EmployeeDeletionDto);
-        EmployeeDeletionDto deletionDto = (EmployeeDeletionDto) deleteEntity.getBody();
-        assertEquals(employeeName, deletionDto.getName());
+        HttpEntity<?> deleteEntity = entityCaptor.getValue();
+        assertTrue(deleteEntity.getBody() instanceof EmployeeBulkDeletionDto);
+        assertEquals(List.of(employeeId), ((EmployeeBulkDeletionDto) deleteEntity.getBody()).getIds());
     }
 
     @Test
     void deleteEmployeeById_ShouldReturnEmptyString_WhenDeleteResponseIsNull() {
         UUID employeeId = UUID.randomUUID();
-        String employeeName = "John Doe";
 
-        // Mock getEmployeeById call
-        EmployeeServerDto serverEmployee = createMockServerEmployee(employeeId, employeeName, "john@example.com", 50000, "Developer", 30);
-        EmployeeApiResponseDto getResponseDto = new EmployeeApiResponseDto();
-        getResponseDto.setData(serverEmployee);
+        // Mock delete call to return null
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/bulk"),
+                eq(HttpMethod.DELETE),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(null));
+
+        String result = employeeService.deleteEmployeeById(employeeId.toString());
+
+        assertEquals("", result);
+    }
+
+    @Test
+    void readEndpoints_ShouldShareOneUpstreamFetch_WhenRosterIsCached() {
+        EmployeeListApiResponseDto responseDto = new EmployeeListApiResponseDto();
+        responseDto.setData(createMockServerEmployees());
 
         when(restTemplate.exchange(
-                eq(BASE_URI + "/" + employeeId),
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(responseDto));
+
+        assertEquals(2, employeeService.getAllEmployees().size());
+        assertEquals(60000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(1, employeeService.getEmployeesByNameSearch("jane").size());
+        assertEquals(2, employeeService.getTopTenHighestEarningEmployeeNames().size());
+
+        verify(restTemplate, times(1)).exchange(
+                eq(BASE_URI),
                 eq(HttpMethod.GET),
                 any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        );
+        assertEquals(1, employeeRosterCache.getMissCount());
+        assertEquals(3, employeeRosterCache.getHitCount());
+    }
+
+    @Test
+    void createEmployee_ShouldAddEmployeeToCachedRoster_WhenSuccessful() {
+        EmployeeListApiResponseDto listResponseDto = new EmployeeListApiResponseDto();
+        listResponseDto.setData(createMockServerEmployees());
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(listResponseDto));
+        employeeService.getAllEmployees();
+
+        EmployeeApiResponseDto createResponseDto = new EmployeeApiResponseDto();
+        createResponseDto.setData(createMockServerEmployee(UUID.randomUUID(), "New Employee", "new@example.com", 90000, "Developer", 28));
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
                 eq(EmployeeApiResponseDto.class),
                 eq(Map.of())
-        )).thenReturn(ResponseEntity.ok(getResponseDto));
+        )).thenReturn(ResponseEntity.ok(createResponseDto));
+        employeeService.createEmployee(new EmployeeCreationDto());
 
-        // Mock delete call to return null
+        assertEquals(3, employeeService.getAllEmployees().size());
+        assertEquals(90000, employeeService.getHighestSalaryOfEmployees());
+        verify(restTemplate, times(1)).exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        );
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldRemoveEmployeeFromCachedRoster_WhenSuccessful() {
+        List<EmployeeServerDto> serverEmployees = createMockServerEmployees();
+        EmployeeServerDto deleted = serverEmployees.get(0);
+        EmployeeListApiResponseDto listResponseDto = new EmployeeListApiResponseDto();
+        listResponseDto.setData(serverEmployees);
         when(restTemplate.exchange(
                 eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(listResponseDto));
+        employeeService.getAllEmployees();
+
+        EmployeeListApiResponseDto deleteResponseDto = new EmployeeListApiResponseDto();
+        deleteResponseDto.setData(List.of(deleted));
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/bulk"),
                 eq(HttpMethod.DELETE),
                 any(HttpEntity.class),
-                eq(EmployeeDeletionApiResponseDto.class),
+                eq(EmployeeListApiResponseDto.class),
                 eq(Map.of())
-        )).thenReturn(ResponseEntity.ok(null));
+        )).thenReturn(ResponseEntity.ok(deleteResponseDto));
+        assertEquals("John Doe", employeeService.deleteEmployeeById(deleted.getId().toString()));
 
-        String result = employeeService.deleteEmployeeById(employeeId.toString());
+        List<EmployeeEntityDto> result = employeeService.getAllEmployees();
+        assertEquals(1, result.size());
+        assertEquals("Jane Smith", result.get(0).getEmployeeName());
 
-        assertEquals("", result);
+        // The upstream deletes by ID: one upstream request per delete, with no lookup by ID or by name.
+        ArgumentCaptor<HttpEntity> entityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(1)).exchange(
+                eq(BASE_URI + "/bulk"),
+                eq(HttpMethod.DELETE),
+                entityCaptor.capture(),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        );
+        assertEquals(List.of(deleted.getId()), ((EmployeeBulkDeletionDto) entityCaptor.getValue().getBody()).getIds());
+        verify(restTemplate, never()).exchange(
+                eq(BASE_URI + "/" + deleted.getId()),
+                any(HttpMethod.class),
+                any(HttpEntity.class),
+                any(Class.class),
+                anyMap()
+        );
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldDropCachedEmployeeAndReportNotFound_WhenUpstreamHasNoSuchId() {
+        List<EmployeeServerDto> serverEmployees = createMockServerEmployees();
+        EmployeeServerDto stale = serverEmployees.get(0);
+        EmployeeListApiResponseDto listResponseDto = new EmployeeListApiResponseDto();
+        listResponseDto.setData(serverEmployees);
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(listResponseDto));
+        employeeService.getAllEmployees();
+
+        EmployeeListApiResponseDto deleteResponseDto = new EmployeeListApiResponseDto();
+        deleteResponseDto.setData(Arrays.asList((EmployeeServerDto) null));
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/bulk"),
+                eq(HttpMethod.DELETE),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(deleteResponseDto));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployeeById(stale.getId().toString()));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployeeById(stale.getId().toString()));
+
+        List<EmployeeEntityDto> result = employeeService.getAllEmployees();
+        assertEquals(1, result.size());
+        assertEquals("Jane Smith", result.get(0).getEmployeeName());
+        verify(restTemplate, times(1)).exchange(
+                eq(BASE_URI + "/bulk"),
+                eq(HttpMethod.DELETE),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        );
+    }
+
+    @Test
+    void getEmployeeById_ShouldFallBackToCachedRoster_WhenUpstreamThrottles() {
+        List<EmployeeServerDto> serverEmployees = createMockServerEmployees();
+        EmployeeListApiResponseDto listResponseDto = new EmployeeListApiResponseDto();
+        listResponseDto.setData(serverEmployees);
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(listResponseDto));
+        employeeService.getAllEmployees();
+
+        UUID employeeId = serverEmployees.get(1).getId();
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/" + employeeId),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeApiResponseDto.class),
+                eq(Map.of())
+        )).thenThrow(HttpClientErrorException.create(
+                org.springframework.http.HttpStatus.TOO_MANY_REQUESTS,
+                "Too Many Requests",
+                org.springframework.http.HttpHeaders.EMPTY,
+                null,
+                null
+        ));
+
+        EmployeeEntityDto result = employeeService.getEmployeeById(employeeId.toString());
+
+        assertEquals("Jane Smith", result.getEmployeeName());
     }
 
     @Test
@@ -473,6 +719,346 @@ class EmployeeServiceImplTest {
         assertTrue(exception.getMessage().contains("An error occurred while making the HTTP request"));
     }
 
+    @Test
+    void salaryAndSearchEndpoints_ShouldStreamUpstreamRoster_WhenCacheDisabled() {
+        upstreamProperties.getCache().setEnabled(false);
+        String body = """
+                {"data":[
+                  {"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon","employee_salary":320800},
+                  {"id":"5255f1a5-f9f7-4be5-829a-134bde088d17","employee_name":"Bill Bob","employee_salary":89750},
+                  {"id":"2e0a3b4c-1d2e-4f5a-8b6c-7d8e9f0a1b2c","employee_name":"Jill Nixon","employee_salary":null}
+                ],"status":"Successfully processed request."}""";
+        when(restTemplate.execute(eq(BASE_URI), eq(HttpMethod.GET), any(), any())).thenAnswer(invocation -> {
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(
+                    new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+        });
+
+        assertEquals(320800, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Bill Bob", "Tiger Nixon"), employeeService.getTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of("Tiger Nixon", "Jill Nixon"), employeeService.getEmployeesByNameSearch("nixon").stream()
+                .map(EmployeeEntityDto::getEmployeeName)
+                .toList());
+        verify(restTemplate, times(3)).execute(eq(BASE_URI), eq(HttpMethod.GET), any(), any());
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(), any(Class.class), anyMap());
+    }
+
+    @Test
+    void streamAllEmployees_ShouldHandOverEveryEmployeeInRosterOrder() {
+        EmployeeListApiResponseDto responseDto = new EmployeeListApiResponseDto();
+        responseDto.setData(createMockServerEmployees());
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(responseDto));
+        List<UUID> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        // Cached records are views over reused rows, so their values are copied out while they are current.
+        employeeService.streamAllEmployees(record -> {
+            ids.add(new UUID(record.idMostSignificantBits(), record.idLeastSignificantBits()));
+            names.add(record.getEmployeeName());
+        });
+
+        assertEquals(employeeService.getAllEmployees().stream().map(EmployeeEntityDto::getId).toList(), ids);
+        assertEquals(List.of("John Doe", "Jane Smith"), names);
+    }
+
+    @Test
+    void getEmployeesByNameSearchWithLimit_ShouldStopFetchingPages_WhenEnoughMatchesFound() {
+        upstreamProperties.getCache().setEnabled(false);
+        upstreamProperties.getPaging().setPageSize(2);
+        stubPage(0, "2", createMockServerEmployee(UUID.randomUUID(), "Tiger Nixon", "t@example.com", 320800, "CEO", 61),
+                createMockServerEmployee(UUID.randomUUID(), "Bill Bob", "b@example.com", 89750, "Dev", 24));
+        stubPage(2, "4", createMockServerEmployee(UUID.randomUUID(), "Jill Nixon", "j@example.com", 70000, "Dev", 30),
+                createMockServerEmployee(UUID.randomUUID(), "Joe Nixon", "jo@example.com", 60000, "Dev", 40));
+
+        List<EmployeeEntityDto> result = employeeService.getEmployeesByNameSearch("nixon", 2);
+
+        assertEquals(List.of("Tiger Nixon", "Jill Nixon"), result.stream().map(EmployeeEntityDto::getEmployeeName).toList());
+        verify(restTemplate, never()).exchange(
+                eq(BASE_URI + "?limit=2&cursor=4"), any(HttpMethod.class), any(HttpEntity.class), eq(EmployeeListApiResponseDto.class), anyMap());
+    }
+
+    @Test
+    void getEmployeesByNameSearchWithLimit_ShouldReturnAllMatches_WhenRosterEndsFirst() {
+        upstreamProperties.getCache().setEnabled(false);
+        upstreamProperties.getPaging().setPageSize(2);
+        stubPage(0, null, createMockServerEmployee(UUID.randomUUID(), "Tiger Nixon", "t@example.com", 320800, "CEO", 61));
+
+        List<EmployeeEntityDto> result = employeeService.getEmployeesByNameSearch("nixon", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("Tiger Nixon", result.get(0).getEmployeeName());
+    }
+
+    @Test
+    void queryEndpoints_ShouldBePushedDown_WhenRosterIsNotCached() {
+        upstreamProperties.getPushdown().setEnabled(true);
+        EmployeeListApiResponseDto searchResponse = new EmployeeListApiResponseDto();
+        searchResponse.setData(List.of(
+                createMockServerEmployee(UUID.randomUUID(), "Tiger Nixon", "t@example.com", 320800, "CEO", 61)));
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/search?name={name}"),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of("name", "nixon"))
+        )).thenReturn(ResponseEntity.ok(searchResponse));
+        SalaryApiResponseDto salaryResponse = new SalaryApiResponseDto();
+        salaryResponse.setData(320800);
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/highestSalary"),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(SalaryApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(salaryResponse));
+        EmployeeListApiResponseDto topResponse = new EmployeeListApiResponseDto();
+        topResponse.setData(List.of(
+                createMockServerEmployee(UUID.randomUUID(), "Tiger Nixon", "t@example.com", 320800, "CEO", 61),
+                createMockServerEmployee(UUID.randomUUID(), "Bill Bob", "b@example.com", 89750, "Dev", 24)));
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/topEarners?limit=10"),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(topResponse));
+
+        assertEquals(List.of("Tiger Nixon"), employeeService.getEmployeesByNameSearch("nixon").stream()
+                .map(EmployeeEntityDto::getEmployeeName)
+                .toList());
+        assertEquals(320800, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(List.of("Bill Bob", "Tiger Nixon"), employeeService.getTopTenHighestEarningEmployeeNames());
+        verify(restTemplate, never()).exchange(
+                eq(BASE_URI), any(HttpMethod.class), any(HttpEntity.class), eq(EmployeeListApiResponseDto.class), anyMap());
+    }
+
+    @Test
+    void queryEndpoints_ShouldFallBackToRoster_WhenUpstreamDoesNotSupportPushDown() {
+        upstreamProperties.getPushdown().setEnabled(true);
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/highestSalary"),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(SalaryApiResponseDto.class),
+                eq(Map.of())
+        )).thenThrow(HttpServerErrorException.create(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "Internal Server Error",
+                org.springframework.http.HttpHeaders.EMPTY,
+                ("{\"status\":\"Failed to process request.\",\"error\":\"Method parameter 'id': Failed to convert"
+                        + " value of type 'java.lang.String' to required type 'java.util.UUID'; Invalid UUID string:"
+                        + " highestSalary\"}").getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8));
+        EmployeeListApiResponseDto rosterResponse = new EmployeeListApiResponseDto();
+        rosterResponse.setData(createMockServerEmployees());
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(rosterResponse));
+
+        assertEquals(60000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(1, employeeService.getEmployeesByNameSearch("jane").size());
+
+        verify(restTemplate, times(1)).exchange(
+                eq(BASE_URI + "/highestSalary"), any(HttpMethod.class), any(HttpEntity.class), eq(SalaryApiResponseDto.class), anyMap());
+        verify(restTemplate, never()).exchange(
+                eq(BASE_URI + "/search?name={name}"), any(HttpMethod.class), any(HttpEntity.class), eq(EmployeeListApiResponseDto.class), anyMap());
+    }
+
+    @Test
+    void getEmployeesByIds_ShouldAnswerCachedIds_AndLookUpEachMissOnce() {
+        when(mockEmployeeProperties.getBulk()).thenReturn(new MockEmployeeProperties.Bulk());
+        List<EmployeeServerDto> serverEmployees = createMockServerEmployees();
+        EmployeeListApiResponseDto listResponseDto = new EmployeeListApiResponseDto();
+        listResponseDto.setData(serverEmployees);
+        when(restTemplate.exchange(
+                eq(BASE_URI),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(listResponseDto));
+        employeeService.getAllEmployees();
+
+        String cachedId = serverEmployees.get(0).getId().toString();
+        String missingId = UUID.randomUUID().toString();
+        EmployeeListApiResponseDto lookupResponseDto = new EmployeeListApiResponseDto();
+        lookupResponseDto.setData(Arrays.asList((EmployeeServerDto) null));
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/bulk/lookup"),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(lookupResponseDto));
+
+        EmployeeBulkResultDto result = employeeService.getEmployeesByIds(
+                List.of(cachedId, missingId, cachedId, missingId.toUpperCase()));
+
+        assertEquals(1, result.getUpstreamRequests());
+        assertEquals(List.of(
+                EmployeeBulkResultDto.Status.FOUND,
+                EmployeeBulkResultDto.Status.NOT_FOUND,
+                EmployeeBulkResultDto.Status.FOUND,
+                EmployeeBulkResultDto.Status.NOT_FOUND
+        ), result.getResults().stream().map(EmployeeBulkResultDto.Item::getStatus).toList());
+        assertEquals(List.of(0, 1, 2, 3), result.getResults().stream().map(EmployeeBulkResultDto.Item::getIndex).toList());
+        assertEquals("John Doe", result.getResults().get(2).getEmployee().getEmployeeName());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(2, result.getNotFound());
+        assertEquals(0, result.getFailed());
+    }
+
+    @Test
+    void getEmployeesByIds_ShouldPostLookupBatches_AndRetryThemOnTransientFailures() {
+        MockEmployeeProperties.Bulk bulk = new MockEmployeeProperties.Bulk();
+        bulk.setLookupBatchSize(2);
+        when(mockEmployeeProperties.getBulk()).thenReturn(bulk);
+        List<List<UUID>> batches = new ArrayList<>();
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/bulk/lookup"),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenThrow(HttpServerErrorException.create(
+                HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", org.springframework.http.HttpHeaders.EMPTY,
+                null, null
+        )).thenAnswer(invocation -> {
+            HttpEntity<EmployeeBulkLookupDto> entity = invocation.getArgument(2);
+            batches.add(entity.getBody().getIds());
+            EmployeeListApiResponseDto responseDto = new EmployeeListApiResponseDto();
+            responseDto.setData(Arrays.asList(new EmployeeServerDto[entity.getBody().getIds().size()]));
+            return ResponseEntity.ok(responseDto);
+        });
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+
+        EmployeeBulkResultDto result = employeeService.getEmployeesByIds(ids);
+
+        assertEquals(3, result.getUpstreamRequests());
+        assertEquals(5, result.getNotFound());
+        assertEquals(List.of(2, 2, 1), batches.stream().map(List::size).toList());
+        verify(restTemplate, times(4)).exchange(
+                eq(BASE_URI + "/bulk/lookup"),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of()));
+    }
+
+    @Test
+    void createEmployees_ShouldSendOneUpstreamRequestPerBatch() {
+        MockEmployeeProperties.Bulk bulk = new MockEmployeeProperties.Bulk();
+        bulk.setBatchSize(2);
+        when(mockEmployeeProperties.getBulk()).thenReturn(bulk);
+        List<EmployeeCreationDto> inputs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmployeeCreationDto input = new EmployeeCreationDto();
+            input.setName("Employee " + i);
+            input.setSalary(50000 + i);
+            input.setAge(30);
+            input.setTitle("Developer");
+            inputs.add(input);
+        }
+
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/bulk"),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenAnswer(invocation -> {
+            HttpEntity<?> request = invocation.getArgument(2);
+            EmployeeListApiResponseDto responseDto = new EmployeeListApiResponseDto();
+            responseDto.setData(((EmployeeBulkCreationDto) request.getBody()).getEmployees().stream()
+                    .map(input -> createMockServerEmployee(UUID.randomUUID(), input.getName(), "employee@example.com",
+                            input.getSalary(), input.getTitle(), input.getAge()))
+                    .toList());
+            return ResponseEntity.ok(responseDto);
+        });
+
+        EmployeeBulkResultDto result = employeeService.createEmployees(inputs);
+
+        assertEquals(2, result.getUpstreamRequests());
+        assertEquals(3, result.getSucceeded());
+        assertEquals(0, result.getFailed());
+        assertEquals(List.of("Employee 0", "Employee 1", "Employee 2"), result.getResults().stream()
+                .map(item -> item.getEmployee().getEmployeeName())
+                .toList());
+        assertEquals(List.of(0, 1, 2), result.getResults().stream().map(EmployeeBulkResultDto.Item::getIndex).toList());
+        assertTrue(result.getResults().stream()
+                .allMatch(item -> item.getStatus() == EmployeeBulkResultDto.Status.CREATED));
+    }
+
+    @Test
+    void deleteEmployeesByIds_ShouldReportEachId_AndGoOn_WhenABatchFails() {
+        MockEmployeeProperties.Bulk bulk = new MockEmployeeProperties.Bulk();
+        bulk.setBatchSize(2);
+        when(mockEmployeeProperties.getBulk()).thenReturn(bulk);
+        UUID deletedId = UUID.randomUUID();
+        List<String> ids = List.of(deletedId.toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        EmployeeListApiResponseDto firstBatch = new EmployeeListApiResponseDto();
+        firstBatch.setData(Arrays.asList(
+                createMockServerEmployee(deletedId, "John Doe", "john@example.com", 50000, "Developer", 30),
+                null));
+
+        when(restTemplate.exchange(
+                eq(BASE_URI + "/bulk"),
+                eq(HttpMethod.DELETE),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(ResponseEntity.ok(firstBatch)).thenThrow(HttpClientErrorException.create(
+                HttpStatus.BAD_REQUEST,
+                "Bad Request",
+                org.springframework.http.HttpHeaders.EMPTY,
+                null,
+                null
+        ));
+
+        EmployeeBulkResultDto result = employeeService.deleteEmployeesByIds(ids);
+
+        assertEquals(2, result.getUpstreamRequests());
+        assertEquals(List.of(
+                EmployeeBulkResultDto.Status.DELETED,
+                EmployeeBulkResultDto.Status.NOT_FOUND,
+                EmployeeBulkResultDto.Status.FAILED
+        ), result.getResults().stream().map(EmployeeBulkResultDto.Item::getStatus).toList());
+        assertEquals(ids, result.getResults().stream().map(EmployeeBulkResultDto.Item::getId).toList());
+        assertEquals("John Doe", result.getResults().get(0).getEmployee().getEmployeeName());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getNotFound());
+        assertEquals(1, result.getFailed());
+    }
+
+    private void stubPage(long cursor, String nextCursor, EmployeeServerDto... employees) {
+        EmployeeListApiResponseDto responseDto = new EmployeeListApiResponseDto();
+        responseDto.setData(Arrays.asList(employees));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(RosterPager.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        when(restTemplate.exchange(
+                eq(BASE_URI + "?limit=" + upstreamProperties.getPaging().getPageSize() + "&cursor=" + cursor),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(EmployeeListApiResponseDto.class),
+                eq(Map.of())
+        )).thenReturn(response.body(responseDto));
+    }
+
     private List<EmployeeServerDto> createMockServerEmployees() {
         return Arrays.asList(
                 createMockServerEmployee(UUID.randomUUID(), "John Doe", "john.doe@example.com", 50000, "Developer", 30),
@@ -0,0 +1,349 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.NotFoundIdCache;
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.response.EmployeeApiResponseDto;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.dto.response.EmployeeListApiResponseDto;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.service.impl.ReactiveEmployeeServiceImpl;
+import com.reliaquest.api.upstream.AdaptiveRateLimiter;
+import com.reliaquest.api.upstream.QueryPushdown;
+import com.reliaquest.api.upstream.RequestCoalescer;
+import com.reliaquest.api.upstream.RetryPolicy;
+import com.reliaquest.api.upstream.RosterPager;
+import com.reliaquest.api.upstream.RosterStreamReader;
+import com.reliaquest.api.upstream.UpstreamCircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveEmployeeServiceImplTest {
+
+    private static final String BASE_URI = "http://localhost:8080/api/v1/employees";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ConcurrentLinkedQueue<String> requests = new ConcurrentLinkedQueue<>();
+
+    private MockEmployeeProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private Function<ClientRequest, ClientResponse> upstream;
+
+    private Duration latency = Duration.ZERO;
+
+    private AdaptiveRateLimiter rateLimiter;
+
+    private UpstreamCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MockEmployeeProperties();
+        properties.setUri(BASE_URI);
+        properties.getPaging().setPageSize(2);
+    }
+
+    @Test
+    void getEmployeesByNameSearch_WithLimit_ShouldStopRequestingPages_OnceEnoughMatchesAreFound() {
+        properties.getCache().setEnabled(false);
+        List<EmployeeServerDto> roster = roster(20);
+        upstream = request -> page(roster, request);
+
+        List<EmployeeEntityDto> result = service(new EmployeeRosterCache(properties, meterRegistry))
+                .getEmployeesByNameSearch("employee 1", 1)
+                .collectList()
+                .block();
+
+        assertEquals(List.of("Employee 1"), result.stream().map(EmployeeEntityDto::getEmployeeName).toList());
+        assertTrue(requests.size() <= 2, "requested " + requests);
+    }
+
+    @Test
+    void getAllEmployees_ShouldReadTheWholeRosterInOneRequest() {
+        properties.getCache().setEnabled(false);
+        List<EmployeeServerDto> roster = roster(2_500);
+        upstream = request -> page(roster, request);
+
+        List<EmployeeEntityDto> result = service(new EmployeeRosterCache(properties, meterRegistry))
+                .getAllEmployees()
+                .collectList()
+                .block();
+
+        assertEquals(roster.stream().map(EmployeeServerDto::getEmployeeName).toList(),
+                result.stream().map(EmployeeEntityDto::getEmployeeName).toList());
+        assertEquals(List.of("GET " + BASE_URI), List.copyOf(requests));
+    }
+
+    @Test
+    void getAllEmployees_ShouldRetryTheRosterRead_OnlyBeforeAnEmployeeWasEmitted() {
+        properties.getCache().setEnabled(false);
+        List<EmployeeServerDto> roster = roster(3);
+        upstream = request -> requests.size() == 1
+                ? ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()
+                : page(roster, request);
+
+        assertEquals(3, service(new EmployeeRosterCache(properties, meterRegistry)).getAllEmployees().count().block());
+        assertEquals(2, requests.size());
+
+        requests.clear();
+        upstream = request -> ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"data\":[{\"employee_name\":\"Employee 0\"},{\"employee_name\":")
+                .build();
+        List<EmployeeEntityDto> emitted = new ArrayList<>();
+
+        UpstreamServiceException failure = assertThrows(UpstreamServiceException.class,
+                () -> service(new EmployeeRosterCache(properties, meterRegistry))
+                        .getAllEmployees()
+                        .doOnNext(emitted::add)
+                        .blockLast());
+        assertFalse(failure.isRetryable());
+        assertEquals(1, emitted.size());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_ShouldComputeFromOneRosterRead_WhenPushDownIsUnsupported() {
+        properties.getCache().setEnabled(false);
+        List<EmployeeServerDto> roster = roster(7);
+        upstream = request -> request.url().getPath().endsWith("/highestSalary")
+                ? ClientResponse.create(HttpStatus.BAD_REQUEST)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body("{\"error\":\"Failed to convert value of type 'java.lang.String' to required type "
+                                + "'java.util.UUID'\"}")
+                        .build()
+                : page(roster, request);
+        QueryPushdown queryPushdown = new QueryPushdown(properties, meterRegistry);
+
+        Integer highest = service(new EmployeeRosterCache(properties, meterRegistry), queryPushdown)
+                .getHighestSalaryOfEmployees()
+                .block();
+
+        assertEquals(roster.stream().mapToInt(EmployeeServerDto::getEmployeeSalary).max().orElseThrow(), highest);
+        assertFalse(queryPushdown.isAvailable());
+        assertEquals(List.of("GET " + BASE_URI + "/highestSalary", "GET " + BASE_URI), List.copyOf(requests));
+    }
+
+    @Test
+    void getEmployeeById_ShouldRetryTransientFailures() {
+        EmployeeServerDto employee = roster(1).get(0);
+        upstream = request -> requests.size() == 1
+                ? ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()
+                : json(HttpStatus.OK, response(employee));
+
+        EmployeeEntityDto result = service(new EmployeeRosterCache(properties, meterRegistry))
+                .getEmployeeById(employee.getId().toString())
+                .block();
+
+        assertEquals(employee.getEmployeeName(), result.getEmployeeName());
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    void getEmployeeById_ShouldServeCachedEmployee_WhenThrottled() {
+        properties.getPushdown().setEnabled(false);
+        properties.getRateLimit().setEnabled(false);
+        List<EmployeeServerDto> roster = roster(5);
+        EmployeeServerDto employee = roster.get(3);
+        EmployeeRosterCache cache = new EmployeeRosterCache(properties, meterRegistry, Runnable::run, Clock.systemUTC());
+        ReactiveEmployeeService service = service(cache);
+        upstream = request -> page(roster, request);
+        assertEquals(5, service.getAllEmployees().count().block());
+
+        upstream = request -> ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build();
+        EmployeeEntityDto result = service.getEmployeeById(employee.getId().toString()).block();
+
+        assertEquals(employee.getEmployeeName(), result.getEmployeeName());
+
+        upstream = request -> ClientResponse.create(HttpStatus.NOT_FOUND).build();
+        assertThrows(EmployeeNotFoundException.class,
+                () -> service.getEmployeeById(UUID.randomUUID().toString()).block());
+    }
+
+    @Test
+    void getEmployeeById_ShouldNotCallTheUpstream_WhileTheCircuitIsOpen() {
+        properties.getRetry().setEnabled(false);
+        properties.getCircuitBreaker().setMinimumCalls(1);
+        upstream = request -> ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build();
+        ReactiveEmployeeService service = service(new EmployeeRosterCache(properties, meterRegistry));
+
+        assertThrows(UpstreamServiceException.class,
+                () -> service.getEmployeeById(UUID.randomUUID().toString()).block());
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(UpstreamUnavailableException.class,
+                () -> service.getEmployeeById(UUID.randomUUID().toString()).block());
+
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    void getEmployeeById_ShouldShedLocally_WhileTheUpstreamLockoutOutlastsTheQueueWait() {
+        properties.getRetry().setEnabled(false);
+        upstream = request -> ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .build();
+        ReactiveEmployeeService service = service(new EmployeeRosterCache(properties, meterRegistry));
+
+        TooManyRequestsException throttled = assertThrows(TooManyRequestsException.class,
+                () -> service.getEmployeeById(UUID.randomUUID().toString()).block());
+        assertFalse(throttled.isShedLocally());
+        TooManyRequestsException shed = assertThrows(TooManyRequestsException.class,
+                () -> service.getEmployeeById(UUID.randomUUID().toString()).block());
+        assertTrue(shed.isShedLocally());
+
+        assertEquals(1, requests.size());
+        assertEquals(1, rateLimiter.getShedCount());
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void getEmployeeById_ShouldShareOneUpstreamCall_BetweenConcurrentIdenticalReads() {
+        EmployeeServerDto employee = roster(1).get(0);
+        upstream = request -> json(HttpStatus.OK, response(employee));
+        latency = Duration.ofMillis(200);
+        ReactiveEmployeeService service = service(new EmployeeRosterCache(properties, meterRegistry));
+        String id = employee.getId().toString();
+
+        List<EmployeeEntityDto> results = Mono.zip(service.getEmployeeById(id), service.getEmployeeById(id))
+                .map(pair -> List.of(pair.getT1(), pair.getT2()))
+                .block();
+
+        assertEquals(1, requests.size());
+        assertEquals(employee.getEmployeeName(), results.get(0).getEmployeeName());
+        assertEquals(employee.getEmployeeName(), results.get(1).getEmployeeName());
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldDeleteByIdInOneUpstreamRequest() {
+        EmployeeServerDto employee = roster(3).get(1);
+        EmployeeListApiResponseDto deleted = new EmployeeListApiResponseDto();
+        deleted.setData(List.of(employee));
+        upstream = request -> json(HttpStatus.OK, deleted);
+
+        String name = service(new EmployeeRosterCache(properties, meterRegistry))
+                .deleteEmployeeById(employee.getId().toString())
+                .block();
+
+        assertEquals(employee.getEmployeeName(), name);
+        assertEquals(List.of("DELETE " + BASE_URI + "/bulk"), List.copyOf(requests));
+    }
+
+    private ReactiveEmployeeService service(EmployeeRosterCache cache) {
+        return service(cache, new QueryPushdown(properties, meterRegistry));
+    }
+
+    private ReactiveEmployeeService service(EmployeeRosterCache cache, QueryPushdown queryPushdown) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.add(request.method() + " " + request.url());
+                    Mono<ClientResponse> response = Mono.fromSupplier(() -> upstream.apply(request));
+                    return latency.isZero() ? response : response.delayElement(latency);
+                })
+                .build();
+        rateLimiter = new AdaptiveRateLimiter(properties, meterRegistry);
+        circuitBreaker = new UpstreamCircuitBreaker(properties, meterRegistry, event -> { });
+        return new ReactiveEmployeeServiceImpl(
+                webClient,
+                properties,
+                cache,
+                new RetryPolicy(properties, meterRegistry, delay -> { }, new Random(42), Clock.systemUTC()),
+                queryPushdown,
+                new NotFoundIdCache(properties, meterRegistry),
+                new RequestCoalescer(meterRegistry),
+                rateLimiter,
+                circuitBreaker,
+                new RosterStreamReader(objectMapper),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Answers a roster request the way the mock server does: the whole roster without a limit, otherwise one page
+     * with the cursor being the offset of the page.
+     */
+    private ClientResponse page(List<EmployeeServerDto> roster, ClientRequest request) {
+        String query = request.url().getQuery();
+        if (query == null) {
+            EmployeeListApiResponseDto body = new EmployeeListApiResponseDto();
+            body.setData(roster);
+            return json(HttpStatus.OK, body);
+        }
+        int limit = Integer.parseInt(query.replaceAll(".*limit=(\\d+).*", "$1"));
+        int cursor = Integer.parseInt(query.replaceAll(".*cursor=(\\d+).*", "$1"));
+        int end = Math.min(cursor + limit, roster.size());
+
+        EmployeeListApiResponseDto body = new EmployeeListApiResponseDto();
+        body.setData(roster.subList(cursor, end));
+        ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(write(body));
+        if (end < roster.size()) {
+            response.header(RosterPager.NEXT_CURSOR_HEADER, String.valueOf(end));
+        }
+        return response.build();
+    }
+
+    private ClientResponse json(HttpStatus status, Object body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(write(body))
+                .build();
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static EmployeeApiResponseDto response(EmployeeServerDto employee) {
+        EmployeeApiResponseDto response = new EmployeeApiResponseDto();
+        response.setData(employee);
+        return response;
+    }
+
+    private static List<EmployeeServerDto> roster(int size) {
+        Random random = new Random(size);
+        List<EmployeeServerDto> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EmployeeServerDto employee = new EmployeeServerDto();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()));
+            employee.setEmployeeName("Employee " + i);
+            employee.setEmployeeEmail("employee" + i + "@company.com");
+            employee.setEmployeeSalary(random.nextInt(30_000, 500_000));
+            employee.setEmployeeTitle("Developer");
+            employee.setEmployeeAge(random.nextInt(18, 70));
+            roster.add(employee);
+        }
+        return roster;
+    }
+}
@@ -0,0 +1,147 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimiterTest {
+
+    private MockEmployeeProperties properties;
+
+    private MutableClock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MockEmployeeProperties();
+        properties.getRateLimit().setInitialBudget(5);
+        properties.getRateLimit().setInitialBackoff(Duration.ofSeconds(30));
+        properties.getRateLimit().setMaxQueueWait(Duration.ZERO);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new AdaptiveRateLimiter(properties, meterRegistry, clock);
+    }
+
+    @Test
+    void acquire_ShouldProbeBeyondBudget_WhenWindowUsedUpWithoutThrottling() {
+        admit(6);
+
+        assertEquals(6, rateLimiter.getEstimatedBudget());
+        assertEquals(6.0, meterRegistry.get("employee.upstream.limiter.budget").gauge().value());
+    }
+
+    @Test
+    void acquire_ShouldHoldBackRequestsAfterTheProbe_UntilTheWindowHasPassed() {
+        admit(6);
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, rateLimiter::acquire);
+        assertTrue(exception.isShedLocally());
+        assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+        assertEquals(Duration.ofSeconds(30), rateLimiter.tryAcquire(Duration.ofSeconds(30), false));
+        assertEquals(6, rateLimiter.getEstimatedBudget());
+        assertEquals(1, rateLimiter.getShedCount());
+
+        clock.advance(Duration.ofSeconds(30));
+        admit(6);
+        assertEquals(6, rateLimiter.getEstimatedBudget());
+    }
+
+    @Test
+    void recordThrottled_ShouldLearnObservedBudgetAndShed_WhenProbeIsThrottled() {
+        admit(6);
+        clock.advance(Duration.ofSeconds(30));
+        admit(6);
+        rateLimiter.acquire();
+        rateLimiter.recordThrottled(null);
+
+        assertEquals(6, rateLimiter.getEstimatedBudget());
+        assertTrue(rateLimiter.isLockedOut());
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, rateLimiter::acquire);
+        assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+        assertEquals(1, rateLimiter.getShedCount());
+    }
+
+    @Test
+    void recordThrottled_ShouldShrinkBudget_WhenThrottledEarlierThanExpected() {
+        admit(2);
+        rateLimiter.acquire();
+        rateLimiter.recordThrottled(null);
+
+        assertEquals(3, rateLimiter.getEstimatedBudget());
+    }
+
+    @Test
+    void acquire_ShouldResumeAfterLockout_AndGrowBackoffWhenProbeIsStillThrottled() {
+        admit(5);
+        rateLimiter.acquire();
+        rateLimiter.recordThrottled(null);
+
+        clock.advance(Duration.ofSeconds(31));
+        assertFalse(rateLimiter.isLockedOut());
+        rateLimiter.acquire();
+        rateLimiter.recordThrottled(null);
+
+        assertEquals(Duration.ofSeconds(45), rateLimiter.getEstimatedBackoff());
+        assertTrue(rateLimiter.isLockedOut());
+
+        clock.advance(Duration.ofSeconds(46));
+        rateLimiter.acquire();
+        rateLimiter.recordAdmitted();
+        assertFalse(rateLimiter.isLockedOut());
+    }
+
+    @Test
+    void recordThrottled_ShouldHonourRetryAfter_WhenUpstreamSendsIt() {
+        rateLimiter.acquire();
+        rateLimiter.recordThrottled(Duration.ofSeconds(5));
+
+        clock.advance(Duration.ofSeconds(4));
+        assertTrue(rateLimiter.isLockedOut());
+        clock.advance(Duration.ofSeconds(1));
+        assertFalse(rateLimiter.isLockedOut());
+    }
+
+    @Test
+    void acquire_ShouldNeverShed_WhenDisabled() {
+        properties.getRateLimit().setEnabled(false);
+
+        rateLimiter.recordThrottled(null);
+        assertDoesNotThrow(rateLimiter::acquire);
+    }
+
+    @Test
+    void tryAcquire_ShouldReturnTheLockoutWait_InsteadOfBlocking() {
+        admit(5);
+        rateLimiter.acquire();
+        rateLimiter.recordThrottled(Duration.ofSeconds(10));
+
+        assertEquals(Duration.ofSeconds(10), rateLimiter.tryAcquire(Duration.ofSeconds(20), false));
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.tryAcquire(Duration.ofSeconds(5), false));
+        assertTrue(exception.isShedLocally());
+
+        clock.advance(Duration.ofSeconds(10));
+        assertEquals(Duration.ZERO, rateLimiter.tryAcquire(Duration.ofSeconds(10), true));
+        assertEquals(1.0, meterRegistry.get("employee.upstream.limiter.decisions")
+                .tag("outcome", "queued")
+                .counter().count());
+    }
+
+    private void admit(int requests) {
+        for (int i = 0; i < requests; i++) {
+            rateLimiter.acquire();
+            rateLimiter.recordAdmitted();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPushdownTest {
+
+    private MockEmployeeProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private QueryPushdown queryPushdown;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MockEmployeeProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        queryPushdown = new QueryPushdown(properties, meterRegistry);
+    }
+
+    @Test
+    void execute_ShouldReturnUpstreamAnswer_WhenSupported() {
+        assertTrue(queryPushdown.isAvailable());
+        assertEquals(Optional.of(320800), queryPushdown.execute("highestSalary", () -> 320800));
+        assertEquals(1, meterRegistry.get("employee.upstream.pushdown")
+                .tags("query", "highestSalary", "outcome", "pushed").counter().count());
+    }
+
+    @Test
+    void execute_ShouldTurnPushdownOff_WhenUpstreamAnswers404() {
+        assertEquals(Optional.empty(), queryPushdown.execute("search", () -> {
+            throw new ResourceNotFoundException("Resource not found at URL: /search");
+        }));
+
+        assertFalse(queryPushdown.isAvailable());
+        assertEquals(1, meterRegistry.get("employee.upstream.pushdown")
+                .tags("query", "search", "outcome", "unsupported").counter().count());
+    }
+
+    @Test
+    void execute_ShouldTurnPushdownOff_WhenUpstreamRoutesTheQueryToItsIdLookup() {
+        assertEquals(Optional.empty(), queryPushdown.execute("topEarners", () -> {
+            throw upstreamFailure(HttpStatus.BAD_REQUEST,
+                    "{\"error\":\"Failed to convert value of type 'java.lang.String' to required type 'java.util.UUID'\"}");
+        }));
+        assertFalse(queryPushdown.isAvailable());
+
+        assertTrue(QueryPushdown.isUnsupportedAnswer(upstreamFailure(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "{\"error\":\"Failed to convert value of type 'java.lang.String' to required type 'java.util.UUID'\"}")));
+        assertFalse(QueryPushdown.isUnsupportedAnswer(upstreamFailure(HttpStatus.INTERNAL_SERVER_ERROR, "boom")));
+    }
+
+    @Test
+    void execute_ShouldPropagateValidationFailure_AndStayAvailable_WhenUpstreamRejectsTheQuery() {
+        assertThrows(UpstreamServiceException.class, () -> queryPushdown.execute("search", () -> {
+            throw upstreamFailure(HttpStatus.BAD_REQUEST, "{\"error\":\"name must not be blank\"}");
+        }));
+
+        assertTrue(queryPushdown.isAvailable());
+        assertFalse(QueryPushdown.isUnsupportedAnswer(upstreamFailure(HttpStatus.BAD_REQUEST, "")));
+    }
+
+    @Test
+    void execute_ShouldPropagateOtherFailures_AndStayAvailable() {
+        assertThrows(UpstreamServiceException.class, () -> queryPushdown.execute("search", () -> {
+            throw new UpstreamServiceException("boom", null, true);
+        }));
+
+        assertTrue(queryPushdown.isAvailable());
+    }
+
+    @Test
+    void isAvailable_ShouldBeFalse_WhenDisabled() {
+        properties.getPushdown().setEnabled(false);
+
+        assertFalse(queryPushdown.isAvailable());
+    }
+
+    private static UpstreamServiceException upstreamFailure(HttpStatus status, String body) {
+        HttpStatusCodeException cause = status.is5xxServerError()
+                ? HttpServerErrorException.create(status, status.getReasonPhrase(), HttpHeaders.EMPTY,
+                        body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)
+                : HttpClientErrorException.create(status, status.getReasonPhrase(), HttpHeaders.EMPTY,
+                        body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        return new UpstreamServiceException("upstream failed", cause, status.is5xxServerError());
+    }
+}
@@ -0,0 +1,165 @@
+package com.reliaquest.api.upstream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+
+    private static final int CALLERS = 20;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RequestCoalescer requestCoalescer;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldShareOneUpstreamCall_WhenConcurrentGetsForSameUrl() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> requestCoalescer.execute(HttpMethod.GET, URL, () -> {
+                upstreamCalls.incrementAndGet();
+                awaitQuietly(release);
+                return "roster";
+            })));
+        }
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("roster", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, requestCoalescer.getLeaderCount());
+        assertEquals(CALLERS - 1, requestCoalescer.getCoalescedCount());
+        assertEquals(CALLERS - 1, meterRegistry.get("employee.upstream.coalescing.waiters")
+                .tag("uri", "/api/v1/employee")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void execute_ShouldPropagateLeaderFailureToWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(executor.submit(() -> requestCoalescer.execute(HttpMethod.GET, URL, () -> {
+                awaitQuietly(release);
+                throw new IllegalStateException("upstream down");
+            })));
+        }
+        awaitWaiters(1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void execute_ShouldStartNewCall_OnceThePreviousOneCompleted() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        requestCoalescer.execute(HttpMethod.GET, URL, upstreamCalls::incrementAndGet);
+        requestCoalescer.execute(HttpMethod.GET, URL, upstreamCalls::incrementAndGet);
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0, requestCoalescer.getCoalescedCount());
+    }
+
+    @Test
+    void execute_ShouldNotCoalesceWrites() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        requestCoalescer.execute(HttpMethod.POST, URL, upstreamCalls::incrementAndGet);
+        requestCoalescer.execute(HttpMethod.DELETE, URL, upstreamCalls::incrementAndGet);
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0, requestCoalescer.getLeaderCount());
+    }
+
+    @Test
+    void executeAsync_ShouldShareOneCall_AndLetCallersCancelWithoutCancellingIt() throws Exception {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        CompletableFuture<String> leader = requestCoalescer.executeAsync(HttpMethod.GET, URL, () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> waiter = requestCoalescer.executeAsync(HttpMethod.GET, URL, () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream;
+        });
+        leader.cancel(true);
+        upstream.complete("roster");
+
+        assertEquals("roster", waiter.get(5, TimeUnit.SECONDS));
+        assertFalse(upstream.isCancelled());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, requestCoalescer.getWaiterCount(HttpMethod.GET, URL));
+    }
+
+    @Test
+    void execute_ShouldTagByIdLookupsWithUriTemplate() {
+        requestCoalescer.execute(HttpMethod.GET, URL + "/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", () -> "employee");
+
+        assertEquals(1, meterRegistry.get("employee.upstream.coalescing.waiters")
+                .tag("uri", "/api/v1/employee/{id}")
+                .summary()
+                .count());
+    }
+
+    private void awaitWaiters(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requestCoalescer.getWaiterCount(HttpMethod.GET, URL) < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + expected + " coalesced callers");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
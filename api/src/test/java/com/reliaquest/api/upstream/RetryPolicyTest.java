@@ -0,0 +1,208 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import com.reliaquest.api.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    private MockEmployeeProperties properties;
+
+    private MutableClock clock;
+
+    private List<Duration> sleeps;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RetryPolicy retryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MockEmployeeProperties();
+        properties.getRetry().setMaxAttempts(3);
+        properties.getRetry().setBaseDelay(Duration.ofMillis(100));
+        properties.getRetry().setMaxDelay(Duration.ofSeconds(2));
+        properties.getRetry().setRequestDeadline(Duration.ofSeconds(5));
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        sleeps = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        retryPolicy = new RetryPolicy(properties, meterRegistry, delay -> {
+            sleeps.add(delay);
+            clock.advance(delay);
+        }, new Random(42), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void execute_ShouldRetryGet_UntilTransientFailureClears() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw serverError();
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, sleeps.size());
+        assertTrue(sleeps.get(0).compareTo(Duration.ofMillis(100)) <= 0);
+        assertTrue(sleeps.get(1).compareTo(Duration.ofMillis(200)) <= 0);
+        assertEquals(2.0, meterRegistry.get("employee.upstream.retries")
+                .tag("uri", "/api/v1/employee/{id}")
+                .counter().count());
+        assertEquals(3, meterRegistry.get("employee.upstream.attempts").timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum());
+    }
+
+    @Test
+    void execute_ShouldGiveUp_AfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(UpstreamServiceException.class, () -> retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            calls.incrementAndGet();
+            throw serverError();
+        }));
+
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_NonIdempotentMethods() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(UpstreamServiceException.class, () -> retryPolicy.execute(HttpMethod.POST, URL, () -> {
+            calls.incrementAndGet();
+            throw serverError();
+        }));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_ShouldRetryPost_WhenTheCallerDeclaresItIdempotent() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retryPolicy.execute(HttpMethod.POST, URL, true, () -> {
+            if (calls.incrementAndGet() < 2) {
+                throw serverError();
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_DeleteByDefault() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(UpstreamServiceException.class, () -> retryPolicy.execute(HttpMethod.DELETE, URL, () -> {
+            calls.incrementAndGet();
+            throw serverError();
+        }));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_PermanentFailures() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(ResourceNotFoundException.class, () -> retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            calls.incrementAndGet();
+            throw new ResourceNotFoundException("not found");
+        }));
+        assertThrows(UpstreamServiceException.class, () -> retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            calls.incrementAndGet();
+            throw new UpstreamServiceException("bad request", null, false);
+        }));
+
+        assertEquals(2, calls.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void execute_ShouldWaitRetryAfter_WhenThrottledWithHint() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new TooManyRequestsException("throttled", Duration.ofSeconds(1));
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(List.of(Duration.ofSeconds(1)), sleeps);
+    }
+
+    @Test
+    void execute_ShouldNotRetry_RequestsShedByTheLocalLimiter() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(TooManyRequestsException.class, () -> retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            calls.incrementAndGet();
+            throw new TooManyRequestsException("shed", Duration.ofSeconds(1), true);
+        }));
+
+        assertEquals(1, calls.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_WhenRetryAfterExceedsRequestDeadline() {
+        RequestDeadline.set(clock.instant().plus(Duration.ofSeconds(2)));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(TooManyRequestsException.class, () -> retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            calls.incrementAndGet();
+            throw new TooManyRequestsException("throttled", Duration.ofSeconds(30));
+        }));
+
+        assertEquals(1, calls.get());
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    void execute_ShouldNotRetry_WhenDisabled() {
+        properties.getRetry().setEnabled(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(UpstreamServiceException.class, () -> retryPolicy.execute(HttpMethod.GET, URL, () -> {
+            calls.incrementAndGet();
+            throw serverError();
+        }));
+
+        assertEquals(1, calls.get());
+    }
+
+    private static UpstreamServiceException serverError() {
+        return new UpstreamServiceException("An error occurred while making the HTTP request: 503", null, true);
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import com.reliaquest.api.exception.UpstreamServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterPagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RosterPager rosterPager;
+
+    private final List<Long> requestedCursors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockEmployeeProperties properties = new MockEmployeeProperties();
+        properties.getPaging().setPageSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        rosterPager = new RosterPager(properties, meterRegistry);
+    }
+
+    @Test
+    void iterate_ShouldWalkAllPagesInOrder() {
+        Iterator<EmployeeServerDto> roster = rosterPager.iterate(pages(
+                new RosterPager.Page(List.of(employee("Tiger Nixon"), employee("Bill Bob")), OptionalLong.of(2)),
+                new RosterPager.Page(List.of(), OptionalLong.of(5)),
+                new RosterPager.Page(List.of(employee("Jill Nixon")), OptionalLong.empty())));
+
+        List<String> names = new ArrayList<>();
+        roster.forEachRemaining(employee -> names.add(employee.getEmployeeName()));
+
+        assertEquals(List.of("Tiger Nixon", "Bill Bob", "Jill Nixon"), names);
+        assertEquals(List.of(0L, 2L, 5L), requestedCursors);
+        assertFalse(roster.hasNext());
+        assertThrows(NoSuchElementException.class, roster::next);
+        assertEquals(3, meterRegistry.get("employee.upstream.page.fetch").timer().count());
+        assertEquals(3, meterRegistry.get("employee.upstream.page.size").summary().totalAmount());
+    }
+
+    @Test
+    void iterate_ShouldOnlyFetchPagesAsTheyAreReached() {
+        Iterator<EmployeeServerDto> roster = rosterPager.iterate(pages(
+                new RosterPager.Page(List.of(employee("Tiger Nixon"), employee("Bill Bob")), OptionalLong.of(2)),
+                new RosterPager.Page(List.of(employee("Jill Nixon")), OptionalLong.empty())));
+
+        assertTrue(requestedCursors.isEmpty());
+        assertEquals("Tiger Nixon", roster.next().getEmployeeName());
+        assertEquals("Bill Bob", roster.next().getEmployeeName());
+        assertEquals(List.of(0L), requestedCursors);
+    }
+
+    @Test
+    void iterate_ShouldFail_WhenCursorDoesNotAdvance() {
+        Iterator<EmployeeServerDto> roster = rosterPager.iterate(pages(
+                new RosterPager.Page(List.of(), OptionalLong.of(0))));
+
+        UpstreamServiceException exception = assertThrows(UpstreamServiceException.class, roster::hasNext);
+        assertFalse(exception.isRetryable());
+    }
+
+    private RosterPager.PageFetcher pages(RosterPager.Page... pages) {
+        return (cursor, limit) -> {
+            assertEquals(2, limit);
+            requestedCursors.add(cursor);
+            return pages[requestedCursors.size() - 1];
+        };
+    }
+
+    private static EmployeeServerDto employee(String name) {
+        EmployeeServerDto employee = new EmployeeServerDto();
+        employee.setEmployeeName(name);
+        return employee;
+    }
+}
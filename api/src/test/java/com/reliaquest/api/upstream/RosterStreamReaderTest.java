@@ -0,0 +1,116 @@
+package com.reliaquest.api.upstream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterStreamReaderTest {
+
+    private final RosterStreamReader reader = new RosterStreamReader(new ObjectMapper());
+
+    @Test
+    void read_ShouldDeliverEveryEmployeeInOrder_IgnoringOtherFields() throws IOException {
+        List<EmployeeServerDto> employees = new ArrayList<>();
+
+        long count = reader.read(body("""
+                {"status":"Successfully processed request.","meta":{"page":[1,2]},"data":[
+                  {"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"Tiger Nixon","employee_salary":320800,
+                   "employee_nickname":"T"},
+                  null,
+                  {"id":"5255f1a5-f9f7-4be5-829a-134bde088d17","employee_name":"Bill Bob","employee_age":24}
+                ]}"""), employees::add);
+
+        assertEquals(2, count);
+        assertEquals("Tiger Nixon", employees.get(0).getEmployeeName());
+        assertEquals(320800, employees.get(0).getEmployeeSalary());
+        assertEquals("Bill Bob", employees.get(1).getEmployeeName());
+        assertEquals(24, employees.get(1).getEmployeeAge());
+    }
+
+    @Test
+    void read_ShouldDeliverNothing_WhenDataIsNullOrMissing() throws IOException {
+        List<EmployeeServerDto> employees = new ArrayList<>();
+
+        assertEquals(0, reader.read(body("{\"data\":null,\"status\":\"ok\"}"), employees::add));
+        assertEquals(0, reader.read(body("{\"status\":\"ok\"}"), employees::add));
+        assertTrue(employees.isEmpty());
+    }
+
+    @Test
+    void read_ShouldStopAtTheFailingElement_WhenBodyIsTruncated() {
+        List<EmployeeServerDto> employees = new ArrayList<>();
+
+        assertThrows(IOException.class, () -> reader.read(body("""
+                {"data":[{"employee_name":"Tiger Nixon"},{"employee_name":"Bill"""), employees::add));
+        assertEquals(1, employees.size());
+    }
+
+    @Test
+    void read_ShouldReject_NonObjectBody() {
+        assertThrows(IOException.class, () -> reader.read(body("[]"), employee -> { }));
+    }
+
+    @Test
+    void decode_ShouldMatchRead_WhateverTheBufferBoundaries() throws IOException {
+        String json = """
+                {"status":"ok","meta":{"data":[{"employee_name":"Not Me"}]},"data":[
+                  {"id":"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507","employee_name":"\u00C5sa Nixon","employee_salary":320800,
+                   "employee_nickname":{"short":["T"]}},
+                  null,
+                  {"id":"5255f1a5-f9f7-4be5-829a-134bde088d17","employee_name":"Bill Bob","employee_age":24}
+                ],"trailer":[1,{"a":2}]}""";
+        List<EmployeeServerDto> expected = new ArrayList<>();
+        reader.read(body(json), expected::add);
+
+        for (int size = 1; size <= 16; size++) {
+            assertEquals(expected, reader.decode(buffers(json, size)).collectList().block(), "buffer size " + size);
+        }
+    }
+
+    @Test
+    void decode_ShouldEmitCompletedEmployees_ThenFail_WhenBodyIsTruncated() {
+        List<EmployeeServerDto> employees = new ArrayList<>();
+
+        RuntimeException failure = assertThrows(RuntimeException.class, () -> reader
+                .decode(buffers("{\"data\":[{\"employee_name\":\"Tiger Nixon\"},{\"employee_name\":\"Bill", 5))
+                .doOnNext(employees::add)
+                .blockLast());
+        assertInstanceOf(IOException.class, Exceptions.unwrap(failure));
+        assertEquals(1, employees.size());
+    }
+
+    @Test
+    void decode_ShouldReject_NonObjectBody() {
+        RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> reader.decode(buffers("[]", 1)).blockLast());
+        assertInstanceOf(IOException.class, Exceptions.unwrap(failure));
+    }
+
+    private static Flux<DataBuffer> buffers(String json, int size) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += size) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, start, Math.min(start + size, bytes.length))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
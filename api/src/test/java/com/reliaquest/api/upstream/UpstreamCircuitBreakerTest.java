@@ -0,0 +1,217 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamCircuitBreakerTest {
+
+    private MockEmployeeProperties properties;
+
+    private MutableClock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private List<CircuitBreakerStateChangedEvent> events;
+
+    private UpstreamCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MockEmployeeProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumCalls(4);
+        properties.getCircuitBreaker().setFailureRateThreshold(50);
+        properties.getCircuitBreaker().setSlowCallDuration(Duration.ofSeconds(2));
+        properties.getCircuitBreaker().setSlowCallRateThreshold(75);
+        properties.getCircuitBreaker().setWaitInOpen(Duration.ofSeconds(30));
+        properties.getCircuitBreaker().setPermittedCallsInHalfOpen(2);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        events = new ArrayList<>();
+        circuitBreaker = new UpstreamCircuitBreaker(
+                properties, meterRegistry, event -> events.add((CircuitBreakerStateChangedEvent) event), clock);
+    }
+
+    @Test
+    void execute_ShouldOpenAndFailFast_WhenFailureRateReachesThreshold() {
+        succeed();
+        succeed();
+        throttle();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        throttle();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        UpstreamUnavailableException exception = assertThrows(UpstreamUnavailableException.class, this::succeed);
+        assertEquals(Duration.ofSeconds(30), exception.getRetryAfter());
+        assertEquals(1, circuitBreaker.getRejectedCount());
+        assertEquals(1.0, meterRegistry.get("employee.upstream.circuit.state").tag("state", "open").gauge().value());
+        assertEquals(1, events.size());
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, events.get(0).to());
+        assertEquals(50.0, events.get(0).failureRate());
+    }
+
+    @Test
+    void execute_ShouldOpen_WhenSlowCallRateReachesThreshold() {
+        succeed();
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.execute(() -> {
+                clock.advance(Duration.ofSeconds(3));
+                return "slow";
+            });
+        }
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(75.0, events.get(0).slowCallRate());
+    }
+
+    @Test
+    void execute_ShouldNotCountClientErrorsAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ResourceNotFoundException.class, () -> circuitBreaker.execute(() -> {
+                throw new ResourceNotFoundException("not found");
+            }));
+        }
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_ShouldNotCountLocalSheds_OrTimeTheWaitForAPermit() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(TooManyRequestsException.class, () -> circuitBreaker.execute(() -> {
+                throw new TooManyRequestsException("shed", Duration.ofSeconds(1), true);
+            }));
+        }
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.execute(() -> clock.advance(Duration.ofSeconds(3)), () -> "ok");
+        }
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void execute_ShouldHandBackTheTrialPermit_WhenAdmissionFails() {
+        tripOpen();
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThrows(TooManyRequestsException.class, () -> circuitBreaker.execute(
+                () -> {
+                    throw new TooManyRequestsException("shed", Duration.ofSeconds(1), true);
+                },
+                () -> "ok"
+        ));
+        succeed();
+        succeed();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void acquirePermit_ShouldRecordEachPermitOnce_AndHandBackReleasedTrialPermits() {
+        UpstreamCircuitBreaker.Permit permit = circuitBreaker.acquirePermit();
+        permit.markSent();
+        permit.onFailure(new TooManyRequestsException("throttled"));
+        permit.onFailure(new TooManyRequestsException("throttled"));
+        permit.release();
+        throttle();
+        throttle();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        throttle();
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        clock.advance(Duration.ofSeconds(30));
+        circuitBreaker.acquirePermit().release();
+        circuitBreaker.acquirePermit().release();
+        succeed();
+        succeed();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_ShouldCloseAfterWaitInOpen_WhenTrialCallsSucceed() {
+        tripOpen();
+        clock.advance(Duration.ofSeconds(30));
+
+        succeed();
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        succeed();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(List.of(
+                UpstreamCircuitBreaker.State.OPEN,
+                UpstreamCircuitBreaker.State.HALF_OPEN,
+                UpstreamCircuitBreaker.State.CLOSED
+        ), events.stream().map(CircuitBreakerStateChangedEvent::to).toList());
+        assertEquals(1.0, meterRegistry.get("employee.upstream.circuit.transitions")
+                .tag("from", "half_open")
+                .tag("to", "closed")
+                .counter().count());
+    }
+
+    @Test
+    void execute_ShouldReopen_WhenTrialCallsStillFail() {
+        tripOpen();
+        clock.advance(Duration.ofSeconds(30));
+
+        throttle();
+        succeed();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(UpstreamUnavailableException.class, this::succeed);
+    }
+
+    @Test
+    void execute_ShouldRejectCallsBeyondTrialPermits_WhileHalfOpen() {
+        tripOpen();
+        clock.advance(Duration.ofSeconds(30));
+
+        List<String> results = new ArrayList<>();
+        circuitBreaker.execute(() -> circuitBreaker.execute(() -> {
+            results.add("trial");
+            return assertThrows(UpstreamUnavailableException.class, this::succeed);
+        }));
+
+        assertEquals(List.of("trial"), results);
+    }
+
+    @Test
+    void execute_ShouldNeverOpen_WhenDisabled() {
+        properties.getCircuitBreaker().setEnabled(false);
+
+        tripOpen();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertDoesNotThrow(this::succeed);
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            throttle();
+        }
+    }
+
+    private String succeed() {
+        return circuitBreaker.execute(() -> "ok");
+    }
+
+    private void throttle() {
+        assertThrows(TooManyRequestsException.class, () -> circuitBreaker.execute(() -> {
+            throw new TooManyRequestsException("throttled");
+        }));
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.api.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_ShouldMatchMapperOutputForEntityDto_FromServerDtos() throws IOException {
+        List<EmployeeServerDto> employees = employees(new Random(23), 200);
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            EmployeeJsonWriter writer = new EmployeeJsonWriter(generator);
+            generator.writeStartArray();
+            for (EmployeeServerDto employee : employees) {
+                writer.write(employee);
+            }
+            generator.writeEndArray();
+        }
+
+        assertEquals(objectMapper.writeValueAsString(entities(employees)), out.toString());
+    }
+
+    @Test
+    void write_ShouldMatchMapperOutputForEntityDto_FromSnapshotRows() throws IOException {
+        List<EmployeeServerDto> employees = employees(new Random(29), 200);
+        RosterSnapshot snapshot = new RosterSnapshot(employees, Instant.EPOCH).withRemoved(employees.get(7).getId());
+        List<EmployeeServerDto> expected = new ArrayList<>(employees);
+        expected.remove(7);
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            EmployeeJsonWriter writer = new EmployeeJsonWriter(generator);
+            generator.writeStartArray();
+            snapshot.forEachRecord(record -> {
+                try {
+                    writer.write(record);
+                } catch (IOException ex) {
+                    throw new AssertionError(ex);
+                }
+            });
+            generator.writeEndArray();
+        }
+
+        assertEquals(objectMapper.writeValueAsString(entities(expected)), out.toString());
+    }
+
+    private static List<EmployeeEntityDto> entities(List<EmployeeServerDto> employees) {
+        return employees.stream()
+                .map(employee -> new EmployeeEntityDto(
+                        employee.getId(),
+                        employee.getEmployeeEmail(),
+                        employee.getEmployeeName(),
+                        employee.getEmployeeSalary(),
+                        employee.getEmployeeTitle(),
+                        employee.getEmployeeAge()))
+                .toList();
+    }
+
+    private static List<EmployeeServerDto> employees(Random random, int size) {
+        List<EmployeeServerDto> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EmployeeServerDto employee = new EmployeeServerDto();
+            employee.setId(i % 50 == 3 ? null : new UUID(random.nextLong(), random.nextLong()));
+            employee.setEmployeeName(i % 40 == 5 ? null : "Employee \"" + i + "\" \u00e5sa");
+            employee.setEmployeeEmail(random.nextBoolean() ? "employee" + i + "@company.com" : null);
+            employee.setEmployeeSalary(random.nextInt(10) == 0 ? null : random.nextInt(-1, 500_000));
+            employee.setEmployeeTitle(random.nextBoolean() ? "Title " + random.nextInt(5) : null);
+            employee.setEmployeeAge(random.nextInt(10) == 0 ? null : random.nextInt(16, 75));
+            employees.add(employee);
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,221 @@
+package com.reliaquest.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.NotFoundIdCache;
+import com.reliaquest.api.config.MockEmployeeProperties;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.dto.response.EmployeeListApiResponseDto;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import com.reliaquest.api.service.impl.EmployeeServiceImpl;
+import com.reliaquest.api.upstream.AdaptiveRateLimiter;
+import com.reliaquest.api.upstream.QueryPushdown;
+import com.reliaquest.api.upstream.RequestCoalescer;
+import com.reliaquest.api.upstream.RetryPolicy;
+import com.reliaquest.api.upstream.RosterPager;
+import com.reliaquest.api.upstream.RosterStreamReader;
+import com.reliaquest.api.upstream.UpstreamCircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Benchmarks the read paths of {@link EmployeeServiceImpl} over rosters of increasing size.
+ * <p>
+ * The upstream is a stubbed {@link RestTemplate} that hands back a pre-built roster, so only the service's own work
+ * is measured. With {@code cached} the roster is served from the roster cache, as in production; without it every
+ * call goes through the whole upstream pipeline (circuit breaker, retry policy and limiter) to the stub, and the
+ * pre-serialized roster body is streamed through the {@link RosterStreamReader}. Query push-down is off, so the
+ * queries are always computed by the service itself.
+ * Run with {@code ./gradlew jmh:jmh}, optionally narrowed with {@code -PjmhIncludes=<regex>}; the {@code gc}
+ * profiler reports allocation per operation next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    private static final String URI = "http://localhost:8112/api/v1/employee";
+
+    @Param({"1000", "100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private EmployeeServiceImpl employeeService;
+
+    @Setup
+    public void setUp() {
+        final var roster = roster(rosterSize);
+
+        final var properties = new MockEmployeeProperties();
+        properties.setUri(URI);
+        properties.getCache().setEnabled(cached);
+        properties.getRateLimit().setEnabled(false);
+        properties.getRetry().setEnabled(false);
+        properties.getCircuitBreaker().setEnabled(false);
+        properties.getPushdown().setEnabled(false);
+
+        final var objectMapper = new ObjectMapper();
+        final var meterRegistry = new SimpleMeterRegistry();
+        employeeService = new EmployeeServiceImpl(
+                new StubRestTemplate(roster, objectMapper),
+                properties,
+                new EmployeeRosterCache(properties, meterRegistry, Runnable::run, Clock.systemUTC()),
+                new RequestCoalescer(meterRegistry),
+                new AdaptiveRateLimiter(properties, meterRegistry),
+                new RetryPolicy(properties, meterRegistry),
+                new UpstreamCircuitBreaker(properties, meterRegistry, event -> {}),
+                new RosterStreamReader(objectMapper),
+                new RosterPager(properties, meterRegistry),
+                new QueryPushdown(properties, meterRegistry),
+                new NotFoundIdCache(properties, meterRegistry));
+    }
+
+    @Benchmark
+    public List<EmployeeEntityDto> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch("ann");
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    /**
+     * {@code convertToEmployee} is private, so it is measured through {@code getAllEmployees}, which converts every
+     * employee of the roster and does little else.
+     */
+    @Benchmark
+    public List<EmployeeEntityDto> convertToEmployee() {
+        return employeeService.getAllEmployees();
+    }
+
+    private static List<EmployeeServerDto> roster(int size) {
+        final var random = new SplittableRandom(42);
+        final String[] firstNames = {"Anna", "Bill", "Joanne", "Tiger", "Hannah", "Omar", "Priya", "Sven"};
+        final String[] lastNames = {"Nixon", "Bob", "Annapurna", "Smith", "Garcia", "Kowalski", "Tanaka", "Okafor"};
+        final var employees = new ArrayList<EmployeeServerDto>(size);
+        for (int i = 0; i < size; i++) {
+            final var employee = new EmployeeServerDto();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()));
+            employee.setEmployeeName(firstNames[random.nextInt(firstNames.length)] + " "
+                    + lastNames[random.nextInt(lastNames.length)] + " " + i);
+            employee.setEmployeeSalary(random.nextInt(30_000, 500_000));
+            employee.setEmployeeAge(random.nextInt(16, 70));
+            employee.setEmployeeTitle("Engineer " + (i % 50));
+            employee.setEmployeeEmail("employee" + i + "@company.com");
+            employees.add(employee);
+        }
+        return List.copyOf(employees);
+    }
+
+    /**
+     * Answers every exchange with the same roster without any I/O or (de)serialization, and every streamed read with
+     * the same roster serialized once up front, so streamed reads pay for parsing but not for the network.
+     */
+    private static final class StubRestTemplate extends RestTemplate {
+
+        private final EmployeeListApiResponseDto response = new EmployeeListApiResponseDto();
+
+        private final byte[] body;
+
+        private StubRestTemplate(List<EmployeeServerDto> roster, ObjectMapper objectMapper) {
+            response.setData(roster);
+            response.setStatus("Successfully processed request.");
+            try {
+                body = objectMapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public <T> T execute(
+                String url,
+                HttpMethod method,
+                RequestCallback requestCallback,
+                ResponseExtractor<T> responseExtractor,
+                Object... uriVariables) {
+            try (ClientHttpResponse clientResponse = new StubResponse(body)) {
+                return responseExtractor.extractData(clientResponse);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(
+                String url,
+                HttpMethod method,
+                HttpEntity<?> requestEntity,
+                Class<T> responseType,
+                Map<String, ?> uriVariables) {
+            return ResponseEntity.ok((T) response);
+        }
+    }
+
+    private record StubResponse(byte[] body) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            final var headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return headers;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
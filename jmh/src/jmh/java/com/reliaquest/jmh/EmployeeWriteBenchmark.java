@@ -0,0 +1,109 @@
+package com.reliaquest.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.dto.response.EmployeeEntityDto;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import com.reliaquest.api.web.EmployeeJsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the two ways a streamed roster response can be written: converting every employee to an
+ * {@link EmployeeEntityDto} and handing it to the mapper, as the service and controller used to, against writing the
+ * cached snapshot rows straight to the generator with {@link EmployeeJsonWriter}.
+ * <p>
+ * Both write the same bytes to a discarding stream. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} divided by {@code rosterSize} for the allocation per employee.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeWriteBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rosterSize;
+
+    private List<EmployeeServerDto> roster;
+
+    private RosterSnapshot snapshot;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectWriter entityWriter;
+
+    @Setup
+    public void setUp() {
+        final var random = new SplittableRandom(42);
+        final String[] titles = {"Developer", "Manager", "Designer", "Analyst", "Director"};
+        final var employees = new ArrayList<EmployeeServerDto>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            final var employee = new EmployeeServerDto();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()));
+            employee.setEmployeeName("Employee " + i);
+            employee.setEmployeeEmail("employee" + i + "@company.com");
+            employee.setEmployeeSalary(random.nextInt(30_000, 500_000));
+            employee.setEmployeeTitle(titles[random.nextInt(titles.length)]);
+            employee.setEmployeeAge(random.nextInt(18, 70));
+            employees.add(employee);
+        }
+        roster = List.copyOf(employees);
+        snapshot = new RosterSnapshot(roster, Instant.now());
+        objectMapper = new ObjectMapper();
+        entityWriter =
+                objectMapper.writerFor(EmployeeEntityDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Benchmark
+    public void convertAndMap() throws IOException {
+        try (final var generator = entityWriter.createGenerator(OutputStream.nullOutputStream())) {
+            generator.writeStartArray();
+            for (EmployeeServerDto employee : roster) {
+                entityWriter.writeValue(
+                        generator,
+                        EmployeeEntityDto.builder()
+                                .id(employee.getId())
+                                .employeeEmail(employee.getEmployeeEmail())
+                                .employeeName(employee.getEmployeeName())
+                                .employeeSalary(employee.getEmployeeSalary())
+                                .employeeTitle(employee.getEmployeeTitle())
+                                .employeeAge(employee.getEmployeeAge())
+                                .build());
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @Benchmark
+    public void writeSnapshotRows() throws IOException {
+        try (final var generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            final var writer = new EmployeeJsonWriter(generator);
+            generator.writeStartArray();
+            snapshot.forEachRecord(record -> {
+                try {
+                    writer.write(record);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.jmh;
+
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.dto.response.EmployeeServerDto;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the trigram-indexed name search of {@link RosterSnapshot} with the linear scan it replaces, which
+ * lower-cases every name on every query.
+ * <p>
+ * Names are drawn from a realistic first/last-name mix plus a per-row suffix, so common needles ({@code "ann"}) match
+ * a large share of the roster while rare ones ({@code "kowalski 4242"}) match a handful of rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"ann", "kowalski 4242", "zzz"})
+    public String needle;
+
+    private List<EmployeeServerDto> roster;
+
+    private RosterSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        final var random = new SplittableRandom(42);
+        final String[] firstNames = {"Anna", "Bill", "Joanne", "Tiger", "Hannah", "Omar", "Priya", "Sven"};
+        final String[] lastNames = {"Nixon", "Bob", "Annapurna", "Smith", "Garcia", "Kowalski", "Tanaka", "Okafor"};
+        final var employees = new ArrayList<EmployeeServerDto>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            final var employee = new EmployeeServerDto();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()));
+            employee.setEmployeeName(firstNames[random.nextInt(firstNames.length)] + " "
+                    + lastNames[random.nextInt(lastNames.length)] + " " + i);
+            employees.add(employee);
+        }
+        roster = List.copyOf(employees);
+        snapshot = new RosterSnapshot(roster, Instant.now());
+    }
+
+    @Benchmark
+    public List<EmployeeServerDto> indexed() {
+        return snapshot.searchByName(needle, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<EmployeeServerDto> linearScan() {
+        final var lowerNeedle = needle.toLowerCase();
+        final var matches = new ArrayList<EmployeeServerDto>();
+        for (EmployeeServerDto employee : roster) {
+            if (employee.getEmployeeName().toLowerCase().contains(lowerNeedle)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Employee ids the virtual users draw from. Lookups pick from the seeded roster; deletes prefer employees the load
+ * test created itself, so the seeded roster stays mostly intact over a run.
+ */
+public class EmployeeIdPool {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-fA-F-]{36})\"");
+
+    private final List<UUID> seeded;
+
+    private final ConcurrentLinkedDeque<UUID> created = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Constructor for EmployeeIdPool.
+     *
+     * @param seeded the ids of the employees the mock server started with.
+     */
+    public EmployeeIdPool(List<UUID> seeded) {
+        if (seeded.isEmpty()) {
+            throw new IllegalArgumentException("The mock server must start with at least one employee");
+        }
+        this.seeded = List.copyOf(seeded);
+    }
+
+    public UUID pickExisting() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+    }
+
+    public UUID pickForDeletion() {
+        UUID id = created.pollFirst();
+        return id != null ? id : pickExisting();
+    }
+
+    /**
+     * Remembers the employee created by a successful create call, so a later delete can remove it.
+     *
+     * @param responseBody the JSON body returned by the create endpoint.
+     */
+    public void recordCreated(String responseBody) {
+        Matcher matcher = ID.matcher(responseBody);
+        if (matcher.find()) {
+            created.addLast(UUID.fromString(matcher.group(1)));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The endpoints of {@code IEmployeeController} the load test can drive, keyed by the name used in the request mix.
+ */
+public enum Endpoint {
+    GET_ALL("getAll"),
+    SEARCH("search"),
+    BY_ID("byId"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private static final String[] SEARCH_FRAGMENTS = {"an", "jo", "son", "li", "mar", "e"};
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Looks an endpoint up by its mix key.
+     *
+     * @param key the key used in the request mix, e.g. {@code byId}.
+     * @return the matching endpoint.
+     * @throws IllegalArgumentException if no endpoint has that key.
+     */
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint '" + key + "' in request mix");
+    }
+
+    /**
+     * Builds one request against this endpoint.
+     *
+     * @param baseUri the base URI of the employee controller.
+     * @param ids     ids to pick from for by-id lookups and deletes.
+     * @return the request to send.
+     */
+    public HttpRequest request(URI baseUri, EmployeeIdPool ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String base = baseUri.toString();
+        return switch (this) {
+            case GET_ALL -> get(base);
+            case SEARCH -> get(base + "/search/" + SEARCH_FRAGMENTS[random.nextInt(SEARCH_FRAGMENTS.length)]);
+            case BY_ID -> get(base + "/" + ids.pickExisting());
+            case HIGHEST_SALARY -> get(base + "/highestSalary");
+            case TOP_TEN -> get(base + "/topTenHighestEarningEmployeeNames");
+            case CREATE -> HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            """
+                            {"name":"Load Test %d","salary":%d,"age":%d,"title":"Load Tester"}"""
+                                    .formatted(
+                                            random.nextInt(1_000_000),
+                                            random.nextInt(30_000, 500_000),
+                                            random.nextInt(16, 76))))
+                    .build();
+            case DELETE -> HttpRequest.newBuilder(URI.create(base + "/" + ids.pickForDeletion()))
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Drives the employee api with a closed-loop workload: every virtual user sends one request, waits for the response
+ * and immediately sends the next, picking each endpoint at random according to the request mix.
+ * <p>
+ * Latencies are recorded in microseconds into one HdrHistogram {@link Recorder} per endpoint. Whatever is recorded
+ * during warm-up is discarded, so the results only cover the measurement window.
+ */
+@Slf4j
+public class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+
+    private final URI baseUri;
+
+    private final EmployeeIdPool ids;
+
+    private final Endpoint[] endpoints;
+
+    private final int[] cumulativeWeights;
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructor for LoadDriver.
+     *
+     * @param baseUri the base URI of the employee controller.
+     * @param ids     the employee ids to draw from.
+     * @param mix     the relative weight of each endpoint.
+     */
+    public LoadDriver(URI baseUri, EmployeeIdPool ids, Map<Endpoint, Integer> mix) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUri = baseUri;
+        this.ids = ids;
+        this.endpoints = mix.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+            stats.put(endpoints[i], new EndpointStats());
+        }
+    }
+
+    /**
+     * Runs the workload and collects the results of the measurement window.
+     *
+     * @param users    the number of virtual users.
+     * @param warmup   how long to send load before measuring.
+     * @param duration how long to measure.
+     * @return the results per endpoint.
+     */
+    public LoadResult run(int users, Duration warmup, Duration duration) throws InterruptedException {
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(users, runnable -> {
+            Thread thread = new Thread(runnable, "virtual-user");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < users; i++) {
+            virtualUsers.execute(this::sendUntilStopped);
+        }
+
+        log.info("Warming up {} virtual users for {}", users, warmup);
+        Thread.sleep(warmup.toMillis());
+        stats.values().forEach(EndpointStats::reset);
+        long start = System.nanoTime();
+
+        log.info("Measuring for {}", duration);
+        Thread.sleep(duration.toMillis());
+        Map<Endpoint, LoadResult.EndpointResult> results = new EnumMap<>(Endpoint.class);
+        stats.forEach((endpoint, endpointStats) -> results.put(endpoint, endpointStats.drain()));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        running = false;
+        virtualUsers.shutdown();
+        if (!virtualUsers.awaitTermination(REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+            virtualUsers.shutdownNow();
+        }
+        return new LoadResult(users, elapsed, results);
+    }
+
+    private void sendUntilStopped() {
+        while (running) {
+            Endpoint endpoint = pick();
+            EndpointStats endpointStats = stats.get(endpoint);
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response =
+                        httpClient.send(endpoint.request(baseUri, ids), HttpResponse.BodyHandlers.ofString());
+                endpointStats.record(response.statusCode(), System.nanoTime() - start);
+                if (endpoint == Endpoint.CREATE && response.statusCode() / 100 == 2) {
+                    ids.recordCreated(response.body());
+                }
+            } catch (IOException ex) {
+                endpointStats.record(-1, System.nanoTime() - start);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Endpoint pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Ticket " + ticket + " outside of the request mix");
+    }
+
+    private static final class EndpointStats {
+        private final Recorder latencies = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private void record(int status, long latencyNanos) {
+            latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+            if (status / 100 == 2) {
+                succeeded.increment();
+            } else if (status == 429) {
+                throttled.increment();
+            } else {
+                failed.increment();
+            }
+        }
+
+        private void reset() {
+            latencies.reset();
+            succeeded.reset();
+            throttled.reset();
+            failed.reset();
+        }
+
+        private LoadResult.EndpointResult drain() {
+            Histogram histogram = latencies.getIntervalHistogram();
+            return new LoadResult.EndpointResult(
+                    histogram, succeeded.sumThenReset(), throttled.sumThenReset(), failed.sumThenReset());
+        }
+    }
+}
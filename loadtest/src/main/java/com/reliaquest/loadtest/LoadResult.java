@@ -0,0 +1,130 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Results of the measurement window of a load-test run.
+ *
+ * @param users     the number of virtual users.
+ * @param elapsed   the length of the measurement window.
+ * @param endpoints the results per endpoint.
+ */
+public record LoadResult(int users, Duration elapsed, Map<Endpoint, EndpointResult> endpoints) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private static final String ROW = "%-14s %9s %10s %9s %9s %9s %9s %7s %7s%n";
+
+    /**
+     * Results of one endpoint.
+     *
+     * @param latencies latencies in microseconds.
+     * @param succeeded responses with a 2xx status.
+     * @param throttled responses with a 429 status.
+     * @param failed    responses with any other status, and I/O failures.
+     */
+    public record EndpointResult(Histogram latencies, long succeeded, long throttled, long failed) {
+
+        public long total() {
+            return succeeded + throttled + failed;
+        }
+    }
+
+    /**
+     * Prints a summary table: throughput, p50/p99/p999/max latency in milliseconds, and the 429 and error rates.
+     *
+     * @param out where to print the table.
+     */
+    public void printSummary(PrintStream out) {
+        out.printf("%d virtual users, measured for %s%n", users, elapsed);
+        printHeader(out, "endpoint");
+        for (Map.Entry<Endpoint, EndpointResult> entry : endpoints.entrySet()) {
+            printRow(out, entry.getKey().getKey(), entry.getValue());
+        }
+        total().ifPresent(total -> printRow(out, "total", total));
+    }
+
+    /**
+     * Prints the totals of several runs side by side, one row per run.
+     *
+     * @param out     where to print the table.
+     * @param results the results to compare, keyed by the name of their run.
+     */
+    public static void printComparison(PrintStream out, Map<String, LoadResult> results) {
+        printHeader(out, "run");
+        results.forEach((name, result) -> result.total().ifPresent(total -> result.printRow(out, name, total)));
+    }
+
+    /**
+     * @return the results of all endpoints combined, or empty if no endpoint was driven.
+     */
+    public Optional<EndpointResult> total() {
+        Histogram all = null;
+        long succeeded = 0;
+        long throttled = 0;
+        long failed = 0;
+        for (EndpointResult result : endpoints.values()) {
+            if (all == null) {
+                all = result.latencies().copy();
+            } else {
+                all.add(result.latencies());
+            }
+            succeeded += result.succeeded();
+            throttled += result.throttled();
+            failed += result.failed();
+        }
+        return all == null ? Optional.empty() : Optional.of(new EndpointResult(all, succeeded, throttled, failed));
+    }
+
+    /**
+     * Writes the HdrHistogram percentile distribution of every endpoint, in milliseconds, to
+     * {@code <endpoint>.hgrm} files that can be plotted with the HdrHistogram plotter.
+     *
+     * @param directory the directory to write to; created if missing.
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Endpoint, EndpointResult> entry : endpoints.entrySet()) {
+            Path file = directory.resolve(entry.getKey().getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latencies().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static void printHeader(PrintStream out, String name) {
+        out.printf(ROW, name, "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "429 %", "err %");
+    }
+
+    private void printRow(PrintStream out, String name, EndpointResult result) {
+        Histogram latencies = result.latencies();
+        long total = result.total();
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf(
+                ROW,
+                name,
+                total,
+                "%.1f".formatted(total / seconds),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()),
+                percent(result.throttled(), total),
+                percent(result.failed(), total));
+    }
+
+    private static String millis(long micros) {
+        return "%.2f".formatted(micros / MICROS_PER_MILLI);
+    }
+
+    private static String percent(long part, long total) {
+        return total == 0 ? "-" : "%.1f".formatted(100.0 * part / total);
+    }
+}
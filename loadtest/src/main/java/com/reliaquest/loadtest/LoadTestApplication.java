@@ -0,0 +1,114 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the mock server and the employee api in-process on random ports, drives the api with the configured
+ * request mix and reports latency, throughput and 429 rate.
+ * <p>
+ * Each application reads its own {@code loadtest-*.yml} instead of {@code application.yml}, since both modules'
+ * configuration files share a name on this classpath. Everything runs on localhost, so the suite works offline:
+ * <pre>
+ * ./gradlew loadtest:bootRun --args='--users=64 --duration=2m --request-limit=false --mix=byId=70,getAll=30'
+ * </pre>
+ * With {@code --threads=platform,virtual} the whole run is repeated once per thread mode, each against freshly started
+ * applications, and the totals are compared at the end. Virtual threads need a Java 21 runtime.
+ */
+@Slf4j
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        Map<String, LoadResult> results = new LinkedHashMap<>();
+        for (ThreadMode mode : options.threads()) {
+            if (mode.isVirtual() && Runtime.version().feature() < 21) {
+                log.warn(
+                        "Virtual threads need a Java 21 runtime, this is Java {}; the '{}' run uses platform threads",
+                        Runtime.version().feature(),
+                        mode.getKey());
+            }
+            System.out.printf("%n== %s threads ==%n", mode.getKey());
+            Path outputDirectory = options.threads().size() > 1
+                    ? options.outputDirectory().resolve(mode.getKey())
+                    : options.outputDirectory();
+            results.put(mode.getKey(), run(options, mode, outputDirectory));
+        }
+
+        if (results.size() > 1) {
+            System.out.printf("%n== comparison ==%n");
+            LoadResult.printComparison(System.out, results);
+        }
+    }
+
+    /**
+     * Starts a fresh mock server and api in the given thread mode, drives the api and reports the result.
+     */
+    private static LoadResult run(LoadTestOptions options, ThreadMode mode, Path outputDirectory) throws Exception {
+        try (ConfigurableApplicationContext server = startServer(options);
+                ConfigurableApplicationContext api = startApi(options, mode, portOf(server))) {
+            List<UUID> seeded = server.getBean(MockEmployeeStore.class).snapshot().stream()
+                    .map(MockEmployee::getId)
+                    .toList();
+            URI baseUri = URI.create("http://localhost:" + portOf(api) + "/api/v1/employeeDetails");
+            log.info(
+                    "Driving {} with {} seeded employees, request limit {}, {} threads",
+                    baseUri,
+                    seeded.size(),
+                    options.requestLimit() ? "enabled" : "disabled",
+                    mode.getKey());
+
+            LoadResult result = new LoadDriver(baseUri, new EmployeeIdPool(seeded), options.mix())
+                    .run(options.users(), options.warmup(), options.duration());
+
+            result.printSummary(System.out);
+            result.writeHistograms(outputDirectory);
+            log.info("Percentile distributions written to {}", outputDirectory.toAbsolutePath());
+            return result;
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer(LoadTestOptions options) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.name=loadtest-server",
+                "--mock.employees.max=" + options.employees(),
+                "--mock.request-limit.enabled=" + options.requestLimit()));
+        args.addAll(asArgs(options.serverProperties()));
+        return new SpringApplicationBuilder(ServerApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext startApi(LoadTestOptions options, ThreadMode mode, int serverPort) {
+        List<String> args =
+                new ArrayList<>(List.of("--spring.config.name=loadtest-api", "--loadtest.server-port=" + serverPort));
+        if (!options.apiProperties().containsKey(ThreadMode.PROPERTY)) {
+            args.add("--" + ThreadMode.PROPERTY + "=" + mode.isVirtual());
+        }
+        args.addAll(asArgs(options.apiProperties()));
+        return new SpringApplicationBuilder(ApiApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static List<String> asArgs(Map<String, String> properties) {
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toList();
+    }
+
+    private static int portOf(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+}
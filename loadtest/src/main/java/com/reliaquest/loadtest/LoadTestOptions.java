@@ -0,0 +1,130 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of one load-test run, parsed from {@code --key=value} arguments.
+ * <p>
+ * Arguments prefixed with {@code api.} or {@code server.} are passed on, without the prefix, as properties of the
+ * employee api or the mock server; e.g. {@code --api.mock.employee.cache.enabled=false}.
+ *
+ * @param users            number of virtual users, each sending requests back to back.
+ * @param warmup           how long to send load before measuring.
+ * @param duration         how long to measure.
+ * @param mix              relative weight of each endpoint in the request mix.
+ * @param employees        number of employees the mock server starts with.
+ * @param requestLimit     whether the mock server's random request limit is active.
+ * @param threads          the api thread modes to run, one full run each, in order.
+ * @param outputDirectory  where the HdrHistogram percentile distributions are written.
+ * @param apiProperties    extra properties for the employee api.
+ * @param serverProperties extra properties for the mock server.
+ */
+public record LoadTestOptions(
+        int users,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        int employees,
+        boolean requestLimit,
+        List<ThreadMode> threads,
+        Path outputDirectory,
+        Map<String, String> apiProperties,
+        Map<String, String> serverProperties) {
+
+    static final String DEFAULT_MIX = "getAll=10,search=20,byId=40,highestSalary=10,topTen=10,create=5,delete=5";
+
+    /**
+     * Parses the command line of a load-test run.
+     *
+     * @param args arguments of the form {@code --key=value}.
+     * @return the options, with defaults for everything not given.
+     * @throws IllegalArgumentException on an unknown or malformed argument.
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> apiProperties = new LinkedHashMap<>();
+        Map<String, String> serverProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got '" + arg + "'");
+            }
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            if (key.startsWith("api.")) {
+                apiProperties.put(key.substring("api.".length()), value);
+            } else if (key.startsWith("server.")) {
+                serverProperties.put(key.substring("server.".length()), value);
+            } else {
+                values.put(key, value);
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(take(values, "users", "32")),
+                DurationStyle.detectAndParse(take(values, "warmup", "10s")),
+                DurationStyle.detectAndParse(take(values, "duration", "60s")),
+                parseMix(take(values, "mix", DEFAULT_MIX)),
+                Integer.parseInt(take(values, "employees", "1000")),
+                Boolean.parseBoolean(take(values, "request-limit", "true")),
+                parseThreads(take(values, "threads", ThreadMode.PLATFORM.getKey())),
+                Path.of(take(values, "output", "loadtest/build/results")),
+                Map.copyOf(apiProperties),
+                Map.copyOf(serverProperties));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    /**
+     * Parses a request mix such as {@code byId=70,getAll=30}.
+     *
+     * @param mix comma-separated {@code endpoint=weight} pairs.
+     * @return the weight of every endpoint in the mix.
+     */
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint=weight in request mix but got '" + entry + "'");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0] + " in request mix");
+            }
+            weights.put(Endpoint.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Request mix must have at least one positive weight");
+        }
+        return weights;
+    }
+
+    /**
+     * Parses the thread modes to compare, such as {@code platform,virtual}.
+     *
+     * @param threads comma-separated thread mode keys.
+     * @return the thread modes, in the given order.
+     */
+    static List<ThreadMode> parseThreads(String threads) {
+        return Arrays.stream(threads.split(","))
+                .map(String::trim)
+                .map(ThreadMode::fromKey)
+                .distinct()
+                .toList();
+    }
+
+    private static String take(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.loadtest;
+
+/**
+ * How the employee api handles requests during a run, keyed by the name used in the {@code --threads} option.
+ */
+public enum ThreadMode {
+
+    /** Tomcat's pool of platform threads, the api's default. */
+    PLATFORM("platform", false),
+    /** A virtual thread per request, via {@code spring.threads.virtual.enabled}; needs a Java 21 runtime. */
+    VIRTUAL("virtual", true);
+
+    static final String PROPERTY = "spring.threads.virtual.enabled";
+
+    private final String key;
+
+    private final boolean virtual;
+
+    ThreadMode(String key, boolean virtual) {
+        this.key = key;
+        this.virtual = virtual;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Looks a thread mode up by its option key.
+     *
+     * @param key the key used in the {@code --threads} option, e.g. {@code virtual}.
+     * @return the matching thread mode.
+     * @throws IllegalArgumentException if no thread mode has that key.
+     */
+    public static ThreadMode fromKey(String key) {
+        for (ThreadMode mode : values()) {
+            if (mode.key.equalsIgnoreCase(key)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown thread mode '" + key + "', expected platform or virtual");
+    }
+}
@@ -1,9 +1,8 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -31,10 +30,10 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This store is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeStore mockEmployeeStore(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -49,11 +48,21 @@ public class ServerConfiguration implements WebMvcConfigurer {
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .collect(Collectors.collectingAndThen(Collectors.toList(), MockEmployeeStore::new));
     }
 
+    /*
+     * Disabling the request limit lets load tests measure raw capacity.
+     */
+    @Value("${mock.request-limit.enabled:true}")
+    private boolean requestLimitEnabled;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (requestLimitEnabled) {
+            registry.addInterceptor(new RandomRequestLimitInterceptor());
+        } else {
+            log.warn("Random request limit is disabled.");
+        }
     }
 }
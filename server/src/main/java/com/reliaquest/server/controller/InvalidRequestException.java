@@ -0,0 +1,12 @@
+package com.reliaquest.server.controller;
+
+/*
+ * Thrown by request handlers for parameters they reject, so that only those are answered with 400 and a failure
+ * deeper in the server still surfaces as 500.
+ */
+class InvalidRequestException extends RuntimeException {
+
+    InvalidRequestException(String message) {
+        super(message);
+    }
+}
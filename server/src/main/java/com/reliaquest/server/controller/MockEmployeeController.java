@@ -1,15 +1,23 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeesInput;
+import com.reliaquest.server.model.LookupMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,11 +33,74 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final ObjectMapper objectMapper;
+
+    /*
+     * Writes the {data, status} envelope field by field from one snapshot of the store, so the body goes out in
+     * chunks as the container's buffer fills instead of being serialized into one buffer first.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public void getEmployees(HttpServletResponse response) throws IOException {
+        final var employees = mockEmployeeService.getMockEmployees();
+        final var employeeWriter =
+                objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (final var generator = employeeWriter.createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            for (MockEmployee employee : employees) {
+                employeeWriter.writeValue(generator, employee);
+            }
+            generator.writeEndArray();
+            generator.writeStringField("status", Response.Status.HANDLED.getValue());
+            generator.writeEndObject();
+        }
+    }
+
+    /*
+     * Pages through the store in insertion order. The cursor of the next page is sent in the X-Next-Cursor header,
+     * which is absent on the last page, so the body keeps the same envelope as the unpaged roster.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployeePage(
+            @RequestParam("limit") int limit, @RequestParam(name = "cursor", defaultValue = "0") long cursor) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        if (cursor < 0) {
+            throw new InvalidRequestException("cursor must not be negative: " + cursor);
+        }
+        final var page = mockEmployeeService.getMockEmployeePage(cursor, limit);
+        final var response = ResponseEntity.ok();
+        page.nextCursor().ifPresent(next -> response.header(NEXT_CURSOR_HEADER, Long.toString(next)));
+        return response.body(Response.handledWith(page.employees()));
+    }
+
+    @GetMapping("/search")
+    public Response<List<MockEmployee>> searchEmployees(@RequestParam("name") String name) {
+        if (name.isBlank()) {
+            throw new InvalidRequestException("name must not be blank");
+        }
+        return Response.handledWith(mockEmployeeService.searchByName(name));
+    }
+
+    @GetMapping("/highestSalary")
+    public Response<Integer> getHighestSalary() {
+        return mockEmployeeService.getHighestSalary().map(Response::handledWith).orElseGet(Response::handled);
+    }
+
+    @GetMapping("/topEarners")
+    public Response<List<MockEmployee>> getTopEarners(@RequestParam(name = "limit", defaultValue = "10") int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        return Response.handledWith(mockEmployeeService.getTopEarners(limit));
     }
 
     @GetMapping("/{id}")
@@ -48,4 +120,32 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * Creates a batch of employees in one request, which counts once against the request limit. The batch is
+     * validated as a whole: one invalid employee rejects the request and nothing is created.
+     */
+    @PostMapping("/bulk")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody CreateMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input.getEmployees()));
+    }
+
+    /*
+     * Looks up a batch of employees by id in one request. The ids travel in the body, so a batch is not bounded by
+     * the length of the request line. The data lists, for each id in order, the employee or null if there is no
+     * employee with that id.
+     */
+    @PostMapping("/bulk/lookup")
+    public Response<List<MockEmployee>> lookupEmployees(@Valid @RequestBody LookupMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.findAllById(input.getIds()));
+    }
+
+    /*
+     * Deletes a batch of employees by id in one request. The data lists, for each id in order, the deleted employee
+     * or null if there was no employee with that id.
+     */
+    @DeleteMapping("/bulk")
+    public Response<List<MockEmployee>> deleteEmployees(@Valid @RequestBody DeleteMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.deleteAllById(input.getIds()));
+    }
 }
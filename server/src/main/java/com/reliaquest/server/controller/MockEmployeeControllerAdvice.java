@@ -2,14 +2,40 @@ package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    /*
+     * Only parameters a handler rejected are a client error; an IllegalArgumentException from deeper in the server
+     * is a bug and falls through to the 500 below.
+     */
+    @ExceptionHandler({
+        InvalidRequestException.class,
+        TypeMismatchException.class,
+        MissingServletRequestParameterException.class
+    })
+    protected ResponseEntity<?> handleBadRequest(Exception ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    /*
+     * Unknown paths are reported as 404 so clients can detect endpoints this server does not offer.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleNotFound(NoResourceFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
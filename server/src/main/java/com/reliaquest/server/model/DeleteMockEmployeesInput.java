@@ -0,0 +1,18 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+@Data
+public class DeleteMockEmployeesInput {
+
+    public static final int MAX_SIZE = 1000;
+
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<@NotNull UUID> ids;
+}
@@ -4,11 +4,15 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +26,71 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.snapshot();
+    }
+
+    public MockEmployeeStore.Page getMockEmployeePage(long cursor, int limit) {
+        return mockEmployeeStore.page(cursor, limit);
+    }
+
+    /**
+     * @return the employees whose name contains {@code fragment}, ignoring case, in insertion order.
+     */
+    public List<MockEmployee> searchByName(@NonNull String fragment) {
+        final var needle = fragment.toLowerCase(Locale.ROOT);
+        return mockEmployeeStore.snapshot().stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase(Locale.ROOT).contains(needle))
+                .toList();
+    }
+
+    /**
+     * @return the highest salary, or empty if no employee has a salary.
+     */
+    public Optional<Integer> getHighestSalary() {
+        return mockEmployeeStore.snapshot().stream()
+                .map(MockEmployee::getSalary)
+                .filter(Objects::nonNull)
+                .max(Integer::compare);
+    }
+
+    /**
+     * @return the {@code limit} employees with the highest salaries, highest first. Employees without a salary are
+     *     skipped.
+     */
+    public List<MockEmployee> getTopEarners(int limit) {
+        final var bySalary = Comparator.comparing(MockEmployee::getSalary);
+        final var lowestFirst = new PriorityQueue<MockEmployee>(limit + 1, bySalary);
+        for (MockEmployee employee : mockEmployeeStore.snapshot()) {
+            if (employee.getSalary() == null) {
+                continue;
+            }
+            lowestFirst.offer(employee);
+            if (lowestFirst.size() > limit) {
+                lowestFirst.poll();
+            }
+        }
+        final var topEarners = new ArrayList<>(lowestFirst);
+        topEarners.sort(bySalary.reversed());
+        return topEarners;
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    /**
+     * @return for each id in order, the employee, or null if no employee has that id.
+     */
+    public List<MockEmployee> findAllById(@NonNull List<UUID> ids) {
+        final var found = new ArrayList<MockEmployee>(ids.size());
+        for (UUID id : ids) {
+            found.add(mockEmployeeStore.findById(id).orElse(null));
+        }
+        return found;
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +98,38 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * @return the created employees, in the order of the inputs.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var created = new ArrayList<MockEmployee>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            created.add(create(input));
         }
+        return created;
+    }
 
-        return false;
+    /**
+     * @return for each id in order, the removed employee, or null if no employee had that id.
+     */
+    public List<MockEmployee> deleteAllById(@NonNull List<UUID> ids) {
+        final var removed = new ArrayList<MockEmployee>(ids.size());
+        for (UUID id : ids) {
+            final var mockEmployee = mockEmployeeStore.removeById(id);
+            mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+            removed.add(mockEmployee.orElse(null));
+        }
+        return removed;
     }
 }
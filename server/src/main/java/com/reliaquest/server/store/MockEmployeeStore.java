@@ -0,0 +1,279 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/**
+ * Thread-safe in-memory store of mock employees, indexed by id and by case-insensitive name.
+ * <p>
+ * Writers are serialized by a lock and stamp every change with the next version; a change becomes visible when
+ * {@code committed} is advanced to its version. Readers never take the lock: they read {@code committed} and only
+ * see records inserted at or before that version and not deleted by it, so every read reflects exactly one committed
+ * state and reads never wait for writes. Deleted records stay in the insertion-ordered map as tombstones until no
+ * snapshot build is in progress, so a snapshot started at an older version still finds them. {@link #snapshot()} is
+ * cached per version, and employees are kept in insertion order.
+ */
+public class MockEmployeeStore {
+
+    private final ConcurrentHashMap<UUID, Record> byId = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListMap<Long, Record> bySequence = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Deque<Record>> recordsByName = new HashMap<>();
+
+    private final Deque<Record> tombstones = new ArrayDeque<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final AtomicInteger snapshotsInProgress = new AtomicInteger();
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0, List.of()));
+
+    private volatile long committed;
+
+    private long version;
+
+    private volatile int size;
+
+    public MockEmployeeStore(Collection<MockEmployee> mockEmployees) {
+        mockEmployees.forEach(this::add);
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var record = byId.get(id);
+        if (record == null) {
+            return Optional.empty();
+        }
+        return record.isVisibleAt(committed) ? Optional.of(record.employee) : Optional.empty();
+    }
+
+    /**
+     * Adds an employee.
+     *
+     * @throws IllegalArgumentException if an employee with the same id is already stored.
+     */
+    public void add(@NonNull MockEmployee mockEmployee) {
+        Objects.requireNonNull(mockEmployee.getId(), "id");
+        writeLock.lock();
+        try {
+            final var record = new Record(version + 1, mockEmployee);
+            if (byId.putIfAbsent(mockEmployee.getId(), record) != null) {
+                throw new IllegalArgumentException("Duplicate employee id: " + mockEmployee.getId());
+            }
+            version++;
+            bySequence.put(record.sequence, record);
+            if (mockEmployee.getName() != null) {
+                recordsByName
+                        .computeIfAbsent(nameKey(mockEmployee.getName()), ignored -> new ArrayDeque<>())
+                        .addLast(record);
+            }
+            size++;
+            committed = version;
+            purgeTombstones();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the earliest added employee with the given name, ignoring case. Concurrent deletes of the same name
+     * remove distinct employees.
+     *
+     * @return the removed employee, or empty if no employee has that name.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        writeLock.lock();
+        try {
+            final var records = recordsByName.get(nameKey(name));
+            if (records == null) {
+                return Optional.empty();
+            }
+
+            final var record = records.pollFirst();
+            if (records.isEmpty()) {
+                recordsByName.remove(nameKey(name));
+            }
+            delete(record);
+            return Optional.of(record.employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the employee with the given id.
+     *
+     * @return the removed employee, or empty if no employee has that id.
+     */
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        writeLock.lock();
+        try {
+            final var record = byId.get(id);
+            if (record == null) {
+                return Optional.empty();
+            }
+
+            final var name = record.employee.getName();
+            if (name != null) {
+                final var records = recordsByName.get(nameKey(name));
+                records.remove(record);
+                if (records.isEmpty()) {
+                    recordsByName.remove(nameKey(name));
+                }
+            }
+            delete(record);
+            return Optional.of(record.employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return an immutable list of all employees in insertion order, as of one committed version. The list is
+     *     shared by all readers until the next write.
+     */
+    public List<MockEmployee> snapshot() {
+        final var cached = snapshot.get();
+        if (cached.version == committed) {
+            return cached.employees;
+        }
+
+        snapshotsInProgress.incrementAndGet();
+        try {
+            final long at = committed;
+            final var employees = new ArrayList<MockEmployee>(size);
+            for (Record record : bySequence.headMap(at, true).values()) {
+                if (record.isVisibleAt(at)) {
+                    employees.add(record.employee);
+                }
+            }
+            final var built = new Snapshot(at, List.copyOf(employees));
+            snapshot.accumulateAndGet(
+                    built, (current, candidate) -> current.version >= candidate.version ? current : candidate);
+            return built.employees;
+        } finally {
+            snapshotsInProgress.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reads up to {@code limit} employees added after {@code cursor}, in insertion order, as of one committed version.
+     * The cursor is the insertion sequence of the last employee of the previous page, or 0 for the first page.
+     * <p>
+     * Sequences only grow, so walking all pages returns every employee that is stored for the whole walk exactly
+     * once; employees added during the walk are returned once they are reached, and deleted ones may be skipped.
+     *
+     * @return the page, with the cursor of the next page unless this is the last one.
+     * @throws IllegalArgumentException if {@code cursor} is negative or {@code limit} is not positive.
+     */
+    public Page page(long cursor, int limit) {
+        if (cursor < 0) {
+            throw new IllegalArgumentException("cursor must not be negative: " + cursor);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+
+        snapshotsInProgress.incrementAndGet();
+        try {
+            final long at = committed;
+            if (cursor >= at) {
+                return new Page(List.of(), OptionalLong.empty());
+            }
+            final var employees = new ArrayList<MockEmployee>(Math.min(limit, size));
+            long last = cursor;
+            for (Record record : bySequence.subMap(cursor, false, at, true).values()) {
+                if (!record.isVisibleAt(at)) {
+                    continue;
+                }
+                if (employees.size() == limit) {
+                    return new Page(List.copyOf(employees), OptionalLong.of(last));
+                }
+                employees.add(record.employee);
+                last = record.sequence;
+            }
+            return new Page(List.copyOf(employees), OptionalLong.empty());
+        } finally {
+            snapshotsInProgress.decrementAndGet();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Marks a record deleted at the next version and commits it. Must be called holding the write lock, after the
+     * record has been unlinked from the name index.
+     */
+    private void delete(Record record) {
+        record.deletedAt = ++version;
+        size--;
+        committed = version;
+        byId.remove(record.employee.getId(), record);
+        tombstones.addLast(record);
+        purgeTombstones();
+    }
+
+    /**
+     * Drops deleted records from the insertion-ordered map once no snapshot build can still need them. Called after
+     * {@code committed} is advanced: a snapshot that starts after the check reads a version at which the tombstones
+     * are already invisible, so it cannot miss them.
+     */
+    private void purgeTombstones() {
+        if (snapshotsInProgress.get() != 0) {
+            return;
+        }
+        while (!tombstones.isEmpty()) {
+            final var record = tombstones.pollFirst();
+            bySequence.remove(record.sequence, record);
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Record {
+        private final long sequence;
+        private final MockEmployee employee;
+        private volatile long deletedAt;
+
+        private Record(long sequence, MockEmployee employee) {
+            this.sequence = sequence;
+            this.employee = employee;
+        }
+
+        private boolean isVisibleAt(long at) {
+            final long deleted = deletedAt;
+            return sequence <= at && (deleted == 0 || deleted > at);
+        }
+    }
+
+    private record Snapshot(long version, List<MockEmployee> employees) {}
+
+    /**
+     * One page of employees in insertion order.
+     *
+     * @param employees  the employees of this page.
+     * @param nextCursor the cursor to pass for the next page, or empty if this is the last page.
+     */
+    public record Page(List<MockEmployee> employees, OptionalLong nextCursor) {}
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class ServerConfigurationTest {
+
+    @Test
+    void mockEmployeeStore_ShouldSeedIndexedEmployees() {
+        final var store = new ServerConfiguration().mockEmployeeStore(new Faker(Locale.ROOT), 50);
+
+        final var employees = store.snapshot();
+        assertEquals(50, store.size());
+        assertEquals(50, employees.size());
+        for (final var employee : employees) {
+            assertEquals(employee, store.findById(employee.getId()).orElseThrow());
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+        }
+
+        final var first = employees.get(0);
+        assertTrue(store.removeFirstByName(first.getName().toUpperCase(Locale.ROOT))
+                .isPresent());
+        assertEquals(49, store.size());
+    }
+}
@@ -0,0 +1,149 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private static final String EMPLOYEES = "/api/v1/employee";
+
+    private final List<MockEmployee> employees = new ArrayList<>();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            employees.add(employee("Employee " + i));
+        }
+        mockMvc = mockMvc(new MockEmployeeService(new Faker(), new MockEmployeeStore(employees)));
+    }
+
+    @Test
+    void getEmployees_ShouldWriteDataBeforeStatus() throws Exception {
+        mockMvc.perform(get(EMPLOYEES))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(startsWith("{\"data\":[{")))
+                .andExpect(content().string(endsWith("}],\"status\":\"Successfully processed request.\"}")))
+                .andExpect(jsonPath("$.data", hasSize(3)))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 0"));
+    }
+
+    @Test
+    void getEmployees_ShouldAnswerWithErrorEnvelope_WhenTheRosterCannotBeRead() throws Exception {
+        final var service = mock(MockEmployeeService.class);
+        when(service.getMockEmployees()).thenThrow(new IllegalStateException("store unavailable"));
+
+        mockMvc(service)
+                .perform(get(EMPLOYEES))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value("Failed to process request."))
+                .andExpect(jsonPath("$.error").value("store unavailable"))
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void getEmployeePage_ShouldSendNextCursor_UntilTheLastPage() throws Exception {
+        final var first = mockMvc.perform(get(EMPLOYEES).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(MockEmployeeController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.status").value("Successfully processed request."))
+                .andReturn();
+        final var cursor = first.getResponse().getHeader(MockEmployeeController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get(EMPLOYEES).param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(MockEmployeeController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 2"));
+    }
+
+    @Test
+    void getEmployeePage_ShouldAcceptPagesUpToTheMaximumSize() throws Exception {
+        mockMvc.perform(get(EMPLOYEES).param("limit", Integer.toString(MockEmployeeController.MAX_PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(3)));
+        mockMvc.perform(get(EMPLOYEES).param("limit", Integer.toString(MockEmployeeController.MAX_PAGE_SIZE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Failed to process request."));
+    }
+
+    @Test
+    void getEmployeePage_ShouldRejectInvalidLimitsAndCursors() throws Exception {
+        mockMvc.perform(get(EMPLOYEES).param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEES).param("limit", "ten")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEES).param("limit", "2").param("cursor", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(EMPLOYEES).param("limit", "2").param("cursor", "next"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void lookupEmployees_ShouldAnswerEachIdInOrder_WithNullForUnknownIds() throws Exception {
+        final var body = "{\"ids\":[\"%s\",\"%s\",\"%s\"]}"
+                .formatted(
+                        employees.get(2).getId(),
+                        UUID.randomUUID(),
+                        employees.get(0).getId());
+
+        mockMvc.perform(post(EMPLOYEES + "/bulk/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(3)))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 2"))
+                .andExpect(jsonPath("$.data[1]").value(nullValue()))
+                .andExpect(jsonPath("$.data[2].employee_name").value("Employee 0"));
+    }
+
+    @Test
+    void handlers_ShouldAnswerInternalErrors_ForIllegalArgumentsTheyDidNotReject() throws Exception {
+        final var service = mock(MockEmployeeService.class);
+        when(service.getHighestSalary()).thenThrow(new IllegalArgumentException("not a client error"));
+
+        mockMvc(service).perform(get(EMPLOYEES + "/highestSalary")).andExpect(status().isInternalServerError());
+    }
+
+    private static MockMvc mockMvc(MockEmployeeService service) {
+        return MockMvcBuilders.standaloneSetup(new MockEmployeeController(service, new ObjectMapper()))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore(List.of(
+            employee("Tiger Nixon", 320_800),
+            employee("Bill Bob", 89_750),
+            employee("Jill NIXON", null),
+            employee("Jane Doe", 120_000)));
+
+    private final MockEmployeeService service = new MockEmployeeService(new Faker(), store);
+
+    @Test
+    void searchByName_ShouldMatchFragmentIgnoringCase_InInsertionOrder() {
+        assertEquals(List.of("Tiger Nixon", "Jill NIXON"), names(service.searchByName("nIxOn")));
+        assertTrue(service.searchByName("nobody").isEmpty());
+    }
+
+    @Test
+    void getHighestSalary_ShouldSkipMissingSalaries() {
+        assertEquals(Optional.of(320_800), service.getHighestSalary());
+        assertEquals(
+                Optional.empty(),
+                new MockEmployeeService(new Faker(), new MockEmployeeStore(List.of(employee("Jill Nixon", null))))
+                        .getHighestSalary());
+    }
+
+    @Test
+    void getTopEarners_ShouldReturnHighestSalariesFirst() {
+        assertEquals(List.of("Tiger Nixon", "Jane Doe"), names(service.getTopEarners(2)));
+        assertEquals(List.of("Tiger Nixon", "Jane Doe", "Bill Bob"), names(service.getTopEarners(10)));
+    }
+
+    @Test
+    void deleteAllById_ShouldReportEachIdInOrder() {
+        final var tiger = store.snapshot().get(0);
+
+        final var removed = service.deleteAllById(List.of(tiger.getId(), UUID.randomUUID(), tiger.getId()));
+
+        assertEquals(tiger, removed.get(0));
+        assertNull(removed.get(1));
+        assertNull(removed.get(2));
+        assertEquals(3, store.size());
+        assertEquals(List.of("Jill NIXON"), names(service.searchByName("nixon")));
+        assertEquals(
+                List.of("Jill NIXON"),
+                names(store.removeFirstByName("jill nixon").stream().toList()));
+    }
+
+    @Test
+    void findAllById_ShouldReportEachIdInOrder() {
+        final var tiger = store.snapshot().get(0);
+
+        final var found = service.findAllById(List.of(UUID.randomUUID(), tiger.getId(), tiger.getId()));
+
+        assertNull(found.get(0));
+        assertEquals(tiger, found.get(1));
+        assertEquals(tiger, found.get(2));
+    }
+
+    @Test
+    void createAndDelete_ShouldKeepIdAndNameIndexesInStep() {
+        final var input = new CreateMockEmployeeInput();
+        input.setName("Priya Okafor");
+        input.setSalary(75_000);
+        input.setAge(28);
+        input.setTitle("Engineer");
+
+        final var created = service.create(input);
+        assertEquals(Optional.of(created), service.findById(created.getId()));
+
+        final var delete = new DeleteMockEmployeeInput();
+        delete.setName("PRIYA OKAFOR");
+        assertTrue(service.delete(delete));
+        assertTrue(service.findById(created.getId()).isEmpty());
+        assertFalse(service.delete(delete));
+        assertEquals(4, store.size());
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
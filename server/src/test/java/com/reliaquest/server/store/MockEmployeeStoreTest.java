@@ -0,0 +1,262 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private static final int WRITERS = 4;
+
+    private static final int READERS = 4;
+
+    private static final int OPERATIONS_PER_WRITER = 2_000;
+
+    private static final int WINDOW = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findByIdAndRemoveFirstByName_ShouldUseIndexes() {
+        final var first = employee("Tiger Nixon");
+        final var second = employee("tiger nixon");
+        final var store = new MockEmployeeStore(List.of(first, second, employee("Bill Bob")));
+
+        assertSame(first, store.findById(first.getId()).orElseThrow());
+        assertSame(first, store.removeFirstByName("TIGER NIXON").orElseThrow());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertSame(second, store.removeFirstByName("Tiger Nixon").orElseThrow());
+        assertTrue(store.removeFirstByName("Tiger Nixon").isEmpty());
+        assertEquals(List.of("Bill Bob"), names(store.snapshot()));
+    }
+
+    @Test
+    void snapshot_ShouldBeSharedUntilNextWrite() {
+        final var store = new MockEmployeeStore(List.of(employee("Tiger Nixon")));
+
+        final var snapshot = store.snapshot();
+        assertSame(snapshot, store.snapshot());
+
+        store.add(employee("Bill Bob"));
+        assertEquals(List.of("Tiger Nixon", "Bill Bob"), names(store.snapshot()));
+        assertEquals(List.of("Tiger Nixon"), names(snapshot));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(employee("Jane Doe")));
+    }
+
+    @Test
+    void add_ShouldRejectDuplicateIds() {
+        final var employee = employee("Tiger Nixon");
+        final var store = new MockEmployeeStore(List.of(employee));
+
+        assertThrows(IllegalArgumentException.class, () -> store.add(employee));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void page_ShouldWalkEmployeesInInsertionOrder_AcrossWrites() {
+        final var store = new MockEmployeeStore(
+                List.of(employee("Tiger Nixon"), employee("Bill Bob"), employee("Jane Doe"), employee("Omar Tanaka")));
+
+        final var first = store.page(0, 2);
+        assertEquals(List.of("Tiger Nixon", "Bill Bob"), names(first.employees()));
+        assertTrue(first.nextCursor().isPresent());
+
+        store.removeFirstByName("Jane Doe");
+        store.add(employee("Priya Okafor"));
+
+        final var second = store.page(first.nextCursor().getAsLong(), 2);
+        assertEquals(List.of("Omar Tanaka", "Priya Okafor"), names(second.employees()));
+        assertTrue(second.nextCursor().isEmpty());
+        assertTrue(
+                store.page(first.nextCursor().getAsLong() + 100, 2).employees().isEmpty());
+    }
+
+    @Test
+    void page_ShouldRejectNegativeCursorAndNonPositiveLimit() {
+        final var store = new MockEmployeeStore(List.of(employee("Tiger Nixon")));
+
+        assertThrows(IllegalArgumentException.class, () -> store.page(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> store.page(0, 0));
+    }
+
+    @Test
+    void removeFirstByName_ShouldRemoveDistinctEmployees_WhenSameNameIsDeletedConcurrently() throws Exception {
+        final int copies = 500;
+        final var seed = new ArrayList<MockEmployee>();
+        for (int i = 0; i < copies; i++) {
+            seed.add(employee("Tiger Nixon"));
+        }
+        final var store = new MockEmployeeStore(seed);
+        final var removed = new AtomicInteger();
+        final var removedIds = ConcurrentHashMap.<UUID>newKeySet();
+
+        runConcurrently(WRITERS + READERS, () -> {
+            Optional<MockEmployee> employee;
+            while ((employee = store.removeFirstByName("tiger nixon")).isPresent()) {
+                removed.incrementAndGet();
+                assertTrue(removedIds.add(employee.get().getId()), "employee removed twice");
+            }
+            return null;
+        });
+
+        assertEquals(copies, removed.get());
+        assertEquals(0, store.size());
+        assertTrue(store.snapshot().isEmpty());
+    }
+
+    /**
+     * Each writer adds its own employees in order and deletes the one added {@value #WINDOW} operations earlier, so
+     * every committed state holds a contiguous run of at most {@code WINDOW + 1} employees per writer. Readers check
+     * that every snapshot is such a state, that snapshots never go back in time, and that an employee reported gone
+     * by {@code findById} is not resurrected by a later snapshot.
+     */
+    @Test
+    void concurrentReadsAndWrites_ShouldOnlyObserveCommittedStatesInRealTimeOrder() throws Exception {
+        final var seed = List.of(employee("Seed One"), employee("Seed Two"));
+        final var store = new MockEmployeeStore(seed);
+        final var writersDone = new CountDownLatch(WRITERS);
+        final var failed = new AtomicBoolean();
+        final var tasks = new ArrayList<Callable<Void>>();
+
+        for (int writer = 0; writer < WRITERS; writer++) {
+            final int w = writer;
+            tasks.add(() -> {
+                try {
+                    for (int i = 0; i < OPERATIONS_PER_WRITER && !failed.get(); i++) {
+                        store.add(employee(name(w, i)));
+                        if (i >= WINDOW) {
+                            assertTrue(
+                                    store.removeFirstByName(name(w, i - WINDOW)).isPresent());
+                        }
+                    }
+                    return null;
+                } finally {
+                    writersDone.countDown();
+                }
+            });
+        }
+        for (int reader = 0; reader < READERS; reader++) {
+            tasks.add(() -> {
+                final var lastNewest = new int[WRITERS];
+                Arrays.fill(lastNewest, -1);
+                MockEmployee gone = null;
+                do {
+                    final var snapshot = store.snapshot();
+                    if (gone != null && snapshot.contains(gone)) {
+                        failed.set(true);
+                        fail("findById reported " + gone.getName() + " gone, but a later snapshot contains it");
+                    }
+                    assertEquals(seed, snapshot.subList(0, 2));
+                    final var indexes = indexesByWriter(snapshot.subList(2, snapshot.size()));
+                    for (int w = 0; w < WRITERS; w++) {
+                        final var seen = indexes.getOrDefault(w, List.of());
+                        assertConsistentRun(w, seen);
+                        final int newest = seen.isEmpty() ? lastNewest[w] : seen.get(seen.size() - 1);
+                        if (newest < lastNewest[w]) {
+                            failed.set(true);
+                            fail("Snapshot went back in time for writer " + w);
+                        }
+                        lastNewest[w] = newest;
+                    }
+                    if (snapshot.size() > 2) {
+                        final var candidate = snapshot.get(2);
+                        gone = store.findById(candidate.getId()).isEmpty() ? candidate : null;
+                    }
+                } while (writersDone.getCount() > 0 && !failed.get());
+                return null;
+            });
+        }
+
+        for (Future<Void> result : executor.invokeAll(tasks, 2, TimeUnit.MINUTES)) {
+            result.get();
+        }
+
+        final var expected = new ArrayList<>(names(seed));
+        for (int w = 0; w < WRITERS; w++) {
+            for (int i = OPERATIONS_PER_WRITER - WINDOW; i < OPERATIONS_PER_WRITER; i++) {
+                expected.add(name(w, i));
+            }
+        }
+        final var actual = names(store.snapshot());
+        assertEquals(seed.size() + WRITERS * WINDOW, store.size());
+        assertEquals(expected.size(), actual.size());
+        assertTrue(actual.containsAll(expected));
+    }
+
+    private static void assertConsistentRun(int writer, List<Integer> indexes) {
+        if (indexes.size() > WINDOW + 1) {
+            fail("Writer " + writer + " has " + indexes.size() + " employees in one snapshot");
+        }
+        for (int i = 1; i < indexes.size(); i++) {
+            if (indexes.get(i) != indexes.get(i - 1) + 1) {
+                fail("Writer " + writer + " has a torn run in one snapshot: " + indexes);
+            }
+        }
+    }
+
+    private static Map<Integer, List<Integer>> indexesByWriter(List<MockEmployee> employees) {
+        final var indexes = new HashMap<Integer, List<Integer>>();
+        for (MockEmployee employee : employees) {
+            final var parts = employee.getName().split("-");
+            indexes.computeIfAbsent(Integer.parseInt(parts[1]), ignored -> new ArrayList<>())
+                    .add(Integer.parseInt(parts[2]));
+        }
+        return indexes;
+    }
+
+    private void runConcurrently(int threads, Callable<Void> task) throws Exception {
+        final var tasks = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(task);
+        }
+        for (Future<Void> result : executor.invokeAll(tasks, 1, TimeUnit.MINUTES)) {
+            result.get();
+        }
+    }
+
+    private static String name(int writer, int index) {
+        return "writer-" + writer + "-" + index;
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}